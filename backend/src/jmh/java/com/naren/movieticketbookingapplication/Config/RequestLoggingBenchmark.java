@@ -0,0 +1,146 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.naren.movieticketbookingapplication.Dto.CustomerDTO;
+import com.naren.movieticketbookingapplication.Entity.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one {@code GET /api/v1/customers/{id}} on the request thread, replaying the log statements
+ * of the filter, controller and DAO:
+ * <ul>
+ *     <li>{@code legacy}: eager string concatenation in the JWT filter, DAO lines at INFO, synchronous
+ *     console appender</li>
+ *     <li>{@code default}: current statements and logback-spring.xml without a profile (async appender)</li>
+ *     <li>{@code prod}: the prod profile (application code at WARN, controller INFO sampled 1 in 100,
+ *     JSON through the async appender)</li>
+ * </ul>
+ * Output goes to a discarding stream so only the logging framework is measured. Run with {@code -prof gc}
+ * to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestLoggingBenchmark {
+
+    private static final String PACKAGE = "com.naren.movieticketbookingapplication";
+
+    @Param({"legacy", "default", "prod"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger filterLog;
+    private Logger controllerLog;
+    private Logger daoLog;
+    private boolean legacy;
+    private MockHttpServletRequest request;
+    private Long customerId;
+    private Customer customer;
+    private CustomerDTO customerDTO;
+
+    @Setup
+    public void setUp() {
+        legacy = mode.equals("legacy");
+        context = new LoggerContext();
+        context.start();
+
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setEncoder(mode.equals("prod") ? jsonEncoder() : patternEncoder());
+        console.setOutputStream(OutputStream.nullOutputStream());
+        console.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        if (legacy) {
+            root.addAppender(console);
+        } else {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(mode.equals("prod") ? 16384 : 8192);
+            async.setNeverBlock(mode.equals("prod"));
+            async.addAppender(console);
+            async.start();
+            root.addAppender(async);
+        }
+        if (mode.equals("prod")) {
+            context.getLogger(PACKAGE).setLevel(Level.WARN);
+            context.getLogger(PACKAGE + ".Controller").setLevel(Level.INFO);
+            LogSamplingTurboFilter sampling = new LogSamplingTurboFilter();
+            sampling.setLoggerPrefix(PACKAGE + ".Controller");
+            sampling.setOneIn(100);
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+
+        filterLog = context.getLogger(PACKAGE + ".jwt.JwtAuthFilter");
+        controllerLog = context.getLogger(PACKAGE + ".Controller.CustomerController");
+        daoLog = context.getLogger(PACKAGE + ".Dao.CustomerDaoImpl");
+
+        request = new MockHttpServletRequest("GET", "/api/v1/customers/4711");
+        customerId = 4711L;
+        customer = new Customer(customerId, "Bench Mark", "bench@codeNaren.com", "$2a$10$hash", 987654321L);
+        customerDTO = new CustomerDTO(customerId, "Bench Mark", "bench@codeNaren.com", List.of("ROLE_USER"),
+                987654321L, "bench@codeNaren.com", List.of());
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void request() {
+        if (legacy) {
+            legacyRequest();
+        } else {
+            currentRequest();
+        }
+    }
+
+    private void legacyRequest() {
+        filterLog.info("Starting JWT_FILTER on " + request);
+        controllerLog.info("Fetching customer by ID: {}", customerId);
+        daoLog.info("Fetching customer by ID: {}", customerId);
+        daoLog.info("Customer fetched: {}", customer);
+        controllerLog.info("Customer found: {}", customerDTO);
+    }
+
+    private void currentRequest() {
+        if (filterLog.isDebugEnabled()) {
+            filterLog.debug("JWT filter on {} {}", request.getMethod(), request.getRequestURI());
+        }
+        controllerLog.info("Fetching customer by ID: {}", customerId);
+        daoLog.debug("Fetching customer by ID: {}", customerId);
+        daoLog.debug("Customer fetched: {}", customer);
+        controllerLog.info("Customer found: {}", customerDTO);
+    }
+}
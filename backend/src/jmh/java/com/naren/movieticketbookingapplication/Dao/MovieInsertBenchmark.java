@@ -0,0 +1,117 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Entity.SingleIdMovie;
+import com.naren.movieticketbookingapplication.MovieTicketBookingApplication;
+import com.naren.movieticketbookingapplication.Repo.MovieRepository;
+import com.naren.movieticketbookingapplication.Repo.SingleIdMovieRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of {@link MovieRepository#saveAll} through the application's own Hibernate setup
+ * ({@code reWriteBatchedInserts} on the JDBC URL), with {@code hibernate.jdbc.batch_size} and
+ * {@code hibernate.order_inserts} varied. {@code batchSize = 0} is Hibernate without JDBC batching, one INSERT
+ * round trip per movie. {@code idAllocation = pooled} is {@link Movie}, one {@code nextval} per 50 ids;
+ * {@code single} is the same table through {@link SingleIdMovie}, one {@code nextval} round trip per movie on an
+ * INCREMENT 1 sequence, the mapping before pooled ids.
+ * <p>
+ * Needs the docker-compose database; point elsewhere with {@code -Dbench.jdbc.url/-user/-password}. Each
+ * transaction is flushed and then rolled back, so the catalog is left as it was apart from spent sequence values and
+ * the {@code movie_id_single} sequence:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="MovieInsertBenchmark -f 1 -wi 3 -i 5"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class MovieInsertBenchmark {
+
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    @Param({"0", "50"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean orderInserts;
+
+    @Param({"single", "pooled"})
+    public String idAllocation;
+
+    private ConfigurableApplicationContext context;
+    private MovieRepository movieRepository;
+    private SingleIdMovieRepository singleIdMovieRepository;
+    private TransactionTemplate transactionTemplate;
+    private long nameCounter;
+
+    @Setup
+    public void setUp() {
+        // command-line arguments, unlike builder default properties, override application.yaml
+        context = new SpringApplicationBuilder(MovieTicketBookingApplication.class).run(
+                // the security beans need a servlet context; -1 keeps it without opening a port
+                "--server.port=-1",
+                "--spring.datasource.url=" + System.getProperty("bench.jdbc.url",
+                        "jdbc:postgresql://localhost:5332/moviebooking?reWriteBatchedInserts=true"),
+                "--spring.datasource.username=" + System.getProperty("bench.jdbc.user", "codeNaren"),
+                "--spring.datasource.password=" + System.getProperty("bench.jdbc.password", "password"),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.properties.hibernate.order_inserts=" + orderInserts,
+                "--logging.level.root=warn",
+                "--logging.level.sql=warn",
+                "--logging.level.web=warn",
+                "--catalog.reactive.enabled=false",
+                "--movies.autocomplete.enabled=false",
+                "--movies.recommendations.enabled=false",
+                "--customers.identity-filter.enabled=false");
+        movieRepository = context.getBean(MovieRepository.class);
+        singleIdMovieRepository = context.getBean(SingleIdMovieRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        // rolled back inserts never keep their ids, so starting past the current ones is enough to avoid clashes
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS movie_id_single INCREMENT BY 1");
+        jdbcTemplate.execute("SELECT setval('movie_id_single', greatest("
+                + "(SELECT coalesce(max(movie_id), 0) FROM movie), (SELECT last_value FROM movie_id)) + 1, false)");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void saveAll() {
+        boolean single = "single".equals(idAllocation);
+        List<Movie> movies = new ArrayList<>(ROWS_PER_TRANSACTION);
+        List<SingleIdMovie> singleIdMovies = new ArrayList<>(ROWS_PER_TRANSACTION);
+        for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+            String name = "bench-movie-" + nameCounter++;
+            if (single) {
+                singleIdMovies.add(new SingleIdMovie(name, 250.0, 4.5));
+            } else {
+                movies.add(new Movie(name, 250.0, 4.5));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (single) {
+                singleIdMovieRepository.saveAll(singleIdMovies);
+                singleIdMovieRepository.flush();
+            } else {
+                movieRepository.saveAll(movies);
+                movieRepository.flush();
+            }
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Entity.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping on every customer read, for a customer with and without subscriptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomerDTOMapperBenchmark {
+
+    @Param({"0", "20"})
+    public int movies;
+
+    private CustomerDTOMapper mapper;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        mapper = new CustomerDTOMapper();
+        customer = new Customer(42L, "Bench Mark", "bench@codeNaren.com", "$2a$10$hash", 987654321L);
+        customer.addRole(new Role("ROLE_USER"));
+        customer.addRole(new Role("ROLE_ADMIN"));
+        for (int i = 0; i < movies; i++) {
+            customer.addMovie(new Movie((long) i, "Movie " + i, 250.0 + i, 4.0));
+        }
+    }
+
+    @Benchmark
+    public CustomerDTO apply() {
+        return mapper.apply(customer);
+    }
+}
@@ -0,0 +1,54 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization with the same {@link ObjectMapper} configuration Spring Boot builds for MVC.
+ * The movie list is serialized through a writer bound to {@code List<Movie>}, as the message converter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int movieCount;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter movieListWriter;
+    private CustomerDTO customer;
+    private List<Movie> movies;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        movieListWriter = objectMapper.writerFor(
+                TypeFactory.defaultInstance().constructCollectionType(List.class, Movie.class));
+        movies = new ArrayList<>(movieCount);
+        for (int i = 0; i < movieCount; i++) {
+            movies.add(new Movie((long) i, "Movie number " + i, 250.0 + i, 3.5 + (i % 15) / 10.0));
+        }
+        customer = new CustomerDTO(42L, "Bench Mark", "bench@codeNaren.com", List.of("ROLE_USER"),
+                987654321L, "bench@codeNaren.com", movies.subList(0, Math.min(5, movieCount)));
+    }
+
+    @Benchmark
+    public byte[] customerDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] movieList() throws JsonProcessingException {
+        return movieListWriter.writeValueAsBytes(movies);
+    }
+}
@@ -0,0 +1,63 @@
+package com.naren.movieticketbookingapplication.Entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity methods that run inside collections and the security filter: equals/hashCode (subscription lists,
+ * Hibernate's persistence context) and {@link Customer#getAuthorities()} (every authenticated request).
+ * The equals benchmarks compare equal but distinct instances, the worst case where every field is checked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityBenchmark {
+
+    private Customer customer;
+    private Customer customerCopy;
+    private Movie movie;
+    private Movie movieCopy;
+
+    @Setup
+    public void setUp() {
+        customer = customer();
+        customerCopy = customer();
+        movie = new Movie(7L, "The Benchmark Strikes Back", 320.5, 4.2);
+        movieCopy = new Movie(7L, "The Benchmark Strikes Back", 320.5, 4.2);
+    }
+
+    private static Customer customer() {
+        Customer customer = new Customer(42L, "Bench Mark", "bench@codeNaren.com", "$2a$10$hash", 987654321L);
+        customer.addRole(new Role("ROLE_USER"));
+        customer.addRole(new Role("ROLE_ADMIN"));
+        return customer;
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> customerGetAuthorities() {
+        return customer.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean customerEquals() {
+        return customer.equals(customerCopy);
+    }
+
+    @Benchmark
+    public int customerHashCode() {
+        return customer.hashCode();
+    }
+
+    @Benchmark
+    public boolean movieEquals() {
+        return movie.equals(movieCopy);
+    }
+
+    @Benchmark
+    public int movieHashCode() {
+        return movie.hashCode();
+    }
+}
@@ -0,0 +1,40 @@
+package com.naren.movieticketbookingapplication.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Benchmark-only mapping of the {@code movie} table with ids drawn one {@code nextval} at a time, as
+ * {@link Movie} was mapped before its pooled allocation. {@code MovieInsertBenchmark} creates the
+ * {@code movie_id_single} sequence (INCREMENT 1) it draws from.
+ */
+@Entity
+@Table(name = "Movie")
+@Getter
+@NoArgsConstructor
+public class SingleIdMovie {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "movie_id_single")
+    @SequenceGenerator(name = "movie_id_single",
+            sequenceName = "movie_id_single",
+            allocationSize = 1)
+    private Long movie_id;
+
+    @Column(name = "name", nullable = false, columnDefinition = "TEXT")
+    private String name;
+
+    @Column(name = "cost", nullable = false)
+    private Double cost;
+
+    @Column(name = "rating", nullable = false)
+    private Double rating;
+
+    public SingleIdMovie(String name, Double cost, Double rating) {
+        this.name = name;
+        this.cost = cost;
+        this.rating = rating;
+    }
+}
@@ -0,0 +1,103 @@
+package com.naren.movieticketbookingapplication;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a committed baseline and exits non-zero when a benchmark got slower,
+ * or allocates more per operation, by more than the threshold:
+ * <pre>
+ * mvn -Pjmh exec:exec@compare-baseline -Djmh.baseline=src/jmh/baselines/hot-paths.json
+ * </pre>
+ * Only benchmarks present in both files are compared. Scores are normalised by mode, so throughput and
+ * average-time benchmarks report a positive change when they regress.
+ */
+public class JmhBaselineComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhBaselineComparison <baseline.json> <result.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-80s %14s %14s %8s %12s %12s %8s%n",
+                "benchmark", "baseline", "current", "change", "B/op base", "B/op now", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double scoreChange = slowdown(before, after);
+            double bytesBefore = allocation(before);
+            double bytesAfter = allocation(after);
+            // tiny allocations jitter by a few bytes; only count growth beyond one object header
+            double allocationChange = bytesBefore < 0 || bytesAfter - bytesBefore < 16
+                    ? 0
+                    : percentChange(Math.max(bytesBefore, 1), bytesAfter);
+            boolean regressed = scoreChange > threshold || allocationChange > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-80s %14.3f %14.3f %+7.1f%% %12.0f %12.0f %+7.1f%%%s%n",
+                    entry.getKey(), score(before), score(after), scoreChange,
+                    bytesBefore, bytesAfter, allocationChange, regressed ? "  REGRESSION" : "");
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(Files.readAllBytes(file))) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode result) {
+        Map<String, String> params = new LinkedHashMap<>();
+        result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        String benchmark = result.path("benchmark").asText().replace("com.naren.movieticketbookingapplication.", "");
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    /**
+     * @return how much slower {@code after} is than {@code before}, in percent
+     */
+    private static double slowdown(JsonNode before, JsonNode after) {
+        double change = percentChange(score(before), score(after));
+        String mode = after.path("mode").asText();
+        return "thrpt".equals(mode) ? -change : change;
+    }
+
+    private static double allocation(JsonNode result) {
+        JsonNode metrics = result.path("secondaryMetrics");
+        // older JMH versions prefix profiler metrics with a middle dot
+        JsonNode metric = metrics.has(ALLOCATION) ? metrics.path(ALLOCATION) : metrics.path("·" + ALLOCATION);
+        return metric.isMissingNode() ? -1 : metric.path("score").asDouble();
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100 / before;
+    }
+}
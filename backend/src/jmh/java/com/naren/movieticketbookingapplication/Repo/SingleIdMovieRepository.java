@@ -0,0 +1,7 @@
+package com.naren.movieticketbookingapplication.Repo;
+
+import com.naren.movieticketbookingapplication.Entity.SingleIdMovie;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SingleIdMovieRepository extends JpaRepository<SingleIdMovie, Long> {
+}
@@ -0,0 +1,98 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full recommendation rebuilds from synthetic subscriptions: customers follow 1 to 16 of 50,000 movies, drawn
+ * with a long-tailed popularity so a few titles sit in most baskets. Each shot replays every subscription into a
+ * builder and computes the index, i.e. a rebuild minus the database read. Index size and the heap left behind
+ * are printed at setup:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CoSubscriptionIndexBenchmark -f 1 -wi 2 -i 5"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CoSubscriptionIndexBenchmark {
+
+    private static final int MOVIES = 50_000;
+
+    @Param({"100000", "1000000"})
+    public int customers;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private long[] customerIds;
+    private long[] movieIds;
+    private int subscriptions;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        customerIds = new long[customers * 8];
+        movieIds = new long[customers * 8];
+        long[] basket = new long[16];
+        for (long customer = 1; customer <= customers; customer++) {
+            int size = 0;
+            for (int i = 1 + random.nextInt(16); i > 0; i--) {
+                // squaring a uniform draw puts most picks on the low ids
+                double u = random.nextDouble();
+                basket[size++] = 1 + (long) (u * u * MOVIES);
+            }
+            Arrays.sort(basket, 0, size);
+            for (int i = 0; i < size; i++) {
+                if (i > 0 && basket[i] == basket[i - 1]) {
+                    continue;
+                }
+                if (subscriptions == customerIds.length) {
+                    customerIds = Arrays.copyOf(customerIds, subscriptions * 2);
+                    movieIds = Arrays.copyOf(movieIds, subscriptions * 2);
+                }
+                customerIds[subscriptions] = customer;
+                movieIds[subscriptions++] = basket[i];
+            }
+        }
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+
+        System.gc();
+        long heapBefore = usedHeap();
+        long started = System.nanoTime();
+        CoSubscriptionIndex index = rebuild();
+        long buildMillis = (System.nanoTime() - started) / 1_000_000;
+        System.gc();
+        long heapAfter = usedHeap();
+        System.out.printf("%n%d customers, %d subscriptions, %d workers: built in %d ms, %d movies, %d neighbours,"
+                        + " estimated %.1f MiB, measured heap %.1f MiB%n",
+                customers, subscriptions, pool.getParallelism(), buildMillis, index.movies(), index.pairs(),
+                index.sizeInBytes() / 1048576.0, (heapAfter - heapBefore) / 1048576.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public CoSubscriptionIndex rebuild() {
+        CoSubscriptionIndex.Builder builder = CoSubscriptionIndex.builder(500);
+        for (int i = 0; i < subscriptions; i++) {
+            builder.add(customerIds[i], movieIds[i]);
+        }
+        return builder.build(pool, 20);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
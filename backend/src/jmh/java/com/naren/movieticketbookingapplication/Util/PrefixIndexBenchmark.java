@@ -0,0 +1,79 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete lookups against an index of synthetic titles (two to five words drawn from a few thousand
+ * pseudo-words, so prefixes fan out like a real catalog). Sample mode reports the latency percentiles; the
+ * index footprint is printed at setup:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PrefixIndexBenchmark -f 1 -wi 3 -i 5"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PrefixIndexBenchmark {
+
+    private static final String SYLLABLES = "ka.ri.to.sa.me.lo.na.vi.de.ru.po.zen.shi.mar.qu.an.el.or.ix.um";
+
+    @Param({"100000", "1000000"})
+    public int titles;
+
+    private PrefixIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] syllables = SYLLABLES.split("\\.");
+        String[] words = new String[5_000];
+        for (int i = 0; i < words.length; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 1 + random.nextInt(3); s >= 0; s--) {
+                word.append(syllables[random.nextInt(syllables.length)]);
+            }
+            words[i] = word.toString();
+        }
+
+        System.gc();
+        long heapBefore = usedHeap();
+        index = new PrefixIndex(10);
+        long started = System.nanoTime();
+        for (int i = 0; i < titles; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 2 + random.nextInt(4); w > 0; w--) {
+                title.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            index.put(i, title.toString().strip(), random.nextInt(51) / 10.0);
+        }
+        long buildMillis = (System.nanoTime() - started) / 1_000_000;
+        System.gc();
+        long heapAfter = usedHeap();
+
+        prefixes = new String[4096];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = words[random.nextInt(words.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(word.length()));
+        }
+        System.out.printf("%n%d titles: built in %d ms, %d nodes, estimated %.1f MiB, measured heap %.1f MiB%n",
+                titles, buildMillis, index.nodeCount(), index.sizeInBytes() / 1048576.0,
+                (heapAfter - heapBefore) / 1048576.0);
+    }
+
+    @Benchmark
+    public Object complete() {
+        return index.complete(prefixes[next++ & (prefixes.length - 1)], 10);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
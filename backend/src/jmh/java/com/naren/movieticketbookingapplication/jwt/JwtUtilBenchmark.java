@@ -0,0 +1,44 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.naren.movieticketbookingapplication.Entity.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and the two calls the authentication filter made per request before tokens were verified once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SUBJECT = "benchmark@codeNaren.com";
+
+    private JwtUtil jwtUtil;
+    private Set<Role> roles;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        roles = Set.of(new Role("ROLE_USER"), new Role("ROLE_ADMIN"));
+        token = jwtUtil.issueToken(SUBJECT, roles);
+    }
+
+    @Benchmark
+    public String issueToken() {
+        return jwtUtil.issueToken(SUBJECT, roles);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return jwtUtil.getSubject(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(token, SUBJECT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.naren.movieticketbookingapplication.Entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of the previous filter path (getSubject + isTokenValid, each building a
+ * fresh parser and verifying the HMAC) with JwtTokenVerifier on a cold cache and for a hot client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private SecretKey legacyKey;
+    private String legacyToken;
+
+    private JwtTokenVerifier cachingVerifier;
+    private JwtTokenVerifier nonCachingVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        legacyKey = KeyGenerator.getInstance("HmacSHA256").generateKey();
+        legacyToken = Jwts.builder()
+                .claims(java.util.Map.of("roles", List.of("ROLE_USER")))
+                .subject("benchmark@codeNaren.com")
+                .issuedAt(Date.from(Instant.now()))
+                .expiration(Date.from(Instant.now().plus(15, ChronoUnit.DAYS)))
+                .signWith(legacyKey)
+                .compact();
+
+        JwtUtil jwtUtil = new JwtUtil();
+        cachingVerifier = new JwtTokenVerifier(jwtUtil, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5));
+        nonCachingVerifier = new JwtTokenVerifier(jwtUtil, new SimpleMeterRegistry(), 0, Duration.ZERO);
+        token = jwtUtil.issueToken("benchmark@codeNaren.com", Set.of(new Role("ROLE_USER")));
+    }
+
+    @Benchmark
+    public boolean legacyDoubleParse() {
+        String subject = legacyClaims().getSubject();
+        Claims claims = legacyClaims();
+        return claims.getSubject().equals(subject) && claims.getExpiration().after(new Date());
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(legacyToken).getPayload();
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return nonCachingVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Object cachedVerify() {
+        return cachingVerifier.verify(token);
+    }
+}
@@ -0,0 +1,170 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import com.naren.movieticketbookingapplication.Dao.BookingDao;
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import com.naren.movieticketbookingapplication.Exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit writer for bookings. Request threads enqueue a booking whose seats are already claimed in
+ * memory and wait on the returned future; a single writer thread drains the queue and inserts everything it
+ * collected in one transaction of JDBC batches, so a release rush costs one commit per batch instead of one
+ * transaction (and its row locks) per request.
+ * <p>
+ * A failed batch is retried row by row so that one conflicting booking, e.g. a seat sold by another node,
+ * fails alone instead of taking the whole batch with it.
+ */
+@Slf4j
+@Component
+public class BookingJournal {
+
+    private final BookingDao bookingDao;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingBooking> queue;
+    private final int maxBatchSize;
+    private final Duration maxBatchDelay;
+    private final Duration retryAfter;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public BookingJournal(BookingDao bookingDao,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${booking.journal.queue-capacity:10000}") int queueCapacity,
+                          @Value("${booking.journal.max-batch-size:500}") int maxBatchSize,
+                          @Value("${booking.journal.max-batch-delay:2ms}") Duration maxBatchDelay,
+                          @Value("${booking.journal.retry-after:1s}") Duration retryAfter) {
+        this.bookingDao = bookingDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        this.retryAfter = retryAfter;
+        this.batchSizes = DistributionSummary.builder("booking.journal.batch.size")
+                .description("Bookings written per journal commit")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("booking.journal.commit")
+                .description("Time to write and commit one journal batch")
+                .register(meterRegistry);
+        Gauge.builder("booking.journal.queue.depth", queue, BlockingQueue::size)
+                .description("Bookings waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        writer = new Thread(this::drain, "booking-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Queues a booking for the next batch. The future completes with the stored booking once it is committed.
+     */
+    public CompletableFuture<BookingDTO> append(Long showtimeId, Long customerId, List<Integer> seats) {
+        PendingBooking pending = new PendingBooking(showtimeId, customerId, seats, Instant.now(), new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceOverloadedException("Too many bookings in flight, please retry", retryAfter);
+        }
+        return pending.result();
+    }
+
+    private void drain() {
+        List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBooking first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxBatchDelay.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    PendingBooking next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingBooking> batch) {
+        batchSizes.record(batch.size());
+        List<BookingDTO> bookings;
+        try {
+            List<Long> ids = bookingDao.nextBookingIds(batch.size());
+            bookings = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                bookings.add(batch.get(i).toBooking(ids.get(i)));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        try {
+            commitTimer.record(() -> transactionTemplate.executeWithoutResult(status -> bookingDao.insertBookings(bookings)));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(bookings.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.warn("Booking batch of {} failed, retrying one by one: {}", batch.size(), batchFailure.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                BookingDTO booking = bookings.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> bookingDao.insertBookings(List.of(booking)));
+                    batch.get(i).result().complete(booking);
+                } catch (RuntimeException e) {
+                    batch.get(i).result().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private record PendingBooking(Long showtimeId, Long customerId, List<Integer> seats, Instant createdAt,
+                                  CompletableFuture<BookingDTO> result) {
+
+        BookingDTO toBooking(Long bookingId) {
+            return new BookingDTO(bookingId, showtimeId, customerId, seats, createdAt);
+        }
+    }
+}
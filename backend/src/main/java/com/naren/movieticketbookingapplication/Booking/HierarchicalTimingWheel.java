@@ -0,0 +1,167 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: scheduling and cancelling are O(1), and the cost of advancing time depends on
+ * how many timeouts actually fall due, not on how many are pending. Level 0 has {@code wheelSize} slots of one
+ * tick each; each higher level has slots {@code wheelSize} times wider. Timeouts are parked on the coarsest
+ * level that fits and cascade down as time reaches their slot, so expiry is accurate to one tick.
+ * <p>
+ * Time is driven externally through {@link #advanceTo(long)}. All methods are thread-safe; expiry callbacks
+ * run on the advancing thread outside the wheel's lock.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] slotTicks;
+    private final List<ArrayDeque<Timeout<T>>[]> levels = new ArrayList<>();
+    private final Consumer<Timeout<T>> onExpire;
+    private long currentTick;
+    private int pending;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis,
+                                   Consumer<Timeout<T>> onExpire) {
+        if (tickMillis < 1 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.onExpire = onExpire;
+        this.slotTicks = new long[levelCount];
+        long ticks = 1;
+        for (int level = 0; level < levelCount; level++) {
+            slotTicks[level] = ticks;
+            ticks = Math.multiplyExact(ticks, wheelSize);
+            @SuppressWarnings("unchecked")
+            ArrayDeque<Timeout<T>>[] slots = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new ArrayDeque<>();
+            }
+            levels.add(slots);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public synchronized Timeout<T> schedule(T item, long deadlineMillis) {
+        // rounded up so a timeout never fires before its deadline
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMillis, deadlineTick);
+        place(timeout);
+        pending++;
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis} and runs the callback for every timeout that fell due.
+     *
+     * @return the number of expired timeouts
+     */
+    public int advanceTo(long nowMillis) {
+        List<Timeout<T>> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int level = levels.size() - 1; level > 0; level--) {
+                    if (currentTick % slotTicks[level] == 0) {
+                        ArrayDeque<Timeout<T>> slot = levels.get(level)[slotIndex(currentTick, level)];
+                        List<Timeout<T>> cascading = new ArrayList<>(slot);
+                        slot.clear();
+                        for (Timeout<T> timeout : cascading) {
+                            if (timeout.done) {
+                                continue;
+                            }
+                            if (timeout.deadlineTick <= currentTick) {
+                                collect(timeout, due);
+                            } else {
+                                place(timeout);
+                            }
+                        }
+                    }
+                }
+                ArrayDeque<Timeout<T>> slot = levels.get(0)[slotIndex(currentTick, 0)];
+                Timeout<T> timeout;
+                while ((timeout = slot.poll()) != null) {
+                    collect(timeout, due);
+                }
+            }
+        }
+        due.forEach(onExpire);
+        return due.size();
+    }
+
+    public synchronized int pending() {
+        return pending;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long remaining = timeout.deadlineTick - currentTick;
+        for (int level = 0; level < levels.size(); level++) {
+            if (remaining < slotTicks[level] * wheelSize) {
+                levels.get(level)[slotIndex(timeout.deadlineTick, level)].add(timeout);
+                return;
+            }
+        }
+        // beyond the top level's horizon: park in its furthest slot and re-place on cascade
+        int top = levels.size() - 1;
+        long parkedTick = currentTick + slotTicks[top] * (wheelSize - 1);
+        levels.get(top)[slotIndex(parkedTick, top)].add(timeout);
+    }
+
+    private void collect(Timeout<T> timeout, List<Timeout<T>> due) {
+        if (!timeout.done) {
+            timeout.done = true;
+            pending--;
+            due.add(timeout);
+        }
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.done) {
+            return false;
+        }
+        // left in its slot and skipped when the slot is processed
+        timeout.done = true;
+        pending--;
+        return true;
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick / slotTicks[level]) % wheelSize);
+    }
+
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T item;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private boolean done;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T item, long deadlineMillis, long deadlineTick) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * @return {@code true} if this call stopped the timeout from firing
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+}
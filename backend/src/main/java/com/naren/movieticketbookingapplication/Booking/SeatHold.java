@@ -0,0 +1,10 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import java.time.Instant;
+
+/**
+ * Seats claimed in a {@link SeatMap} on behalf of a customer until {@code expiresAt}. Seat indexes are
+ * zero-based, as in the seat map.
+ */
+public record SeatHold(String holdId, Long customerId, SeatMap seatMap, int[] seats, Instant expiresAt) {
+}
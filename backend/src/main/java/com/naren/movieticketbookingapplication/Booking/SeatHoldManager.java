@@ -0,0 +1,159 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import com.naren.movieticketbookingapplication.Booking.HierarchicalTimingWheel.Timeout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks seat holds in memory and releases abandoned ones through a {@link HierarchicalTimingWheel}. Holds
+ * leave the registry exactly once, whether they are claimed for a booking, released by the customer or
+ * expired by the wheel, so a hold can never be both booked and released.
+ */
+@Slf4j
+@Component
+public class SeatHoldManager {
+
+    private final ConcurrentMap<String, HeldSeats> holds = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel<String> wheel;
+    private final Clock clock;
+    private final Duration ttl;
+    private final long tickMillis;
+    private final Timer expiryLag;
+    private final Counter expired;
+    private volatile boolean running = true;
+    private Thread ticker;
+
+    @Autowired
+    public SeatHoldManager(MeterRegistry meterRegistry,
+                           @Value("${booking.holds.ttl:5m}") Duration ttl,
+                           @Value("${booking.holds.tick:100ms}") Duration tick,
+                           @Value("${booking.holds.wheel-size:64}") int wheelSize,
+                           @Value("${booking.holds.wheel-levels:4}") int wheelLevels) {
+        this(meterRegistry, ttl, tick, wheelSize, wheelLevels, Clock.systemUTC());
+    }
+
+    SeatHoldManager(MeterRegistry meterRegistry, Duration ttl, Duration tick, int wheelSize, int wheelLevels,
+                    Clock clock) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.tickMillis = tick.toMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, wheelLevels, clock.millis(), this::expire);
+        this.expiryLag = Timer.builder("booking.holds.expiry.lag")
+                .description("Delay between a hold's deadline and the release of its seats")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.expired = Counter.builder("booking.holds.expired")
+                .description("Holds released because they were not confirmed in time")
+                .register(meterRegistry);
+        Gauge.builder("booking.holds.active", holds, ConcurrentMap::size)
+                .description("Seat holds waiting for confirmation")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        ticker = new Thread(() -> {
+            while (running) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(tickMillis);
+                    advance();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Seat hold expiry failed", e);
+                }
+            }
+        }, "seat-hold-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    /**
+     * Registers seats already claimed in {@code seatMap}; they are released again if the hold is not claimed
+     * within the TTL.
+     */
+    public SeatHold hold(Long customerId, SeatMap seatMap, int[] seats) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), customerId, seatMap, seats, expiresAt);
+        HeldSeats held = new HeldSeats(hold);
+        holds.put(hold.holdId(), held);
+        held.timeout = wheel.schedule(hold.holdId(), expiresAt.toEpochMilli());
+        return hold;
+    }
+
+    /**
+     * Removes the customer's hold without releasing its seats, handing them over to the caller.
+     */
+    public Optional<SeatHold> claim(String holdId, Long customerId) {
+        return take(holdId, customerId);
+    }
+
+    /**
+     * Removes the customer's hold and frees its seats.
+     */
+    public boolean release(String holdId, Long customerId) {
+        Optional<SeatHold> hold = take(holdId, customerId);
+        hold.ifPresent(h -> h.seatMap().release(h.seats()));
+        return hold.isPresent();
+    }
+
+    public int activeHolds() {
+        return holds.size();
+    }
+
+    void advance() {
+        wheel.advanceTo(clock.millis());
+    }
+
+    private Optional<SeatHold> take(String holdId, Long customerId) {
+        HeldSeats held = holds.get(holdId);
+        if (held == null || !held.hold.customerId().equals(customerId) || !holds.remove(holdId, held)) {
+            return Optional.empty();
+        }
+        held.timeout.cancel();
+        return Optional.of(held.hold);
+    }
+
+    private void expire(Timeout<String> timeout) {
+        HeldSeats held = holds.get(timeout.item());
+        if (held != null && holds.remove(timeout.item(), held)) {
+            held.hold.seatMap().release(held.hold.seats());
+            expired.increment();
+            expiryLag.record(Math.max(0, clock.millis() - timeout.deadlineMillis()), TimeUnit.MILLISECONDS);
+            log.debug("Released expired hold {} on showtime {}", timeout.item(), held.hold.seatMap().showtimeId());
+        }
+    }
+
+    private static final class HeldSeats {
+        private final SeatHold hold;
+        private volatile Timeout<String> timeout;
+
+        private HeldSeats(SeatHold hold) {
+            this.hold = hold;
+        }
+    }
+}
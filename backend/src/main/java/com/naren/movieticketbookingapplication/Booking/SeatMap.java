@@ -0,0 +1,129 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seat availability for one showtime: one bit per seat (set = held or sold) in an {@link AtomicLongArray}.
+ * Grabs are lock-free. Seats are claimed one 64-seat word at a time with compare-and-set, and a multi-seat
+ * grab that hits a taken seat rolls back the words it already claimed, so callers see all-or-nothing.
+ * Seat numbers are zero-based here.
+ */
+public final class SeatMap {
+
+    private final long showtimeId;
+    private final Instant startsAt;
+    private final int capacity;
+    private final AtomicLongArray words;
+
+    public SeatMap(long showtimeId, Instant startsAt, int capacity) {
+        this.showtimeId = showtimeId;
+        this.startsAt = startsAt;
+        this.capacity = capacity;
+        this.words = new AtomicLongArray((capacity + 63) >>> 6);
+    }
+
+    public long showtimeId() {
+        return showtimeId;
+    }
+
+    public Instant startsAt() {
+        return startsAt;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Claims every seat in {@code seats} or none of them.
+     *
+     * @param seats distinct seat indexes in {@code [0, capacity)}
+     */
+    public boolean tryReserve(int[] seats) {
+        int[] sorted = sortedCopy(seats);
+        int claimedUpTo = 0;
+        int i = 0;
+        while (i < sorted.length) {
+            int word = sorted[i] >>> 6;
+            long mask = 0;
+            while (i < sorted.length && sorted[i] >>> 6 == word) {
+                mask |= 1L << sorted[i++];
+            }
+            if (!claim(word, mask)) {
+                clear(sorted, claimedUpTo);
+                return false;
+            }
+            claimedUpTo = i;
+        }
+        return true;
+    }
+
+    public void release(int[] seats) {
+        clear(sortedCopy(seats), seats.length);
+    }
+
+    /**
+     * Marks a seat taken without contention checks; used while loading sold seats.
+     */
+    public void markTaken(int seat) {
+        words.getAndUpdate(seat >>> 6, w -> w | 1L << seat);
+    }
+
+    public boolean isTaken(int seat) {
+        return (words.get(seat >>> 6) & 1L << seat) != 0;
+    }
+
+    public int available() {
+        int taken = 0;
+        for (int i = 0; i < words.length(); i++) {
+            taken += Long.bitCount(words.get(i));
+        }
+        return capacity - taken;
+    }
+
+    public int[] takenSeats() {
+        int[] taken = new int[capacity - available()];
+        int n = 0;
+        for (int i = 0; i < words.length() && n < taken.length; i++) {
+            long word = words.get(i);
+            while (word != 0 && n < taken.length) {
+                taken[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return n == taken.length ? taken : Arrays.copyOf(taken, n);
+    }
+
+    private boolean claim(int word, long mask) {
+        while (true) {
+            long current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private void clear(int[] sortedSeats, int count) {
+        int i = 0;
+        while (i < count) {
+            int word = sortedSeats[i] >>> 6;
+            long mask = 0;
+            while (i < count && sortedSeats[i] >>> 6 == word) {
+                mask |= 1L << sortedSeats[i++];
+            }
+            long clearMask = mask;
+            words.getAndUpdate(word, w -> w & ~clearMask);
+        }
+    }
+
+    private static int[] sortedCopy(int[] seats) {
+        int[] sorted = seats.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
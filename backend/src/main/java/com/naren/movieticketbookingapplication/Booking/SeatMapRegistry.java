@@ -0,0 +1,71 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import com.naren.movieticketbookingapplication.Dao.BookingDao;
+import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps one {@link SeatMap} per showtime in memory, loaded from the sold seats on first use. Maps stay
+ * resident until their showtime has started plus {@code booking.seat-maps.retention}, so in-flight holds are
+ * never dropped by cache eviction.
+ */
+@Slf4j
+@Component
+public class SeatMapRegistry {
+
+    private final ConcurrentMap<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+    private final BookingDao bookingDao;
+    private final Duration retention;
+
+    public SeatMapRegistry(BookingDao bookingDao,
+                           MeterRegistry meterRegistry,
+                           @Value("${booking.seat-maps.retention:1h}") Duration retention) {
+        this.bookingDao = bookingDao;
+        this.retention = retention;
+        Gauge.builder("booking.seat.maps", seatMaps, ConcurrentMap::size)
+                .description("Showtime seat maps held in memory")
+                .register(meterRegistry);
+    }
+
+    public SeatMap get(Long showtimeId) {
+        return seatMaps.computeIfAbsent(showtimeId, id -> bookingDao.loadSeatMap(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Showtime with ID " + id + " not found")));
+    }
+
+    public Optional<SeatMap> getIfLoaded(Long showtimeId) {
+        return Optional.ofNullable(seatMaps.get(showtimeId));
+    }
+
+    /**
+     * Marks every seat sold in the database as taken, e.g. after another node sold a seat this node believed
+     * was free. Bits are only ever set here, so seats held in memory are left alone.
+     */
+    public void refresh(Long showtimeId) {
+        SeatMap seatMap = seatMaps.get(showtimeId);
+        if (seatMap != null) {
+            bookingDao.getSoldSeats(showtimeId).forEach(seat -> seatMap.markTaken(seat - 1));
+            log.info("Refreshed seat map for showtime {}: {} seats available", showtimeId, seatMap.available());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.seat-maps.cleanup-interval:PT10M}")
+    public void evictPastShowtimes() {
+        Instant cutoff = Instant.now().minus(retention);
+        int before = seatMaps.size();
+        seatMaps.values().removeIf(seatMap -> seatMap.startsAt().isBefore(cutoff));
+        if (seatMaps.size() != before) {
+            log.info("Evicted {} seat maps of past showtimes", before - seatMaps.size());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.naren.movieticketbookingapplication.Catalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Reads newline-delimited records from a byte range of a file. Chunk boundaries are moved forward to the next
+ * line start, so ranges computed independently by each worker tile the file without splitting or repeating
+ * a line. Splitting on the raw {@code '\n'} byte is safe for UTF-8 input.
+ */
+final class CatalogChunkReader {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    @FunctionalInterface
+    interface LineConsumer {
+        void accept(byte[] bytes, int offset, int length) throws IOException;
+    }
+
+    private CatalogChunkReader() {
+    }
+
+    /**
+     * Returns the first line start at or after {@code offset}.
+     */
+    static long alignToLineStart(FileChannel channel, long offset, long size) throws IOException {
+        if (offset <= 0) {
+            return 0;
+        }
+        if (offset >= size) {
+            return size;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = offset - 1;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Calls {@code consumer} for every line in {@code [start, end)}, without the line terminator.
+     */
+    static void forEachLine(FileChannel channel, long start, long end, LineConsumer consumer) throws IOException {
+        byte[] bytes = new byte[BUFFER_SIZE];
+        int carry = 0;
+        long position = start;
+        while (position < end) {
+            if (carry == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, carry, (int) Math.min(bytes.length - carry, end - position));
+            int read = 0;
+            while (buffer.hasRemaining()) {
+                int n = channel.read(buffer, position + read);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
+            if (read == 0) {
+                break;
+            }
+            position += read;
+            int limit = carry + read;
+            int lineStart = 0;
+            for (int i = carry; i < limit; i++) {
+                if (bytes[i] == '\n') {
+                    emit(bytes, lineStart, i, consumer);
+                    lineStart = i + 1;
+                }
+            }
+            carry = limit - lineStart;
+            System.arraycopy(bytes, lineStart, bytes, 0, carry);
+        }
+        if (carry > 0) {
+            emit(bytes, 0, carry, consumer);
+        }
+    }
+
+    private static void emit(byte[] bytes, int from, int to, LineConsumer consumer) throws IOException {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        consumer.accept(bytes, from, to - from);
+    }
+}
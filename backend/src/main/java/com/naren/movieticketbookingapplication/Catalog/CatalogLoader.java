@@ -0,0 +1,283 @@
+package com.naren.movieticketbookingapplication.Catalog;
+
+import com.naren.movieticketbookingapplication.Catalog.CatalogRecordParser.CatalogRecord;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline bulk loader for large movie dumps, run as its own process:
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=catalog-loader --catalog.loader.file=/data/movies.tsv
+ * </pre>
+ * The file is cut into fixed-size byte chunks. Worker threads claim chunks, parse them and stream the rows
+ * through {@code COPY} into the unlogged {@code movie_staging} table, one connection and one COPY per worker.
+ * A single set-based statement then merges staging into {@code movie} on {@code movie_name_unique}; when a
+ * name appears more than once in the dump the last occurrence wins.
+ * <p>
+ * New names take their ids from whole {@code movie_id} blocks, one {@code nextval} per block, so they cannot collide
+ * with the blocks Hibernate's pooled optimizer reserves and names that are already present spend no ids. The
+ * application's movie caches pick up the changes as their TTLs expire.
+ */
+@Slf4j
+@Component
+@Profile("catalog-loader")
+public class CatalogLoader implements ApplicationRunner {
+
+    private static final String COPY_SQL = "COPY movie_staging (name, cost, rating, source_order) FROM STDIN";
+    private static final int MAX_LOGGED_REJECTS = 10;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final String format;
+    private final List<String> columns;
+    private final boolean header;
+    private final int parallelism;
+    private final long chunkSize;
+    private final boolean updateExisting;
+    private final String mergeWorkMem;
+
+    public CatalogLoader(DataSource dataSource,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         ConfigurableApplicationContext context,
+                         @Value("${catalog.loader.file}") Path file,
+                         @Value("${catalog.loader.format:}") String format,
+                         @Value("${catalog.loader.columns:name,cost,rating}") List<String> columns,
+                         @Value("${catalog.loader.header:true}") boolean header,
+                         @Value("${catalog.loader.parallelism:0}") int parallelism,
+                         @Value("${catalog.loader.chunk-size-mb:64}") long chunkSizeMb,
+                         @Value("${catalog.loader.update-existing:true}") boolean updateExisting,
+                         @Value("${catalog.loader.merge-work-mem:256MB}") String mergeWorkMem) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.context = context;
+        this.file = file;
+        this.format = format.isBlank() ? formatOf(file) : format;
+        this.columns = columns;
+        this.header = header;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSizeMb * 1024 * 1024;
+        this.updateExisting = updateExisting;
+        this.mergeWorkMem = mergeWorkMem;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Catalog load of {} failed", file, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    void load() throws Exception {
+        CatalogRecordParser parser = CatalogRecordParser.of(format, columns);
+        long started = System.nanoTime();
+        jdbcTemplate.execute("TRUNCATE movie_staging");
+
+        LoadProgress progress = new LoadProgress();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+            int workers = Math.min(Math.min(parallelism, chunks), maxConnections());
+            log.info("Loading {} ({} MiB, {}) in {} chunks with {} workers",
+                    file, size >> 20, format, chunks, workers);
+
+            ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                AtomicInteger nextChunk = new AtomicInteger();
+                List<Future<Long>> results = new ArrayList<>();
+                for (int i = 0; i < workers; i++) {
+                    results.add(executor.submit(() -> copyChunks(channel, size, chunks, nextChunk, parser, progress)));
+                }
+                awaitCopies(results, size, progress);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        long copySeconds = Math.max(1, (System.nanoTime() - started) / 1_000_000_000);
+        log.info("Copied {} rows into movie_staging ({} rejected) in {} s, {} rows/s",
+                progress.rows.get(), progress.rejected.get(), copySeconds, progress.rows.get() / copySeconds);
+
+        long mergeStarted = System.nanoTime();
+        Integer merged = transactionTemplate.execute(status -> merge());
+        log.info("Merged {} rows into movie in {} ms; total load time {} s",
+                merged, (System.nanoTime() - mergeStarted) / 1_000_000, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private long copyChunks(FileChannel channel, long size, int chunks, AtomicInteger nextChunk,
+                            CatalogRecordParser parser, LoadProgress progress) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, 1 << 20);
+            try {
+                StringBuilder row = new StringBuilder(256);
+                int chunk;
+                while ((chunk = nextChunk.getAndIncrement()) < chunks && !Thread.currentThread().isInterrupted()) {
+                    int current = chunk;
+                    long start = CatalogChunkReader.alignToLineStart(channel, current * chunkSize, size);
+                    long end = CatalogChunkReader.alignToLineStart(channel, (current + 1) * chunkSize, size);
+                    long order = (long) current << 32;
+                    int[] line = {0};
+                    boolean skipHeader = header && current == 0;
+                    CatalogChunkReader.forEachLine(channel, start, end, (bytes, offset, length) -> {
+                        int lineInChunk = line[0]++;
+                        if (skipHeader && lineInChunk == 0) {
+                            return;
+                        }
+                        String text = new String(bytes, offset, length, StandardCharsets.UTF_8);
+                        CatalogRecord record = parser.parse(text);
+                        if (record == null) {
+                            progress.reject(current, lineInChunk, text);
+                            return;
+                        }
+                        row.setLength(0);
+                        appendEscaped(row, record.name());
+                        row.append('\t').append(record.cost())
+                                .append('\t').append(record.rating())
+                                .append('\t').append(order | lineInChunk)
+                                .append('\n');
+                        copy.write(row.toString().getBytes(StandardCharsets.UTF_8));
+                        progress.rows.incrementAndGet();
+                    });
+                    progress.bytes.addAndGet(end - start);
+                }
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        }
+    }
+
+    private Integer merge() {
+        jdbcTemplate.execute("SET LOCAL work_mem = '" + mergeWorkMem.replace("'", "") + "'");
+        jdbcTemplate.execute("ANALYZE movie_staging");
+        String onConflict = updateExisting
+                ? """
+                  DO UPDATE SET cost = excluded.cost, rating = excluded.rating
+                  WHERE (movie.cost, movie.rating) IS DISTINCT FROM (excluded.cost, excluded.rating)"""
+                : "DO NOTHING";
+        // names already in movie keep their id; new names are numbered into whole sequence blocks, one nextval
+        // per block of `increment` ids, the same (value - increment + 1 .. value) range the pooled optimizer uses
+        Long increment = jdbcTemplate.queryForObject("""
+                SELECT increment_by FROM pg_sequences
+                WHERE schemaname = current_schema() AND sequencename = 'movie_id'""", Long.class);
+        // a fresh sequence first returns its start value, the top of a block reaching below 1; like the pooled
+        // optimizer, skip that value and start from the next block
+        if (!jdbcTemplate.queryForObject("SELECT is_called FROM movie_id", Boolean.class)) {
+            jdbcTemplate.queryForObject("SELECT nextval('movie_id')", Long.class);
+        }
+        int merged = jdbcTemplate.update("""
+                WITH latest AS (
+                    SELECT DISTINCT ON (name) name, cost, rating
+                    FROM movie_staging
+                    ORDER BY name, source_order DESC),
+                staged AS (
+                    SELECT latest.name, latest.cost, latest.rating, movie.movie_id AS existing_id,
+                           row_number() OVER (PARTITION BY movie.movie_id IS NULL ORDER BY latest.name) - 1 AS slot
+                    FROM latest LEFT JOIN movie ON movie.name = latest.name),
+                blocks AS (
+                    SELECT row_number() OVER () - 1 AS block, nextval('movie_id') AS last_id
+                    FROM generate_series(1, (SELECT ceil(count(*) / ?::numeric)
+                                             FROM staged WHERE existing_id IS NULL)::int))
+                INSERT INTO movie (movie_id, name, cost, rating)
+                SELECT coalesce(staged.existing_id, blocks.last_id - ? + 1 + staged.slot % ?), name, cost, rating
+                FROM staged LEFT JOIN blocks ON staged.existing_id IS NULL AND blocks.block = staged.slot / ?
+                ON CONFLICT ON CONSTRAINT movie_name_unique
+                """ + onConflict, increment, increment, increment, increment);
+        jdbcTemplate.execute("TRUNCATE movie_staging");
+        return merged;
+    }
+
+    private void awaitCopies(List<Future<Long>> results, long size, LoadProgress progress) throws Exception {
+        for (Future<Long> result : results) {
+            while (true) {
+                try {
+                    result.get(10, TimeUnit.SECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    log.info("Copied {} rows, {}% of input", progress.rows.get(),
+                            size == 0 ? 100 : progress.bytes.get() * 100 / size);
+                } catch (ExecutionException e) {
+                    results.forEach(r -> r.cancel(true));
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+        }
+    }
+
+    private int maxConnections() {
+        // every worker holds a connection for its whole COPY; leave one for the truncate and merge
+        return dataSource instanceof HikariDataSource hikari
+                ? Math.max(1, hikari.getMaximumPoolSize() - 1)
+                : Integer.MAX_VALUE;
+    }
+
+    private static void appendEscaped(StringBuilder row, String value) {
+        // COPY text format: backslash, tab and line breaks must be escaped
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(c);
+            }
+        }
+    }
+
+    private static String formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") ? "csv" : "tsv";
+    }
+
+    private static final class LoadProgress {
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        void reject(int chunk, int lineInChunk, String line) {
+            if (rejected.incrementAndGet() <= MAX_LOGGED_REJECTS) {
+                log.warn("Rejected line {} of chunk {}: {}", lineInChunk, chunk,
+                        line.length() > 200 ? line.substring(0, 200) + "..." : line);
+            }
+        }
+    }
+}
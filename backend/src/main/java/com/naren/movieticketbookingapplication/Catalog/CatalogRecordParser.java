@@ -0,0 +1,120 @@
+package com.naren.movieticketbookingapplication.Catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses one line of a TSV or CSV movie dump into a {@link CatalogRecord}. The column list names each field
+ * in file order; only {@code name}, {@code cost} and {@code rating} are read and any other name is skipped.
+ * CSV fields may be quoted with {@code "} (doubled to escape), but a record must fit on one line.
+ */
+final class CatalogRecordParser {
+
+    record CatalogRecord(String name, double cost, double rating) {
+    }
+
+    private final char delimiter;
+    private final boolean quoted;
+    private final int nameColumn;
+    private final int costColumn;
+    private final int ratingColumn;
+    private final int lastColumn;
+
+    private CatalogRecordParser(char delimiter, boolean quoted, int nameColumn, int costColumn, int ratingColumn) {
+        this.delimiter = delimiter;
+        this.quoted = quoted;
+        this.nameColumn = nameColumn;
+        this.costColumn = costColumn;
+        this.ratingColumn = ratingColumn;
+        this.lastColumn = Math.max(nameColumn, Math.max(costColumn, ratingColumn));
+    }
+
+    static CatalogRecordParser of(String format, List<String> columns) {
+        List<String> normalized = columns.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        int name = normalized.indexOf("name");
+        int cost = normalized.indexOf("cost");
+        int rating = normalized.indexOf("rating");
+        if (name < 0 || cost < 0 || rating < 0) {
+            throw new IllegalArgumentException("Columns must include name, cost and rating: " + columns);
+        }
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "tsv" -> new CatalogRecordParser('\t', false, name, cost, rating);
+            case "csv" -> new CatalogRecordParser(',', true, name, cost, rating);
+            default -> throw new IllegalArgumentException("Unsupported catalog format: " + format);
+        };
+    }
+
+    /**
+     * Returns the parsed record, or {@code null} when the line is blank, short of columns or has an invalid
+     * name, cost or rating.
+     */
+    CatalogRecord parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        List<String> fields = quoted ? splitQuoted(line) : split(line);
+        if (fields.size() <= lastColumn) {
+            return null;
+        }
+        String name = fields.get(nameColumn).trim();
+        if (name.isEmpty()) {
+            return null;
+        }
+        try {
+            double cost = Double.parseDouble(fields.get(costColumn).trim());
+            double rating = Double.parseDouble(fields.get(ratingColumn).trim());
+            if (!Double.isFinite(cost) || !Double.isFinite(rating)) {
+                return null;
+            }
+            return new CatalogRecord(name, cost, rating);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private List<String> split(String line) {
+        List<String> fields = new ArrayList<>(lastColumn + 1);
+        int start = 0;
+        while (fields.size() <= lastColumn) {
+            int end = line.indexOf(delimiter, start);
+            if (end < 0) {
+                fields.add(line.substring(start));
+                break;
+            }
+            fields.add(line.substring(start, end));
+            start = end + 1;
+        }
+        return fields;
+    }
+
+    private List<String> splitQuoted(String line) {
+        List<String> fields = new ArrayList<>(lastColumn + 1);
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length() && fields.size() <= lastColumn; i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (fields.size() <= lastColumn) {
+            fields.add(field.toString());
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,45 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Slf4j
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String MOVIES = "movies";
+    public static final String MOVIE_PAGES = "moviePages";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${movies.cache.movie.max-size:10000}") long movieMaxSize,
+                                     @Value("${movies.cache.movie.ttl:10m}") Duration movieTtl,
+                                     @Value("${movies.cache.pages.max-size:1000}") long pageMaxSize,
+                                     @Value("${movies.cache.pages.ttl:30s}") Duration pageTtl) {
+        log.info("Creating movie caches: movies(max={}, ttl={}), moviePages(max={}, ttl={})",
+                movieMaxSize, movieTtl, pageMaxSize, pageTtl);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(MOVIES, Caffeine.newBuilder()
+                .maximumSize(movieMaxSize)
+                .expireAfterWrite(movieTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MOVIE_PAGES, Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(pageTtl)
+                .recordStats()
+                .build());
+        // evictions are deferred until the surrounding write transaction commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
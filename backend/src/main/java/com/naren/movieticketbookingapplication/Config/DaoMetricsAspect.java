@@ -0,0 +1,124 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Times every public method of the {@code @Repository} DAOs and records how many rows each call returned.
+ * <ul>
+ *     <li>{@code dao.calls} (timer): tags {@code dao}, {@code method}, {@code outcome} and {@code exception};
+ *     the error count per method is the count of its {@code outcome=error} series</li>
+ *     <li>{@code dao.rows} (summary): rows in the returned collection, slice or optional; methods that return
+ *     no rows (void, boolean, counts) are not recorded</li>
+ * </ul>
+ * Reactive methods are measured from subscription to termination, counting the elements emitted.
+ * Histogram buckets are switched on in the application properties.
+ */
+@Aspect
+@Component
+public class DaoMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public DaoMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.naren.movieticketbookingapplication.Dao..*(..)) "
+            + "&& @within(org.springframework.stereotype.Repository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> new MethodMeters(joinPoint.getTarget().getClass(), method));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.stop(methodMeters.failed(e));
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            return measure(Flux.from(mono), methodMeters).singleOrEmpty();
+        }
+        if (result instanceof Flux<?> flux) {
+            return measure(flux, methodMeters);
+        }
+        sample.stop(methodMeters.succeeded);
+        long rows = rows(result);
+        if (rows >= 0) {
+            methodMeters.rows.record(rows);
+        }
+        return result;
+    }
+
+    private <T> Flux<T> measure(Flux<T> flux, MethodMeters methodMeters) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicLong rows = new AtomicLong();
+            return flux.doOnNext(row -> rows.incrementAndGet())
+                    .doOnComplete(() -> {
+                        sample.stop(methodMeters.succeeded);
+                        methodMeters.rows.record(rows.get());
+                    })
+                    .doOnError(e -> sample.stop(methodMeters.failed(e)));
+        });
+    }
+
+    static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private final class MethodMeters {
+        private final String dao;
+        private final String method;
+        private final Timer succeeded;
+        private final DistributionSummary rows;
+
+        MethodMeters(Class<?> target, Method method) {
+            this.dao = target.getSimpleName().replaceFirst("Impl$", "");
+            this.method = method.getName();
+            this.succeeded = timer("success", "none");
+            this.rows = DistributionSummary.builder("dao.rows")
+                    .description("Rows returned by a DAO call")
+                    .tags("dao", dao, "method", this.method)
+                    .register(meterRegistry);
+        }
+
+        Timer failed(Throwable e) {
+            return timer("error", e.getClass().getSimpleName());
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder("dao.calls")
+                    .description("DAO call latency")
+                    .tags("dao", dao, "method", method, "outcome", outcome, "exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
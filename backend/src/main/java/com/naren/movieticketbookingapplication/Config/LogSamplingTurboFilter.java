@@ -0,0 +1,47 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one in {@code oneIn} events at or below {@code maxLevel} from loggers under
+ * {@code loggerPrefix}; other loggers and more severe events are not affected. Turbo filters run before a
+ * logging event is created, so sampled-out calls cost a counter increment and nothing is formatted or
+ * allocated. Configured per category in {@code logback-spring.xml}.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+    private String loggerPrefix = "";
+    private long oneIn = 1;
+    private Level maxLevel = Level.INFO;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive without a format; sampling them would count each call twice
+        if (oneIn <= 1 || format == null || level.toInt() > maxLevel.toInt()
+                || !logger.getName().startsWith(loggerPrefix)
+                // count only events the logger would emit, so the rate is relative to what is actually logged
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % oneIn == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setOneIn(long oneIn) {
+        this.oneIn = oneIn;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+}
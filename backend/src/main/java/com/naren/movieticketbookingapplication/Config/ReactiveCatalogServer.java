@@ -0,0 +1,80 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naren.movieticketbookingapplication.Controller.MovieCatalogRoutes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * Runs {@link MovieCatalogRoutes} on its own Reactor Netty server next to the servlet container, so anonymous
+ * catalog traffic is handled on a few event-loop threads and never takes a Tomcat worker. The port sits outside
+ * the servlet security chain; everything it serves is public.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "catalog.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveCatalogServer implements SmartLifecycle {
+
+    private final MovieCatalogRoutes routes;
+    private final ObjectMapper objectMapper;
+    private final String host;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveCatalogServer(MovieCatalogRoutes routes,
+                                 ObjectMapper objectMapper,
+                                 @Value("${catalog.reactive.host:0.0.0.0}") String host,
+                                 @Value("${catalog.reactive.port:8081}") int port) {
+        this.routes = routes;
+        this.objectMapper = objectMapper;
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        ReactorHttpHandlerAdapter handler =
+                new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes.routes(), strategies));
+        server = HttpServer.create().host(host).port(port).handle(handler).bindNow();
+        log.info("Reactive catalog listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * The bound port, which differs from the configured one when that is 0.
+     */
+    public int port() {
+        return server == null ? -1 : server.port();
+    }
+}
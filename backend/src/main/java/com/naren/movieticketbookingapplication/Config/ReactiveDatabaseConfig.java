@@ -0,0 +1,51 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * R2DBC pool for the reactive catalog. The pool is deliberately not a bean of its own: Boot's DataSource
+ * auto-configuration backs off as soon as it sees an R2DBC {@code ConnectionFactory}, and JPA still needs the
+ * JDBC pool. For the same reason Boot's R2DBC auto-configuration is excluded on the application class.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${spring.r2dbc.url}") String url,
+                                                 @Value("${spring.r2dbc.username}") String username,
+                                                 @Value("${spring.r2dbc.password}") String password,
+                                                 @Value("${spring.r2dbc.pool.initial-size:2}") int initialSize,
+                                                 @Value("${spring.r2dbc.pool.max-size:10}") int maxSize,
+                                                 @Value("${spring.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("catalog-r2dbc")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
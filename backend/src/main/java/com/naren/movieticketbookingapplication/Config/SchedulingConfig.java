@@ -0,0 +1,40 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Short periodic work (waiting-room admission, seat-map cleanup) runs on the default {@code taskScheduler}.
+ * Rebuilds that stream whole tables into memory run on {@link #REBUILD_SCHEDULER} instead, so a rebuild taking
+ * seconds never delays an admission tick.
+ * <p>
+ * Any scheduler bean makes Boot's own back off, so the default is declared here from Boot's builders and still
+ * honours {@code spring.task.scheduling.*} and {@code spring.threads.virtual.enabled}.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+
+    public static final String REBUILD_SCHEDULER = "rebuildScheduler";
+
+    @Bean(name = "taskScheduler")
+    public TaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder threadPoolBuilder,
+                                       SimpleAsyncTaskSchedulerBuilder virtualThreadBuilder,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return virtualThreads ? virtualThreadBuilder.build() : threadPoolBuilder.build();
+    }
+
+    @Bean(name = REBUILD_SCHEDULER)
+    public ThreadPoolTaskScheduler rebuildScheduler(@Value("${scheduling.rebuilds.pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("rebuild-");
+        return scheduler;
+    }
+}
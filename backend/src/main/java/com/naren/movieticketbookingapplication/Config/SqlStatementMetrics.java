@@ -0,0 +1,81 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares while serving each HTTP request and records them as
+ * {@code http.server.requests.sql.statements}, tagged like {@code http.server.requests} with method and URI
+ * template. Requests above {@code metrics.sql.warn-threshold} statements are logged, which is how N+1
+ * query patterns show up. Plain JDBC (JdbcTemplate, COPY) and work handed to other threads are not counted.
+ */
+@Slf4j
+@Component
+// outside the security chain, so statements run while authenticating are counted too
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetrics extends OncePerRequestFilter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> STATEMENTS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry,
+                               @Value("${metrics.sql.warn-threshold:50}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = STATEMENTS.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int[] count = new int[1];
+        STATEMENTS.set(count);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            STATEMENTS.remove();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("SQL statements prepared by Hibernate per request")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .record(count[0]);
+            if (count[0] > warnThreshold) {
+                log.warn("{} {} prepared {} SQL statements", request.getMethod(), uri, count[0]);
+            }
+        }
+    }
+}
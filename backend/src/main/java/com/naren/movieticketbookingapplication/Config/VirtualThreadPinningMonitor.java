@@ -0,0 +1,107 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, which fires when a virtual thread blocks while
+ * pinned to its carrier, typically inside a {@code synchronized} block. Pinning across a JDBC call is the
+ * expensive case: the carrier is lost for the whole round trip, so those are counted separately and every
+ * distinct call site is logged once with its stack.
+ */
+@Slf4j
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDBC_PACKAGES = List.of("java.sql.", "org.postgresql.", "com.zaxxer.hikari.");
+    private static final String APPLICATION_PACKAGE = "com.naren.";
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Counter pinnedInJdbc;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .tag("jdbc", "false")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meterRegistry);
+        this.pinnedInJdbc = Counter.builder("jvm.threads.virtual.pinned")
+                .tag("jdbc", "true")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("Profile virtual-threads is active on Java {}; build with -Pjava21 to use virtual threads",
+                    Runtime.version().feature());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for more than {}", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        boolean inJdbc = frames.stream().anyMatch(frame -> isIn(frame, JDBC_PACKAGES));
+        (inJdbc ? pinnedInJdbc : pinned).increment();
+
+        String site = frames.stream()
+                .filter(frame -> isIn(frame, List.of(APPLICATION_PACKAGE)))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+        if (reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(30).forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {} ms at {}{}{}", event.getDuration().toMillis(), site,
+                    inJdbc ? " during a JDBC call" : "", stack);
+        }
+    }
+
+    private static boolean isIn(RecordedFrame frame, List<String> packages) {
+        if (!frame.isJavaFrame()) {
+            return false;
+        }
+        String type = frame.getMethod().getType().getName();
+        return packages.stream().anyMatch(type::startsWith);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,126 @@
+package com.naren.movieticketbookingapplication.Controller;
+
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import com.naren.movieticketbookingapplication.Dto.SeatAvailability;
+import com.naren.movieticketbookingapplication.Dto.SeatHoldDTO;
+import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Entity.Screen;
+import com.naren.movieticketbookingapplication.Entity.Showtime;
+import com.naren.movieticketbookingapplication.Record.BookingRequest;
+import com.naren.movieticketbookingapplication.Record.ScreenRegistration;
+import com.naren.movieticketbookingapplication.Record.ShowtimeRegistration;
+import com.naren.movieticketbookingapplication.Service.BookingService;
+import com.naren.movieticketbookingapplication.jwt.ClaimsPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@Slf4j
+public class BookingController {
+
+    private final BookingService bookingService;
+
+    public BookingController(BookingService bookingService) {
+        this.bookingService = bookingService;
+    }
+
+    @PostMapping("/screens")
+    public ResponseEntity<Screen> addScreen(@RequestBody ScreenRegistration registration) {
+        log.info("Received request to add screen: {}", registration);
+        Screen screen = bookingService.addScreen(registration);
+        return new ResponseEntity<>(screen, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/showtimes")
+    public ResponseEntity<Showtime> addShowtime(@RequestBody ShowtimeRegistration registration) {
+        log.info("Received request to add showtime: {}", registration);
+        Showtime showtime = bookingService.addShowtime(registration);
+        return new ResponseEntity<>(showtime, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/showtimes/{id}/seats")
+    public ResponseEntity<SeatAvailability> getSeats(@PathVariable("id") Long showtimeId) {
+        log.info("Received request for seats of showtime: {}", showtimeId);
+        return new ResponseEntity<>(bookingService.getSeatAvailability(showtimeId), HttpStatus.OK);
+    }
+
+    @PostMapping("/customers/{customerId}/bookings")
+    public ResponseEntity<BookingDTO> book(@PathVariable Long customerId, @RequestBody BookingRequest request,
+                                           Authentication authentication) {
+        requireOwner(customerId, authentication);
+        log.info("Received booking request from customer {}: {}", customerId, request);
+        BookingDTO booking = bookingService.book(customerId, request);
+        log.info("Booking created: {}", booking.bookingId());
+        return new ResponseEntity<>(booking, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/customers/{customerId}/holds")
+    public ResponseEntity<SeatHoldDTO> hold(@PathVariable Long customerId, @RequestBody BookingRequest request,
+                                            Authentication authentication) {
+        requireOwner(customerId, authentication);
+        log.info("Received hold request from customer {}: {}", customerId, request);
+        SeatHoldDTO hold = bookingService.hold(customerId, request);
+        return new ResponseEntity<>(hold, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/customers/{customerId}/holds/{holdId}/confirm")
+    public ResponseEntity<BookingDTO> confirmHold(@PathVariable Long customerId, @PathVariable String holdId,
+                                                  Authentication authentication) {
+        requireOwner(customerId, authentication);
+        log.info("Received request to confirm hold {} of customer {}", holdId, customerId);
+        BookingDTO booking = bookingService.confirmHold(customerId, holdId);
+        log.info("Booking created: {}", booking.bookingId());
+        return new ResponseEntity<>(booking, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/customers/{customerId}/holds/{holdId}")
+    public void releaseHold(@PathVariable Long customerId, @PathVariable String holdId,
+                            Authentication authentication) {
+        requireOwner(customerId, authentication);
+        log.info("Received request to release hold {} of customer {}", holdId, customerId);
+        bookingService.releaseHold(customerId, holdId);
+    }
+
+    @GetMapping("/customers/{customerId}/bookings")
+    public ResponseEntity<List<BookingDTO>> getBookings(@PathVariable Long customerId, Authentication authentication) {
+        requireOwner(customerId, authentication);
+        log.info("Received request for bookings of customer: {}", customerId);
+        return new ResponseEntity<>(bookingService.getBookings(customerId), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/customers/{customerId}/bookings/{bookingId}")
+    public void cancelBooking(@PathVariable Long customerId, @PathVariable Long bookingId,
+                              Authentication authentication) {
+        requireOwner(customerId, authentication);
+        log.info("Received request to cancel booking {} of customer {}", bookingId, customerId);
+        bookingService.cancelBooking(customerId, bookingId);
+    }
+
+    /**
+     * Customer-scoped endpoints act only for the customer the token was issued to, the same subject the
+     * waiting room binds its tickets to. The id comes from the principal the JWT filter built, so the check
+     * costs no query.
+     */
+    private void requireOwner(Long customerId, Authentication authentication) {
+        if (authentication == null || !customerId.equals(customerIdOf(authentication.getPrincipal()))) {
+            throw new AccessDeniedException("Not allowed to act for customer " + customerId);
+        }
+    }
+
+    private static Long customerIdOf(Object principal) {
+        if (principal instanceof ClaimsPrincipal claims) {
+            return claims.getCustomerId();
+        }
+        if (principal instanceof Customer customer) {
+            return customer.getCustomer_id();
+        }
+        return null;
+    }
+}
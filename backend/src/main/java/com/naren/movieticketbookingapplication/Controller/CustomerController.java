@@ -39,7 +39,8 @@ public class CustomerController {
     public ResponseEntity<?> addCustomer(@RequestBody CustomerRegistration customerRegistration) {
         log.info("Received request to add customer: {}", customerRegistration);
         ResponseEntity<?> response = customerService.registerUser(customerRegistration, Set.of("ROLE_USER"));
-        log.info("Customer registration response: {}", response);
+        // the response carries the issued token in its headers; log the outcome only
+        log.info("Customer registration completed with status {}", response.getStatusCode());
         return response;
     }
 
@@ -47,7 +48,7 @@ public class CustomerController {
     public ResponseEntity<?> addAdmin(@RequestBody CustomerRegistration customerRegistration) {
         log.info("Received request to add admin: {}", customerRegistration);
         ResponseEntity<?> response = customerService.registerUser(customerRegistration, Set.of("ROLE_ADMIN"));
-        log.info("Admin registration response: {}", response);
+        log.info("Admin registration completed with status {}", response.getStatusCode());
         return response;
     }
 
@@ -60,9 +61,11 @@ public class CustomerController {
     }
 
     @GetMapping("/customers")
-    public ResponseEntity<List<CustomerDTO>> customerList() {
+    public ResponseEntity<List<CustomerDTO>> customerList(
+            @RequestParam(name = "include", required = false) Set<String> include) {
         log.info("Fetching list of customers...");
-        List<CustomerDTO> customers = customerService.getAllCustomers();
+        boolean includeMovies = include != null && include.contains("movies");
+        List<CustomerDTO> customers = customerService.getAllCustomers(includeMovies);
         log.info("Fetched {} customers.", customers.size());
         return new ResponseEntity<>(customers, HttpStatus.OK);
     }
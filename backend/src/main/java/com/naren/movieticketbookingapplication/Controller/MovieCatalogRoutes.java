@@ -0,0 +1,87 @@
+package com.naren.movieticketbookingapplication.Controller;
+
+import com.naren.movieticketbookingapplication.Dao.ReactiveMovieDao;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Exception.ApiError.ApiError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only catalog on {@code /api/v2}, served by {@link com.naren.movieticketbookingapplication.Config.ReactiveCatalogServer}
+ * rather than the servlet container. {@code GET /api/v2/movies} streams the catalog in id order as NDJSON, or as
+ * server-sent events when the client accepts {@code text/event-stream}; rows are read from the database only as
+ * fast as the client consumes them.
+ */
+@Slf4j
+@Component
+public class MovieCatalogRoutes {
+
+    private final ReactiveMovieDao movieDao;
+    private final long maxLimit;
+
+    public MovieCatalogRoutes(ReactiveMovieDao movieDao,
+                              @Value("${catalog.reactive.max-limit:10000}") long maxLimit) {
+        this.movieDao = movieDao;
+        this.maxLimit = maxLimit;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/v2/movies/{id}", this::getMovieById)
+                .GET("/api/v2/movies", this::streamMovies)
+                .build();
+    }
+
+    Mono<ServerResponse> getMovieById(ServerRequest request) {
+        Long movieId = parse(request.pathVariable("id"));
+        if (movieId == null) {
+            return error(request, HttpStatus.BAD_REQUEST, "Invalid movie id: " + request.pathVariable("id"));
+        }
+        return movieDao.getMovieById(movieId)
+                .flatMap(movie -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(movie))
+                .switchIfEmpty(Mono.defer(() ->
+                        error(request, HttpStatus.NOT_FOUND, "Movie with ID " + movieId + " not found")));
+    }
+
+    Mono<ServerResponse> streamMovies(ServerRequest request) {
+        Long after = parse(request.queryParam("after").orElse("0"));
+        Long limit = parse(request.queryParam("limit").orElse(String.valueOf(maxLimit)));
+        if (after == null || after < 0 || limit == null || limit < 0) {
+            return error(request, HttpStatus.BAD_REQUEST, "after and limit must be non-negative integers");
+        }
+        if (maxLimit > 0 && (limit == 0 || limit > maxLimit)) {
+            limit = maxLimit;
+        }
+        MediaType mediaType = request.headers().accept().contains(MediaType.TEXT_EVENT_STREAM)
+                ? MediaType.TEXT_EVENT_STREAM
+                : MediaType.APPLICATION_NDJSON;
+        return ServerResponse.ok()
+                .contentType(mediaType)
+                .body(movieDao.streamMoviesAfter(after, limit), Movie.class);
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, HttpStatus status, String message) {
+        log.info("Catalog request {} failed: {}", request.path(), message);
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ApiError(request.path(), message, status.value(), LocalDateTime.now()));
+    }
+
+    private static Long parse(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
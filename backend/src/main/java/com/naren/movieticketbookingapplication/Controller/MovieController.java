@@ -1,6 +1,13 @@
 package com.naren.movieticketbookingapplication.Controller;
 
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResponse;
+import com.naren.movieticketbookingapplication.Dto.MovieLeaderboard;
+import com.naren.movieticketbookingapplication.Dto.MoviePage;
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
+import com.naren.movieticketbookingapplication.Dto.MovieSuggestion;
 import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
 import com.naren.movieticketbookingapplication.Record.MovieRegistration;
 import com.naren.movieticketbookingapplication.Record.MovieUpdation;
 import com.naren.movieticketbookingapplication.Service.MovieService;
@@ -16,6 +23,8 @@ import java.util.List;
 @Slf4j
 public class MovieController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final MovieService movieService;
 
     public MovieController(MovieService movieService) {
@@ -30,6 +39,14 @@ public class MovieController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @PostMapping("/movies:batch")
+    public ResponseEntity<MovieBatchResponse> applyMovieBatch(@RequestBody List<MovieBatchOperation> operations) {
+        log.info("Received movie batch with {} operations", operations.size());
+        MovieBatchResponse response = movieService.applyBatch(operations);
+        log.info("Movie batch applied: {} applied, {} rejected", response.applied(), response.rejected());
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @GetMapping("/movies/{id}")
     public ResponseEntity<Movie> getMovieById(@PathVariable("id") Long movieId) {
         log.info("Received request to retrieve movie with ID: {}", movieId);
@@ -39,11 +56,66 @@ public class MovieController {
     }
 
     @GetMapping("/movies")
-    public ResponseEntity<List<Movie>> movieList() {
-        log.info("Received request to retrieve list of movies");
-        List<Movie> movies = movieService.getMovieList();
-        log.info("Retrieved list of movies: {}", movies);
-        return new ResponseEntity<>(movies, HttpStatus.OK);
+    public ResponseEntity<List<Movie>> movieList(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "${movies.page.default-size:100}") int size,
+            @RequestParam(name = "minRating", required = false) Double minRating,
+            @RequestParam(name = "maxRating", required = false) Double maxRating,
+            @RequestParam(name = "minCost", required = false) Double minCost,
+            @RequestParam(name = "maxCost", required = false) Double maxCost,
+            @RequestParam(name = "sort", required = false) String sort) {
+        log.info("Received request to retrieve page of {} movies", size);
+        MovieFilter filter = new MovieFilter(minRating, maxRating, minCost, maxCost);
+        MoviePage page = filter.isEmpty() && sort == null
+                ? movieService.getMoviePage(cursor, size)
+                : movieService.getMoviePage(filter, sort, cursor, size);
+        log.info("Retrieved {} movies", page.movies().size());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.movies());
+    }
+
+    @GetMapping("/movies/search")
+    public ResponseEntity<List<Movie>> searchMovies(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "${movies.search.default-size:20}") int size) {
+        log.info("Received request to search {} movies for '{}'", size, query);
+        MoviePage page = movieService.searchMovies(query, cursor, size);
+        log.info("Found {} movies", page.movies().size());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.movies());
+    }
+
+    @GetMapping("/movies/autocomplete")
+    public ResponseEntity<List<MovieSuggestion>> autocompleteMovies(
+            @RequestParam(name = "q") String prefix,
+            @RequestParam(name = "limit", defaultValue = "${movies.autocomplete.default-limit:10}") int limit) {
+        log.info("Received request to complete up to {} movie names for '{}'", limit, prefix);
+        List<MovieSuggestion> suggestions = movieService.autocompleteMovies(prefix, limit);
+        log.info("Completed {} movie names", suggestions.size());
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/movies/leaderboard")
+    public ResponseEntity<MovieLeaderboard> movieLeaderboard() {
+        log.debug("Received request for the movie leaderboard");
+        return ResponseEntity.ok(movieService.getLeaderboard());
+    }
+
+    @GetMapping("/movies/{id}/recommendations")
+    public ResponseEntity<List<MovieRecommendation>> movieRecommendations(
+            @PathVariable("id") Long movieId,
+            @RequestParam(name = "limit", defaultValue = "${movies.recommendations.default-limit:10}") int limit) {
+        log.info("Received request for up to {} recommendations for movie {}", limit, movieId);
+        List<MovieRecommendation> recommendations = movieService.getRecommendations(movieId, limit);
+        log.info("Found {} recommendations", recommendations.size());
+        return ResponseEntity.ok(recommendations);
     }
 
     @PutMapping("/movies/{id}")
@@ -0,0 +1,23 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Booking.SeatMap;
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingDao {
+    Optional<SeatMap> loadSeatMap(Long showtimeId);
+
+    List<Integer> getSoldSeats(Long showtimeId);
+
+    List<Long> nextBookingIds(int count);
+
+    void insertBookings(List<BookingDTO> bookings);
+
+    Optional<BookingDTO> getBooking(Long bookingId);
+
+    List<BookingDTO> getBookingsByCustomer(Long customerId);
+
+    boolean deleteBooking(Long bookingId);
+}
@@ -0,0 +1,121 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Booking.SeatMap;
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Booking persistence in plain JDBC: the write path is driven by the booking journal in batches, and seat
+ * maps are loaded as one bitset per showtime rather than as entities.
+ */
+@Repository
+@Slf4j
+public class BookingDaoImpl implements BookingDao {
+
+    private static final String BOOKING_COLUMNS = """
+            select b.booking_id, b.showtime_id, b.customer_id, b.created_at,
+                   array(select s.seat_no from booking_seat s where s.booking_id = b.booking_id order by s.seat_no) seats
+            from booking b
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookingDaoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<SeatMap> loadSeatMap(Long showtimeId) {
+        log.info("Loading seat map for showtime: {}", showtimeId);
+        List<SeatMap> maps = jdbcTemplate.query("""
+                        select s.starts_at, sc.seat_rows * sc.seats_per_row capacity
+                        from showtime s join screen sc on sc.screen_id = s.screen_id
+                        where s.showtime_id = ?
+                        """,
+                (rs, i) -> new SeatMap(showtimeId, rs.getTimestamp(1).toInstant(), rs.getInt(2)),
+                showtimeId);
+        if (maps.isEmpty()) {
+            return Optional.empty();
+        }
+        SeatMap seatMap = maps.get(0);
+        getSoldSeats(showtimeId).forEach(seat -> seatMap.markTaken(seat - 1));
+        log.info("Loaded seat map for showtime {}: {} of {} seats available",
+                showtimeId, seatMap.available(), seatMap.capacity());
+        return Optional.of(seatMap);
+    }
+
+    @Override
+    public List<Integer> getSoldSeats(Long showtimeId) {
+        return jdbcTemplate.queryForList("select seat_no from booking_seat where showtime_id = ?", Integer.class, showtimeId);
+    }
+
+    @Override
+    public List<Long> nextBookingIds(int count) {
+        return jdbcTemplate.queryForList("select nextval('booking_id') from generate_series(1, ?)", Long.class, count);
+    }
+
+    @Override
+    public void insertBookings(List<BookingDTO> bookings) {
+        log.debug("Inserting {} bookings", bookings.size());
+        jdbcTemplate.batchUpdate(
+                "insert into booking (booking_id, showtime_id, customer_id, seat_count, created_at) values (?, ?, ?, ?, ?)",
+                bookings, bookings.size(), (ps, booking) -> {
+                    ps.setLong(1, booking.bookingId());
+                    ps.setLong(2, booking.showtimeId());
+                    ps.setLong(3, booking.customerId());
+                    ps.setInt(4, booking.seats().size());
+                    ps.setTimestamp(5, Timestamp.from(booking.createdAt()));
+                });
+        List<Object[]> seats = new ArrayList<>();
+        for (BookingDTO booking : bookings) {
+            for (Integer seat : booking.seats()) {
+                seats.add(new Object[]{booking.showtimeId(), seat, booking.bookingId()});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into booking_seat (showtime_id, seat_no, booking_id) values (?, ?, ?)", seats);
+    }
+
+    @Override
+    public Optional<BookingDTO> getBooking(Long bookingId) {
+        log.info("Fetching booking by ID: {}", bookingId);
+        return jdbcTemplate.query(BOOKING_COLUMNS + "where b.booking_id = ?", this::mapBooking, bookingId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<BookingDTO> getBookingsByCustomer(Long customerId) {
+        log.info("Fetching bookings for customer: {}", customerId);
+        List<BookingDTO> bookings = jdbcTemplate.query(
+                BOOKING_COLUMNS + "where b.customer_id = ? order by b.booking_id", this::mapBooking, customerId);
+        log.info("Fetched {} bookings for customer {}", bookings.size(), customerId);
+        return bookings;
+    }
+
+    @Override
+    public boolean deleteBooking(Long bookingId) {
+        log.info("Deleting booking: {}", bookingId);
+        return jdbcTemplate.update("delete from booking where booking_id = ?", bookingId) > 0;
+    }
+
+    private BookingDTO mapBooking(ResultSet rs, int rowNum) throws SQLException {
+        Array seats = rs.getArray("seats");
+        Integer[] seatNumbers = (Integer[]) seats.getArray();
+        return new BookingDTO(
+                rs.getLong("booking_id"),
+                rs.getLong("showtime_id"),
+                rs.getLong("customer_id"),
+                Arrays.asList(seatNumbers),
+                rs.getTimestamp("created_at").toInstant());
+    }
+}
@@ -1,5 +1,6 @@
 package com.naren.movieticketbookingapplication.Dao;
 
+import com.naren.movieticketbookingapplication.Dto.CustomerSummary;
 import com.naren.movieticketbookingapplication.Entity.Customer;
 
 import java.util.List;
@@ -14,13 +15,31 @@ public interface CustomerDao {
 
     boolean existsByEmail(String email);
 
+    /**
+     * Always asks the database. Unlike {@link #existsByEmail} it never answers from the identity filter, which
+     * misses customers written by another node or straight to the table until its next rebuild.
+     */
+    boolean existsByEmailUnfiltered(String email);
+
     boolean existsByPhoneNumber(Long phoneNumber);
 
     List<Customer> getCustomerList();
 
+    List<CustomerSummary> getCustomerSummaries();
+
     void deleteCustomer(Customer customer);
 
     Optional<Customer> getCustomerByUsername(String email);
+
+    /**
+     * @return {@code false} if the customer was already subscribed
+     */
+    boolean addMovieSubscription(Long customerId, Long movieId);
+
+    /**
+     * @return {@code false} if there was no such subscription
+     */
+    boolean removeMovieSubscription(Long customerId, Long movieId);
 }
 
 
@@ -1,8 +1,11 @@
 package com.naren.movieticketbookingapplication.Dao;
 
+import com.naren.movieticketbookingapplication.Dto.CustomerSummary;
 import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Repo.CustomerRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -14,71 +17,142 @@ import java.util.Optional;
 @Slf4j
 public class CustomerDaoImpl implements CustomerDao {
 
+    private static final String EMAIL_UNIQUE = "email_id_unique";
+    private static final String PHONE_NUMBER_UNIQUE = "phone_number_unique";
+
     private final CustomerRepository customerRepository;
+    private final CustomerIdentityFilter identityFilter;
 
-    public CustomerDaoImpl(CustomerRepository customerRepository) {
+    public CustomerDaoImpl(CustomerRepository customerRepository, CustomerIdentityFilter identityFilter) {
         this.customerRepository = customerRepository;
+        this.identityFilter = identityFilter;
     }
 
     @Override
     public void addCustomer(Customer customer) {
-        log.info("Adding customer: {}", customer);
-        customerRepository.save(customer);
-        log.info("Customer added successfully: {}", customer);
+        log.debug("Adding customer: {}", customer);
+        save(customer);
+        identityFilter.add(customer.getEmail(), customer.getPhoneNumber());
+        log.debug("Customer added successfully: {}", customer);
+    }
+
+    /**
+     * Flushes so a duplicate the identity filter let through surfaces here, as a 409, and not at commit.
+     */
+    private void save(Customer customer) {
+        try {
+            customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException e) {
+            String message = String.valueOf(e.getMessage());
+            if (message.contains(EMAIL_UNIQUE)) {
+                throw new ResourceAlreadyExists("Email already taken");
+            }
+            if (message.contains(PHONE_NUMBER_UNIQUE)) {
+                throw new ResourceAlreadyExists("Phone number already taken");
+            }
+            throw e;
+        }
     }
 
     @Override
     public Optional<Customer> getCustomer(Long customerId) {
-        log.info("Fetching customer by ID: {}", customerId);
+        log.debug("Fetching customer by ID: {}", customerId);
         Optional<Customer> customer = customerRepository.findById(customerId);
-        log.info("Customer fetched: {}", customer.orElse(null));
+        log.debug("Customer fetched: {}", customer.orElse(null));
         return customer;
     }
 
     @Override
     public void updateCustomer(Customer customer) {
-        log.info("Updating customer: {}", customer);
-        customerRepository.save(customer);
-        log.info("Customer updated successfully: {}", customer);
+        log.debug("Updating customer: {}", customer);
+        save(customer);
+        identityFilter.add(customer.getEmail(), customer.getPhoneNumber());
+        log.debug("Customer updated successfully: {}", customer);
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        log.info("Checking if customer exists by email: {}", email);
+        log.debug("Checking if customer exists by email: {}", email);
+        if (!identityFilter.mightContainEmail(email)) {
+            log.debug("Customer exists by email '{}': false (identity filter)", email);
+            return false;
+        }
         boolean exists = customerRepository.existsByEmail(email);
-        log.info("Customer exists by email '{}': {}", email, exists);
+        if (!exists) {
+            identityFilter.recordFalsePositive();
+        }
+        log.debug("Customer exists by email '{}': {}", email, exists);
+        return exists;
+    }
+
+    @Override
+    public boolean existsByEmailUnfiltered(String email) {
+        log.debug("Checking if customer exists by email in the database: {}", email);
+        boolean exists = customerRepository.existsByEmail(email);
+        log.debug("Customer exists by email '{}': {}", email, exists);
         return exists;
     }
 
     @Override
     public boolean existsByPhoneNumber(Long phoneNumber) {
-        log.info("Checking if customer exists by phone number: {}", phoneNumber);
+        log.debug("Checking if customer exists by phone number: {}", phoneNumber);
+        if (!identityFilter.mightContainPhoneNumber(phoneNumber)) {
+            log.debug("Customer exists by phone number '{}': false (identity filter)", phoneNumber);
+            return false;
+        }
         boolean exists = customerRepository.existsByPhoneNumber(phoneNumber);
-        log.info("Customer exists by phone number '{}': {}", phoneNumber, exists);
+        if (!exists) {
+            identityFilter.recordFalsePositive();
+        }
+        log.debug("Customer exists by phone number '{}': {}", phoneNumber, exists);
         return exists;
     }
 
     @Override
     public List<Customer> getCustomerList() {
-        log.info("Fetching list of customers");
+        log.debug("Fetching list of customers");
         Page<Customer> page = customerRepository.findAll(Pageable.ofSize(1000));
         List<Customer> customers = page.getContent();
-        log.info("Fetched {} customers", customers.size());
+        log.debug("Fetched {} customers", customers.size());
         return customers;
     }
 
+    @Override
+    public List<CustomerSummary> getCustomerSummaries() {
+        log.debug("Fetching customer summaries");
+        List<CustomerSummary> summaries = customerRepository.findCustomerSummaries(Pageable.ofSize(1000));
+        log.debug("Fetched {} customer summaries", summaries.size());
+        return summaries;
+    }
+
     @Override
     public void deleteCustomer(Customer customer) {
-        log.info("Deleting customer: {}", customer);
+        log.debug("Deleting customer: {}", customer);
         customerRepository.delete(customer);
-        log.info("Customer deleted successfully: {}", customer);
+        log.debug("Customer deleted successfully: {}", customer);
     }
 
     @Override
     public Optional<Customer> getCustomerByUsername(String email) {
-        log.info("Fetching customer by username (email): {}", email);
+        log.debug("Fetching customer by username (email): {}", email);
         Optional<Customer> customer = customerRepository.findCustomerByEmail(email);
-        log.info("Customer fetched by username '{}': {}", email, customer.orElse(null));
+        log.debug("Customer fetched by username '{}': {}", email, customer.orElse(null));
         return customer;
     }
+
+    @Override
+    public boolean addMovieSubscription(Long customerId, Long movieId) {
+        log.debug("Subscribing customer {} to movie {}", customerId, movieId);
+        boolean added = customerRepository.insertMovieSubscription(customerId, movieId) == 1;
+        log.debug("Customer {} subscribed to movie {}: {}", customerId, movieId, added);
+        return added;
+    }
+
+    @Override
+    public boolean removeMovieSubscription(Long customerId, Long movieId) {
+        log.debug("Unsubscribing customer {} from movie {}", customerId, movieId);
+        boolean removed = customerRepository.deleteMovieSubscription(customerId, movieId) == 1;
+        log.debug("Customer {} unsubscribed from movie {}: {}", customerId, movieId, removed);
+        return removed;
+    }
 }
@@ -0,0 +1,183 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Config.SchedulingConfig;
+import com.naren.movieticketbookingapplication.Util.AfterCommit;
+import com.naren.movieticketbookingapplication.Util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-memory Bloom filter over every customer email and phone number. A negative answer means the value is
+ * definitely not taken, so the uniqueness query can be skipped; a positive answer still goes to the database,
+ * and the unique constraints on the customer table remain the final authority.
+ * <p>
+ * The filter is rebuilt from the customer table at startup and then every {@code rebuild-interval}, which also
+ * clears keys left behind by deleted or updated customers. Until the first load finishes every lookup is
+ * treated as "might exist".
+ */
+@Slf4j
+@Component
+public class CustomerIdentityFilter {
+
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String PHONE_PREFIX = "p:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minExpectedInsertions;
+    private final int fetchSize;
+    private final Counter skippedQueries;
+    private final Counter checkedQueries;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter current;
+    private BloomFilter rebuilding;
+
+    public CustomerIdentityFilter(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${customers.identity-filter.enabled:true}") boolean enabled,
+                                  @Value("${customers.identity-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${customers.identity-filter.min-expected-insertions:100000}") long minExpectedInsertions,
+                                  @Value("${customers.identity-filter.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.fetchSize = fetchSize;
+
+        this.skippedQueries = Counter.builder("customers.identity.filter.lookups")
+                .tag("result", "absent")
+                .description("Uniqueness checks answered by the filter without a query")
+                .register(meterRegistry);
+        this.checkedQueries = Counter.builder("customers.identity.filter.lookups")
+                .tag("result", "maybe")
+                .description("Uniqueness checks the filter passed on to the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("customers.identity.filter.false.positives")
+                .description("Lookups the filter passed on that the database answered with 'absent'")
+                .register(meterRegistry);
+        Gauge.builder("customers.identity.filter.expected.fpp", this, f -> f.stat(BloomFilter::expectedFalsePositiveRate))
+                .description("False-positive rate estimated from the filter's bit fill")
+                .register(meterRegistry);
+        Gauge.builder("customers.identity.filter.observed.fpp", this, CustomerIdentityFilter::observedFalsePositiveRate)
+                .description("Share of absent values the filter failed to rule out")
+                .register(meterRegistry);
+        Gauge.builder("customers.identity.filter.memory", this, f -> f.stat(BloomFilter::sizeInBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(EMAIL_PREFIX + email);
+    }
+
+    public boolean mightContainPhoneNumber(Long phoneNumber) {
+        return mightContain(PHONE_PREFIX + phoneNumber);
+    }
+
+    /**
+     * Called when a lookup the filter passed on found nothing in the database.
+     */
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Applied once the surrounding transaction commits: by then a rebuild either sees the row in its snapshot or
+     * is already registered as {@code rebuilding} (or finished) and takes the key here.
+     */
+    public void add(String email, Long phoneNumber) {
+        AfterCommit.run(() -> put(email, phoneNumber));
+    }
+
+    private synchronized void put(String email, Long phoneNumber) {
+        if (current == null && rebuilding == null) {
+            return;
+        }
+        for (BloomFilter filter : new BloomFilter[]{current, rebuilding}) {
+            if (filter != null) {
+                filter.put(EMAIL_PREFIX + email);
+                filter.put(PHONE_PREFIX + phoneNumber);
+            }
+        }
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.REBUILD_SCHEDULER, initialDelayString = "0",
+            fixedDelayString = "${customers.identity-filter.rebuild-interval:PT6H}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            Long customers = jdbcTemplate.queryForObject("select count(*) from customer", Long.class);
+            // two keys per customer, with room for as many new registrations again before the next rebuild
+            BloomFilter filter = BloomFilter.create(
+                    Math.max(minExpectedInsertions, 4 * (customers == null ? 0 : customers)), falsePositiveRate);
+            synchronized (this) {
+                rebuilding = filter;
+            }
+            // Postgres only streams with a cursor inside a transaction; otherwise the whole result is buffered
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                var statement = con.prepareStatement("select email, phone_number from customer");
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, rs -> {
+                filter.put(EMAIL_PREFIX + rs.getString(1));
+                filter.put(PHONE_PREFIX + rs.getLong(2));
+            }));
+            synchronized (this) {
+                current = filter;
+                rebuilding = null;
+            }
+            log.info("Rebuilt customer identity filter over {} customers in {} ms ({} KiB, expected fpp {})",
+                    customers, (System.nanoTime() - started) / 1_000_000, filter.sizeInBytes() / 1024,
+                    String.format("%.5f", filter.expectedFalsePositiveRate()));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            log.warn("Customer identity filter rebuild failed, keeping the previous filter", e);
+        }
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return true;
+        }
+        if (filter.mightContain(key)) {
+            checkedQueries.increment();
+            return true;
+        }
+        skippedQueries.increment();
+        return false;
+    }
+
+    private double observedFalsePositiveRate() {
+        double absent = skippedQueries.count() + falsePositives.count();
+        return absent == 0 ? 0 : falsePositives.count() / absent;
+    }
+
+    private double stat(ToDoubleFunction<BloomFilter> statistic) {
+        BloomFilter filter = current;
+        return filter == null ? Double.NaN : statistic.applyAsDouble(filter);
+    }
+}
@@ -1,7 +1,16 @@
 package com.naren.movieticketbookingapplication.Dao;
 
+import com.naren.movieticketbookingapplication.Dto.CustomerMovie;
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieSuggestion;
+import com.naren.movieticketbookingapplication.Dto.SubscribedMovie;
 import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
+import com.naren.movieticketbookingapplication.Record.MovieSort;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +26,35 @@ public interface MovieDao {
     boolean existsByName(String name);
 
     List<Movie> getMovieList();
+
+    Slice<Movie> getMoviesAfter(Long afterId, int size);
+
+    /**
+     * Up to {@code limit} movies within the filter bounds that come after ({@code afterValue}, {@code afterId})
+     * in the given order.
+     */
+    List<Movie> getMoviesAfter(MovieFilter filter, MovieSort sort, double afterValue, long afterId, int limit);
+
+    List<Movie> getTopRatedMovies(int limit);
+
+    List<SubscribedMovie> getMostSubscribedMovies(int limit);
+
+    List<CustomerMovie> getMoviesByCustomerIds(Collection<Long> customerIds);
+
+    List<Movie> getMoviesByIds(Collection<Long> ids);
+
+    List<MovieSearchResult> searchMovies(String query, double afterScore, long afterId, int limit);
+
+    List<MovieSuggestion> completeMovieNames(String prefix, int limit);
+
+    List<MovieRecommendation> getRecommendedMovies(Long movieId, int limit);
+
+    List<Movie> getMoviesByNames(Collection<String> names);
+
+    /**
+     * Writes deletes, then updates, then inserts. {@code updates} must be detached copies, not edited managed
+     * entities, or their changes are flushed before the deletes.
+     */
+    void writeBatch(Collection<Movie> deletes, Collection<Movie> updates, Collection<Movie> inserts);
 }
 
@@ -1,68 +1,256 @@
 package com.naren.movieticketbookingapplication.Dao;
 
+import com.naren.movieticketbookingapplication.Dto.CustomerMovie;
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieSuggestion;
+import com.naren.movieticketbookingapplication.Dto.SubscribedMovie;
 import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
+import com.naren.movieticketbookingapplication.Record.MovieSort;
 import com.naren.movieticketbookingapplication.Repo.MovieRepository;
+import com.naren.movieticketbookingapplication.Util.CoSubscriptionIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @Slf4j
 public class MovieDaoImpl implements MovieDao {
 
+    private static final Map<MovieSort, String> SORTED_PAGE_SQL = new EnumMap<>(MovieSort.class);
+
+    static {
+        for (MovieSort sort : MovieSort.values()) {
+            SORTED_PAGE_SQL.put(sort, sortedPageSql(sort));
+        }
+    }
+
     private final MovieRepository movieRepository;
+    private final MovieNameIndex nameIndex;
+    private final MovieRecommendationIndex recommendationIndex;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MovieDaoImpl(MovieRepository movieRepository) {
+    public MovieDaoImpl(MovieRepository movieRepository, MovieNameIndex nameIndex,
+                        MovieRecommendationIndex recommendationIndex, JdbcTemplate jdbcTemplate) {
         this.movieRepository = movieRepository;
+        this.nameIndex = nameIndex;
+        this.recommendationIndex = recommendationIndex;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public void addMovie(Movie movie) {
-        log.info("Adding movie: {}", movie);
+        log.debug("Adding movie: {}", movie);
         movieRepository.save(movie);
-        log.info("Movie added successfully: {}", movie);
+        nameIndex.put(movie);
+        log.debug("Movie added successfully: {}", movie);
     }
 
     @Override
     public void removeMovie(Movie movie) {
-        log.info("Removing movie: {}", movie);
+        log.debug("Removing movie: {}", movie);
         movieRepository.delete(movie);
-        log.info("Movie removed successfully: {}", movie);
+        nameIndex.remove(movie);
+        log.debug("Movie removed successfully: {}", movie);
     }
 
     @Override
     public Optional<Movie> getMovieById(Long id) {
-        log.info("Fetching movie by ID: {}", id);
+        log.debug("Fetching movie by ID: {}", id);
         Optional<Movie> movie = movieRepository.findById(id);
-        log.info("Movie fetched: {}", movie.orElse(null));
+        log.debug("Movie fetched: {}", movie.orElse(null));
         return movie;
     }
 
     @Override
     public void updateMovie(Movie movie) {
-        log.info("Updating movie: {}", movie);
+        log.debug("Updating movie: {}", movie);
         movieRepository.save(movie);
-        log.info("Movie updated successfully: {}", movie);
+        nameIndex.put(movie);
+        log.debug("Movie updated successfully: {}", movie);
     }
 
     @Override
     public boolean existsByName(String name) {
-        log.info("Checking if movie exists by name: {}", name);
+        log.debug("Checking if movie exists by name: {}", name);
         boolean exists = movieRepository.existsByName(name);
-        log.info("Movie exists by name '{}': {}", name, exists);
+        log.debug("Movie exists by name '{}': {}", name, exists);
         return exists;
     }
 
     @Override
     public List<Movie> getMovieList() {
-        log.info("Fetching list of movies");
+        log.debug("Fetching list of movies");
         Page<Movie> movies = movieRepository.findAll(Pageable.ofSize(1000));
         List<Movie> movieList = movies.getContent();
-        log.info("Fetched {} movies", movieList.size());
+        log.debug("Fetched {} movies", movieList.size());
         return movieList;
     }
+
+    @Override
+    public Slice<Movie> getMoviesAfter(Long afterId, int size) {
+        log.debug("Fetching {} movies after ID: {}", size, afterId);
+        Slice<Movie> movies = movieRepository.findMoviesAfter(afterId, PageRequest.ofSize(size));
+        log.debug("Fetched {} movies, hasNext: {}", movies.getNumberOfElements(), movies.hasNext());
+        return movies;
+    }
+
+    @Override
+    public List<Movie> getMoviesAfter(MovieFilter filter, MovieSort sort, double afterValue, long afterId, int limit) {
+        log.debug("Fetching {} movies matching {} by {} after {} and ID {}", limit, filter, sort, afterValue, afterId);
+        List<Movie> movies = jdbcTemplate.query(SORTED_PAGE_SQL.get(sort),
+                (rs, i) -> new Movie(rs.getLong(1), rs.getString(2), rs.getDouble(3), rs.getDouble(4)),
+                sortedPageArguments(filter, sort, afterValue, afterId, limit));
+        log.debug("Fetched {} movies", movies.size());
+        return movies;
+    }
+
+    /**
+     * The page is located with an index-only scan over the sort index, whose included column answers the other
+     * filter, and only the rows on the page are then read from the table. Missing bounds are open intervals
+     * rather than optional predicates so every query keeps the same shape and plan.
+     */
+    static String sortedPageSql(MovieSort sort) {
+        String direction = sort.descending() ? "desc" : "asc";
+        String after = sort == MovieSort.ID
+                ? "movie_id > ?"
+                : "(%s, movie_id) %s (?, ?)".formatted(sort.column(), sort.descending() ? "<" : ">");
+        return """
+                select m.movie_id, m.name, m.cost, m.rating
+                from (select movie_id, %1$s sort_value
+                      from movie
+                      where rating between ? and ? and cost between ? and ?
+                        and %2$s
+                      order by %1$s %3$s, movie_id %3$s
+                      limit ?) page
+                join movie m on m.movie_id = page.movie_id
+                order by page.sort_value %3$s, page.movie_id %3$s
+                """.formatted(sort.column(), after, direction);
+    }
+
+    static Object[] sortedPageArguments(MovieFilter filter, MovieSort sort, double afterValue, long afterId, int limit) {
+        double minRating = bound(filter.minRating(), Double.NEGATIVE_INFINITY);
+        double maxRating = bound(filter.maxRating(), Double.POSITIVE_INFINITY);
+        double minCost = bound(filter.minCost(), Double.NEGATIVE_INFINITY);
+        double maxCost = bound(filter.maxCost(), Double.POSITIVE_INFINITY);
+        return sort == MovieSort.ID
+                ? new Object[]{minRating, maxRating, minCost, maxCost, afterId, limit}
+                : new Object[]{minRating, maxRating, minCost, maxCost, afterValue, afterId, limit};
+    }
+
+    private static double bound(Double value, double open) {
+        return value == null ? open : value;
+    }
+
+    @Override
+    public List<Movie> getTopRatedMovies(int limit) {
+        log.debug("Fetching top {} movies by rating", limit);
+        List<Movie> movies = movieRepository.findTopRated(PageRequest.ofSize(limit));
+        log.debug("Fetched {} top rated movies", movies.size());
+        return movies;
+    }
+
+    @Override
+    public List<SubscribedMovie> getMostSubscribedMovies(int limit) {
+        log.debug("Fetching top {} movies by subscribers", limit);
+        List<SubscribedMovie> movies = movieRepository.findMostSubscribed(limit).stream()
+                .map(count -> new SubscribedMovie(count.getMovieId(), count.getName(), count.getRating(),
+                        count.getSubscribers()))
+                .toList();
+        log.debug("Fetched {} most subscribed movies", movies.size());
+        return movies;
+    }
+
+    @Override
+    public List<CustomerMovie> getMoviesByCustomerIds(Collection<Long> customerIds) {
+        log.debug("Fetching movies for {} customers", customerIds.size());
+        List<CustomerMovie> movies = movieRepository.findCustomerMovies(customerIds);
+        log.debug("Fetched {} customer movies", movies.size());
+        return movies;
+    }
+
+    @Override
+    public List<Movie> getMoviesByIds(Collection<Long> ids) {
+        log.debug("Fetching {} movies by ID", ids.size());
+        List<Movie> movies = ids.isEmpty() ? List.of() : movieRepository.findAllById(ids);
+        log.debug("Fetched {} movies by ID", movies.size());
+        return movies;
+    }
+
+    @Override
+    public List<MovieSearchResult> searchMovies(String query, double afterScore, long afterId, int limit) {
+        log.debug("Searching {} movies for '{}' after score {} and ID {}", limit, query, afterScore, afterId);
+        List<MovieSearchResult> results = movieRepository.searchMovies(query, afterScore, afterId, limit);
+        log.debug("Found {} movies", results.size());
+        return results;
+    }
+
+    @Override
+    public List<MovieSuggestion> completeMovieNames(String prefix, int limit) {
+        log.debug("Completing up to {} movie names for '{}'", limit, prefix);
+        List<MovieSuggestion> suggestions = nameIndex.complete(prefix, limit).stream()
+                .map(match -> new MovieSuggestion(match.id(), match.text(), match.score()))
+                .toList();
+        log.debug("Found {} movie names", suggestions.size());
+        return suggestions;
+    }
+
+    @Override
+    public List<MovieRecommendation> getRecommendedMovies(Long movieId, int limit) {
+        log.debug("Fetching up to {} recommendations for movie {}", limit, movieId);
+        List<CoSubscriptionIndex.Neighbour> neighbours = recommendationIndex.neighbours(movieId, limit);
+        List<Long> ids = neighbours.stream().map(CoSubscriptionIndex.Neighbour::movieId).toList();
+        Map<Long, Movie> movies = (ids.isEmpty() ? List.<Movie>of() : movieRepository.findAllById(ids)).stream()
+                .collect(Collectors.toMap(Movie::getMovie_id, Function.identity()));
+        // neighbours deleted since the last rebuild drop out here
+        List<MovieRecommendation> recommendations = neighbours.stream()
+                .filter(neighbour -> movies.containsKey(neighbour.movieId()))
+                .map(neighbour -> {
+                    Movie movie = movies.get(neighbour.movieId());
+                    return new MovieRecommendation(movie.getMovie_id(), movie.getName(), movie.getRating(),
+                            neighbour.commonSubscribers(), neighbour.score());
+                })
+                .toList();
+        log.debug("Found {} recommendations", recommendations.size());
+        return recommendations;
+    }
+
+    @Override
+    public List<Movie> getMoviesByNames(Collection<String> names) {
+        log.debug("Fetching movies for {} names", names.size());
+        List<Movie> movies = names.isEmpty() ? List.of() : movieRepository.findByNameIn(names);
+        log.debug("Fetched {} movies by name", movies.size());
+        return movies;
+    }
+
+    @Override
+    public void writeBatch(Collection<Movie> deletes, Collection<Movie> updates, Collection<Movie> inserts) {
+        log.debug("Writing movie batch: {} deletes, {} updates, {} inserts", deletes.size(), updates.size(), inserts.size());
+        // flushed in stages so names released by deletes and renames are free before the inserts reuse them;
+        // Hibernate's own flush order would run inserts, then updates, then deletes. Updates must be detached
+        // copies: a managed entity changed before this call would go out with the deletes' flush, ahead of them
+        movieRepository.deleteAll(deletes);
+        movieRepository.flush();
+        movieRepository.saveAll(updates);
+        movieRepository.flush();
+        movieRepository.saveAll(inserts);
+        movieRepository.flush();
+        deletes.forEach(nameIndex::remove);
+        updates.forEach(nameIndex::put);
+        inserts.forEach(nameIndex::put);
+        log.debug("Movie batch written");
+    }
 }
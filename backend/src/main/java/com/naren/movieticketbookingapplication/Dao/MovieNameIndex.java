@@ -0,0 +1,128 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Config.SchedulingConfig;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Util.AfterCommit;
+import com.naren.movieticketbookingapplication.Util.PrefixIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * In-memory autocomplete over movie names, ranked by rating (see {@link PrefixIndex}). Lookups never touch the
+ * database.
+ * <p>
+ * The index is loaded from the movie table at startup and rebuilt every {@code rebuild-interval}, which also
+ * picks up bulk catalog loads. In between, the DAO passes every movie write along and the change is applied once
+ * the surrounding transaction commits, so a rolled-back name never shows up. Changes that commit while a rebuild
+ * is loading are replayed onto the new index before it replaces the old one. Until the first load finishes
+ * lookups return nothing.
+ */
+@Slf4j
+@Component
+public class MovieNameIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int topK;
+    private final int fetchSize;
+
+    private volatile PrefixIndex current;
+    private volatile long sizeInBytes;
+    private List<Consumer<PrefixIndex>> pending;
+
+    public MovieNameIndex(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${movies.autocomplete.enabled:true}") boolean enabled,
+                          @Value("${movies.autocomplete.top-k:10}") int topK,
+                          @Value("${movies.autocomplete.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.topK = topK;
+        this.fetchSize = fetchSize;
+
+        Gauge.builder("movies.autocomplete.titles", this, index -> index.current == null ? Double.NaN : index.current.size())
+                .description("Movie names in the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("movies.autocomplete.memory", this, index -> index.current == null ? Double.NaN : index.sizeInBytes)
+                .description("Estimated heap footprint of the autocomplete index as of the last rebuild")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<PrefixIndex.Match> complete(String prefix, int limit) {
+        PrefixIndex index = current;
+        return index == null ? List.of() : index.complete(prefix, limit);
+    }
+
+    public void put(Movie movie) {
+        long id = movie.getMovie_id();
+        String name = movie.getName();
+        double rating = movie.getRating();
+        AfterCommit.run(() -> apply(index -> index.put(id, name, rating)));
+    }
+
+    public void remove(Movie movie) {
+        long id = movie.getMovie_id();
+        AfterCommit.run(() -> apply(index -> index.remove(id)));
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.REBUILD_SCHEDULER, initialDelayString = "0",
+            fixedDelayString = "${movies.autocomplete.rebuild-interval:PT1H}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            PrefixIndex index = new PrefixIndex(topK);
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            // Postgres only streams with a cursor inside a transaction; otherwise the whole result is buffered
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                var statement = con.prepareStatement("select movie_id, name, rating from movie");
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, rs -> {
+                index.put(rs.getLong(1), rs.getString(2), rs.getDouble(3));
+            }));
+            synchronized (this) {
+                pending.forEach(change -> change.accept(index));
+                pending = null;
+                current = index;
+            }
+            sizeInBytes = index.sizeInBytes();
+            log.info("Rebuilt movie name index over {} movies in {} ms ({} KiB, {} nodes)",
+                    index.size(), (System.nanoTime() - started) / 1_000_000, sizeInBytes / 1024, index.nodeCount());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            log.warn("Movie name index rebuild failed, keeping the previous index", e);
+        }
+    }
+
+    private synchronized void apply(Consumer<PrefixIndex> change) {
+        if (current != null) {
+            change.accept(current);
+        }
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+}
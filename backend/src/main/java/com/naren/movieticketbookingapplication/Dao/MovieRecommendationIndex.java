@@ -0,0 +1,114 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Config.SchedulingConfig;
+import com.naren.movieticketbookingapplication.Util.CoSubscriptionIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory "customers who subscribed to this also subscribed to" neighbours (see {@link CoSubscriptionIndex}).
+ * Lookups never touch the database.
+ * <p>
+ * The index is built from {@code customer_movie} at startup and rebuilt every {@code rebuild-interval} on a
+ * dedicated fork/join pool, so a rebuild never competes with parallel streams on the common pool. It is not
+ * updated between rebuilds: recommendations follow subscriptions with up to one interval of lag, and a deleted
+ * movie may still be named until then. Until the first build finishes lookups return nothing.
+ */
+@Slf4j
+@Component
+public class MovieRecommendationIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int topK;
+    private final int maxSubscriptionsPerCustomer;
+    private final int fetchSize;
+    private final ForkJoinPool pool;
+    private final Timer rebuildTimer;
+
+    private volatile CoSubscriptionIndex current;
+
+    public MovieRecommendationIndex(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${movies.recommendations.enabled:true}") boolean enabled,
+                                    @Value("${movies.recommendations.top-k:20}") int topK,
+                                    @Value("${movies.recommendations.max-subscriptions-per-customer:500}") int maxSubscriptionsPerCustomer,
+                                    @Value("${movies.recommendations.parallelism:0}") int parallelism,
+                                    @Value("${movies.recommendations.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.topK = topK;
+        this.maxSubscriptionsPerCustomer = maxSubscriptionsPerCustomer;
+        this.fetchSize = fetchSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+
+        this.rebuildTimer = Timer.builder("movies.recommendations.rebuild")
+                .description("Time to load subscriptions and rebuild the recommendation index")
+                .register(meterRegistry);
+        Gauge.builder("movies.recommendations.movies", this, index -> index.current == null ? Double.NaN : index.current.movies())
+                .description("Movies with at least one subscriber in the recommendation index")
+                .register(meterRegistry);
+        Gauge.builder("movies.recommendations.memory", this, index -> index.current == null ? Double.NaN : index.current.sizeInBytes())
+                .description("Estimated heap footprint of the recommendation index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<CoSubscriptionIndex.Neighbour> neighbours(long movieId, int limit) {
+        CoSubscriptionIndex index = current;
+        return index == null ? List.of() : index.neighbours(movieId, limit);
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.REBUILD_SCHEDULER, initialDelayString = "0",
+            fixedDelayString = "${movies.recommendations.rebuild-interval:PT1H}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            CoSubscriptionIndex.Builder builder = CoSubscriptionIndex.builder(maxSubscriptionsPerCustomer);
+            // Postgres only streams with a cursor inside a transaction; the primary key returns customers in order
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                var statement = con.prepareStatement(
+                        "select customer_id, movie_id from customer_movie order by customer_id");
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, rs -> {
+                builder.add(rs.getLong(1), rs.getLong(2));
+            }));
+            long loaded = System.nanoTime();
+            CoSubscriptionIndex index = builder.build(pool, topK);
+            current = index;
+            long finished = System.nanoTime();
+            rebuildTimer.record(finished - started, TimeUnit.NANOSECONDS);
+            log.info("Rebuilt movie recommendations for {} movies in {} ms (load {} ms, {} neighbours, {} KiB)",
+                    index.movies(), (finished - started) / 1_000_000, (loaded - started) / 1_000_000,
+                    index.pairs(), index.sizeInBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.warn("Movie recommendation rebuild failed, keeping the previous index", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,17 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveMovieDao {
+    Mono<Movie> getMovieById(Long id);
+
+    /**
+     * Movies with an id above {@code afterId} in id order, fetched from the database as the subscriber
+     * requests them.
+     *
+     * @param limit maximum number of movies, or 0 for all of them
+     */
+    Flux<Movie> streamMoviesAfter(long afterId, long limit);
+}
@@ -0,0 +1,55 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC access to the {@code movie} table for the reactive catalog. Streaming reads run as a portal with
+ * {@code fetch-size} rows per round trip, so a slow client holds back the database cursor instead of
+ * buffering the catalog in memory.
+ */
+@Slf4j
+@Repository
+public class ReactiveMovieDaoImpl implements ReactiveMovieDao {
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveMovieDaoImpl(DatabaseClient databaseClient,
+                                @Value("${catalog.reactive.fetch-size:500}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Mono<Movie> getMovieById(Long id) {
+        return databaseClient.sql("SELECT movie_id, name, cost, rating FROM movie WHERE movie_id = :id")
+                .bind("id", id)
+                .map(ReactiveMovieDaoImpl::toMovie)
+                .one();
+    }
+
+    @Override
+    public Flux<Movie> streamMoviesAfter(long afterId, long limit) {
+        String sql = "SELECT movie_id, name, cost, rating FROM movie WHERE movie_id > :afterId ORDER BY movie_id"
+                + (limit > 0 ? " LIMIT :limit" : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("afterId", afterId)
+                .filter(statement -> statement.fetchSize(fetchSize));
+        if (limit > 0) {
+            spec = spec.bind("limit", limit);
+        }
+        return spec.map(ReactiveMovieDaoImpl::toMovie).all();
+    }
+
+    private static Movie toMovie(Readable row) {
+        return new Movie(row.get("movie_id", Long.class), row.get("name", String.class),
+                row.get("cost", Double.class), row.get("rating", Double.class));
+    }
+}
@@ -0,0 +1,16 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Entity.Screen;
+import com.naren.movieticketbookingapplication.Entity.Showtime;
+
+import java.util.Optional;
+
+public interface ShowtimeDao {
+    void addScreen(Screen screen);
+
+    boolean screenExistsByName(String name);
+
+    Optional<Screen> getScreen(Long screenId);
+
+    void addShowtime(Showtime showtime);
+}
@@ -0,0 +1,48 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.Entity.Screen;
+import com.naren.movieticketbookingapplication.Entity.Showtime;
+import com.naren.movieticketbookingapplication.Repo.ScreenRepository;
+import com.naren.movieticketbookingapplication.Repo.ShowtimeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@Slf4j
+public class ShowtimeDaoImpl implements ShowtimeDao {
+
+    private final ScreenRepository screenRepository;
+    private final ShowtimeRepository showtimeRepository;
+
+    public ShowtimeDaoImpl(ScreenRepository screenRepository, ShowtimeRepository showtimeRepository) {
+        this.screenRepository = screenRepository;
+        this.showtimeRepository = showtimeRepository;
+    }
+
+    @Override
+    public void addScreen(Screen screen) {
+        log.info("Adding screen: {}", screen);
+        screenRepository.save(screen);
+        log.info("Screen added successfully: {}", screen);
+    }
+
+    @Override
+    public boolean screenExistsByName(String name) {
+        return screenRepository.existsByName(name);
+    }
+
+    @Override
+    public Optional<Screen> getScreen(Long screenId) {
+        log.info("Fetching screen by ID: {}", screenId);
+        return screenRepository.findById(screenId);
+    }
+
+    @Override
+    public void addShowtime(Showtime showtime) {
+        log.info("Adding showtime: {}", showtime);
+        showtimeRepository.save(showtime);
+        log.info("Showtime added successfully: {}", showtime);
+    }
+}
@@ -0,0 +1,13 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record BookingDTO(
+        Long bookingId,
+        Long showtimeId,
+        Long customerId,
+        List<Integer> seats,
+        Instant createdAt
+) {
+}
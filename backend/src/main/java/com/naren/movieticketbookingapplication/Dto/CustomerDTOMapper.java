@@ -1,10 +1,13 @@
 package com.naren.movieticketbookingapplication.Dto;
 
 import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Entity.Movie;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -31,4 +34,20 @@ public class CustomerDTOMapper implements Function<Customer, CustomerDTO> {
         log.debug("Mapped Customer to CustomerDTO: {}", customerDTO);
         return customerDTO;
     }
+
+    public CustomerDTO apply(CustomerSummary summary, List<Movie> movies) {
+        List<String> roles = summary.getRoles() == null
+                ? List.of()
+                : Arrays.asList(summary.getRoles().split(","));
+
+        return new CustomerDTO(
+                summary.getId(),
+                summary.getName(),
+                summary.getEmail(),
+                roles,
+                summary.getPhoneNumber(),
+                summary.getEmail(),
+                movies
+        );
+    }
 }
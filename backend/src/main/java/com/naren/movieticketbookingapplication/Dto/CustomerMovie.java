@@ -0,0 +1,9 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+public record CustomerMovie(
+        Long customerId,
+        Long movieId,
+        String name,
+        Double cost,
+        Double rating) {
+}
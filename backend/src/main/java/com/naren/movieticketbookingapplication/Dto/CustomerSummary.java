@@ -0,0 +1,17 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+/**
+ * Read-only projection of a customer row with its role names aggregated into a comma separated list.
+ */
+public interface CustomerSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getEmail();
+
+    Long getPhoneNumber();
+
+    String getRoles();
+}
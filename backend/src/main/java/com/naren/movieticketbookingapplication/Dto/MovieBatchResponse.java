@@ -0,0 +1,14 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import java.util.List;
+
+public record MovieBatchResponse(
+        int applied,
+        int rejected,
+        List<MovieBatchResult> results
+) {
+    public static MovieBatchResponse of(List<MovieBatchResult> results) {
+        int applied = (int) results.stream().filter(r -> r.status().applied()).count();
+        return new MovieBatchResponse(applied, results.size() - applied, results);
+    }
+}
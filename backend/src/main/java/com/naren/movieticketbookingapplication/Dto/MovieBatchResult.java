@@ -0,0 +1,19 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation;
+
+public record MovieBatchResult(
+        int index,
+        MovieBatchOperation.Type op,
+        Status status,
+        Long movieId,
+        String message
+) {
+    public enum Status {
+        CREATED, UPDATED, DELETED, CONFLICT, NOT_FOUND, INVALID;
+
+        public boolean applied() {
+            return this == CREATED || this == UPDATED || this == DELETED;
+        }
+    }
+}
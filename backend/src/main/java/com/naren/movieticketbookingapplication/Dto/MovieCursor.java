@@ -0,0 +1,37 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor handed to clients paging through the movie catalog.
+ * It carries the id of the last movie on the previous page; clients must treat it as an opaque token.
+ */
+public record MovieCursor(Long lastMovieId) {
+
+    private static final String PREFIX = "m:";
+
+    public static final MovieCursor START = new MovieCursor(0L);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastMovieId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovieCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new RequestValidationException("Invalid cursor");
+            }
+            return new MovieCursor(Long.parseLong(decoded.substring(PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new RequestValidationException("Invalid cursor");
+        }
+    }
+}
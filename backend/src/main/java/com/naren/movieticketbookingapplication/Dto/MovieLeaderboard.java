@@ -0,0 +1,18 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Entity.Movie;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable leaderboard snapshot: top movies by rating and by subscriber count, and when the boards were last
+ * reconciled against the database.
+ */
+public record MovieLeaderboard(
+        List<Movie> topRated,
+        List<SubscribedMovie> mostSubscribed,
+        Instant reconciledAt) {
+
+    public static final MovieLeaderboard EMPTY = new MovieLeaderboard(List.of(), List.of(), null);
+}
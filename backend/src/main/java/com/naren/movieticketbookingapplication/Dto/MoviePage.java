@@ -0,0 +1,10 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Entity.Movie;
+
+import java.util.List;
+
+public record MoviePage(
+        List<Movie> movies,
+        String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+public record MovieRecommendation(
+        Long movieId,
+        String name,
+        Double rating,
+        int commonSubscribers,
+        double score) {
+}
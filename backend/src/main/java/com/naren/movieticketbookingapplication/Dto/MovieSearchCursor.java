@@ -0,0 +1,39 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for ranked search results, which are ordered by score descending and then by id.
+ * It carries the score and id of the last movie on the previous page.
+ */
+public record MovieSearchCursor(double lastScore, long lastMovieId) {
+
+    private static final String PREFIX = "s:";
+
+    public static final MovieSearchCursor START = new MovieSearchCursor(Double.MAX_VALUE, 0L);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastScore + ":" + lastMovieId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovieSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(':');
+            if (!decoded.startsWith(PREFIX) || separator <= PREFIX.length()) {
+                throw new RequestValidationException("Invalid cursor");
+            }
+            return new MovieSearchCursor(Double.parseDouble(decoded.substring(PREFIX.length(), separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new RequestValidationException("Invalid cursor");
+        }
+    }
+}
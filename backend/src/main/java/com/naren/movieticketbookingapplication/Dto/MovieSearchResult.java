@@ -0,0 +1,17 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+/**
+ * A movie matching a search query together with its relevance score.
+ */
+public interface MovieSearchResult {
+
+    Long getMovieId();
+
+    String getName();
+
+    Double getCost();
+
+    Double getRating();
+
+    Double getScore();
+}
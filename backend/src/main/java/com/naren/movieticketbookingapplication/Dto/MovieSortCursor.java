@@ -0,0 +1,47 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
+import com.naren.movieticketbookingapplication.Record.MovieSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for filtered or sorted catalog pages: the sort it was issued for, and the sort value and
+ * id of the last movie on the previous page. A cursor is only valid with the sort it was issued for.
+ */
+public record MovieSortCursor(MovieSort sort, double lastValue, long lastMovieId) {
+
+    private static final String PREFIX = "k:";
+
+    public static MovieSortCursor start(MovieSort sort) {
+        return sort.descending()
+                ? new MovieSortCursor(sort, Double.POSITIVE_INFINITY, Long.MAX_VALUE)
+                : new MovieSortCursor(sort, Double.NEGATIVE_INFINITY, 0L);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + sort + ":" + lastValue + ":" + lastMovieId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovieSortCursor decode(String cursor, MovieSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return start(sort);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.startsWith(PREFIX) ? decoded.substring(PREFIX.length()).split(":") : new String[0];
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new RequestValidationException("Invalid cursor");
+            }
+            double lastValue = Double.parseDouble(parts[1]);
+            if (Double.isNaN(lastValue)) {
+                throw new RequestValidationException("Invalid cursor");
+            }
+            return new MovieSortCursor(sort, lastValue, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new RequestValidationException("Invalid cursor");
+        }
+    }
+}
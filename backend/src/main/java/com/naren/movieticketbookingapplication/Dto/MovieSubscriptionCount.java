@@ -0,0 +1,15 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+/**
+ * A movie together with the number of customers subscribed to it.
+ */
+public interface MovieSubscriptionCount {
+
+    Long getMovieId();
+
+    String getName();
+
+    Double getRating();
+
+    Long getSubscribers();
+}
@@ -0,0 +1,7 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+public record MovieSuggestion(
+        Long movieId,
+        String name,
+        Double rating) {
+}
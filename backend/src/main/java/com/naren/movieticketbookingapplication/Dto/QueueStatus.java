@@ -0,0 +1,8 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+public record QueueStatus(
+        String ticket,
+        long position,
+        long estimatedWaitSeconds
+) {
+}
@@ -0,0 +1,13 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SeatAvailability(
+        Long showtimeId,
+        Instant startsAt,
+        int capacity,
+        int available,
+        List<Integer> takenSeats
+) {
+}
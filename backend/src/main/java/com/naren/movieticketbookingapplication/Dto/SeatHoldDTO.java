@@ -0,0 +1,13 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SeatHoldDTO(
+        String holdId,
+        Long showtimeId,
+        Long customerId,
+        List<Integer> seats,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.naren.movieticketbookingapplication.Dto;
+
+public record SubscribedMovie(
+        Long movieId,
+        String name,
+        Double rating,
+        long subscribers) {
+}
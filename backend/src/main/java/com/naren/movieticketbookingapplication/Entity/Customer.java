@@ -27,7 +27,7 @@ public class Customer implements UserDetails {
     @Id
     @SequenceGenerator(name = "customer_id",
             sequenceName = "customer_id",
-            allocationSize = 1)
+            allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE,
             generator = "customer_id")
     private Long customer_id;
@@ -44,7 +44,15 @@ public class Customer implements UserDetails {
     @Column(name = "phone_number", nullable = false)
     private Long phoneNumber;
 
-    @OneToMany(mappedBy = "customer", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "customer_movie",
+            joinColumns = @JoinColumn(name = "customer_id"),
+            inverseJoinColumns = @JoinColumn(
+                    name = "movie_id",
+                    foreignKey = @ForeignKey(name = "fk_customer_movie_movie_id")
+            ),
+            foreignKey = @ForeignKey(name = "fk_customer_movie_customer_id")
+    )
     @JsonIgnore
     private List<Movie> movies = new ArrayList<>();
 
@@ -82,7 +90,6 @@ public class Customer implements UserDetails {
                 "customer_id=" + customer_id +
                 ", name='" + name + '\'' +
                 ", email='" + email + '\'' +
-                ", password='" + password + '\'' +
                 ", phoneNumber=" + phoneNumber +
                 '}';
     }
@@ -136,17 +143,13 @@ public class Customer implements UserDetails {
     }
 
     public void addMovie(Movie movie) {
-        if (!movies.contains(movie) && movie != null) {
+        if (movie != null && !movies.contains(movie)) {
             movies.add(movie);
-            movie.setCustomer(this);
         }
     }
 
     public void removeMovie(Movie movie) {
-        if (movies.contains(movie) && movie != null) {
-            movies.remove(movie);
-            movie.setCustomer(null);
-        }
+        movies.remove(movie);
     }
 
     public void addRole(Role role) {
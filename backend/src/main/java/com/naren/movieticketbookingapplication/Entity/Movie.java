@@ -1,6 +1,5 @@
 package com.naren.movieticketbookingapplication.Entity;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,7 +22,7 @@ public class Movie {
             generator = "movie_id")
     @SequenceGenerator(name = "movie_id",
             sequenceName = "movie_id",
-            allocationSize = 1)
+            allocationSize = 50)
     private Long movie_id;
 
     @Column(name = "name", nullable = false, columnDefinition = "TEXT")
@@ -35,12 +34,6 @@ public class Movie {
     @Column(name = "rating", nullable = false)
     private Double rating;
 
-    @ManyToOne
-    @JoinColumn(name = "customer_id",
-            foreignKey = @ForeignKey(name = "fk_customer_movie_id"))
-    @JsonBackReference
-    private Customer customer;
-
     public Movie(Long movie_id, String name, Double cost, Double rating) {
         this.movie_id = movie_id;
         this.name = name;
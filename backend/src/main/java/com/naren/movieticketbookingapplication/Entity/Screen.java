@@ -0,0 +1,54 @@
+package com.naren.movieticketbookingapplication.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "screen", uniqueConstraints = {
+        @UniqueConstraint(name = "screen_name_unique",
+                columnNames = "name")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Screen {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "screen_id")
+    @SequenceGenerator(name = "screen_id",
+            sequenceName = "screen_id",
+            allocationSize = 50)
+    private Long screen_id;
+
+    @Column(name = "name", nullable = false, columnDefinition = "TEXT")
+    private String name;
+
+    @Column(name = "seat_rows", nullable = false)
+    private Integer seatRows;
+
+    @Column(name = "seats_per_row", nullable = false)
+    private Integer seatsPerRow;
+
+    public Screen(String name, Integer seatRows, Integer seatsPerRow) {
+        this.name = name;
+        this.seatRows = seatRows;
+        this.seatsPerRow = seatsPerRow;
+    }
+
+    public int getCapacity() {
+        return seatRows * seatsPerRow;
+    }
+
+    @Override
+    public String toString() {
+        return "Screen{" +
+                "screen_id=" + screen_id +
+                ", name='" + name + '\'' +
+                ", seatRows=" + seatRows +
+                ", seatsPerRow=" + seatsPerRow +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.naren.movieticketbookingapplication.Entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "showtime", uniqueConstraints = {
+        @UniqueConstraint(name = "showtime_screen_start_unique",
+                columnNames = {"screen_id", "starts_at"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Showtime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+            generator = "showtime_id")
+    @SequenceGenerator(name = "showtime_id",
+            sequenceName = "showtime_id",
+            allocationSize = 50)
+    private Long showtime_id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "movie_id",
+            foreignKey = @ForeignKey(name = "fk_showtime_movie_id"))
+    @JsonIgnore
+    private Movie movie;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "screen_id",
+            foreignKey = @ForeignKey(name = "fk_showtime_screen_id"))
+    @JsonIgnore
+    private Screen screen;
+
+    @Column(name = "starts_at", nullable = false)
+    private Instant startsAt;
+
+    public Showtime(Movie movie, Screen screen, Instant startsAt) {
+        this.movie = movie;
+        this.screen = screen;
+        this.startsAt = startsAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Showtime{" +
+                "showtime_id=" + showtime_id +
+                ", startsAt=" + startsAt +
+                '}';
+    }
+}
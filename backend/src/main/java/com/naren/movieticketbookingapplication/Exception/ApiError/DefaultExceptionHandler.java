@@ -1,9 +1,14 @@
 package com.naren.movieticketbookingapplication.Exception.ApiError;
 
+import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
+import com.naren.movieticketbookingapplication.Exception.SeatUnavailableException;
+import com.naren.movieticketbookingapplication.Exception.ServiceOverloadedException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -31,6 +36,50 @@ public class DefaultExceptionHandler {
         return new ResponseEntity<>(apiError, NOT_FOUND);
     }
 
+    @ExceptionHandler(ResourceAlreadyExists.class)
+    public ResponseEntity<ApiError> handleException(ResourceAlreadyExists e,
+                                                    HttpServletRequest request) {
+        log.info("Handling ResourceAlreadyExists: {}", e.getMessage());
+
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                e.getMessage(),
+                CONFLICT.value(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(apiError, CONFLICT);
+    }
+
+    @ExceptionHandler(SeatUnavailableException.class)
+    public ResponseEntity<ApiError> handleException(SeatUnavailableException e,
+                                                    HttpServletRequest request) {
+        log.info("Handling SeatUnavailableException: {}", e.getMessage());
+
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                e.getMessage(),
+                CONFLICT.value(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(apiError, CONFLICT);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiError> handleException(ServiceOverloadedException e,
+                                                    HttpServletRequest request) {
+        log.warn("Handling ServiceOverloadedException: {}", e.getMessage());
+
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                e.getMessage(),
+                SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(apiError);
+    }
+
     @ExceptionHandler(InsufficientAuthenticationException.class)
     public ResponseEntity<ApiError> handleException(InsufficientAuthenticationException e,
                                                     HttpServletRequest request) {
@@ -45,6 +94,20 @@ public class DefaultExceptionHandler {
         return new ResponseEntity<>(apiError, FORBIDDEN);
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiError> handleException(AccessDeniedException e,
+                                                    HttpServletRequest request) {
+        log.warn("Handling AccessDeniedException: {}", e.getMessage());
+
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                e.getMessage(),
+                FORBIDDEN.value(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(apiError, FORBIDDEN);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiError> handleException(BadCredentialsException e,
                                                     HttpServletRequest request) {
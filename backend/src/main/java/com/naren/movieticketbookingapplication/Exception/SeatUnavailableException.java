@@ -0,0 +1,15 @@
+package com.naren.movieticketbookingapplication.Exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+@Slf4j
+public class SeatUnavailableException extends RuntimeException {
+
+    public SeatUnavailableException(String message) {
+        super(message);
+        log.info("SeatUnavailableException: {}", message);
+    }
+}
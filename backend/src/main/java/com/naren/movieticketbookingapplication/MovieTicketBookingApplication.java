@@ -9,13 +9,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Random;
 
 @Slf4j
-@SpringBootApplication
+// R2DBC is wired by Config.ReactiveDatabaseConfig so that JPA keeps its DataSource and transaction manager
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class MovieTicketBookingApplication {
 
     private static final Random RANDOM = new Random();
@@ -26,6 +30,7 @@ public class MovieTicketBookingApplication {
     }
 
     @Bean
+    @Profile("!catalog-loader")
     public CommandLineRunner commandLineRunner(CustomerRepository customerRepository,
                                                MovieRepository movieRepository, PasswordEncoder encoder) {
         return args -> {
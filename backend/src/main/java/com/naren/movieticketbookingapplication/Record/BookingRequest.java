@@ -0,0 +1,9 @@
+package com.naren.movieticketbookingapplication.Record;
+
+import java.util.List;
+
+public record BookingRequest(
+        Long showtimeId,
+        List<Integer> seats
+) {
+}
@@ -7,4 +7,11 @@ public record CustomerRegistration(
         String password,
         Long phoneNumber
 ) {
+
+    // registrations are logged; never let the plaintext password reach a log line
+    @Override
+    public String toString() {
+        return "CustomerRegistration[name=" + name + ", email=" + email + ", password=[PROTECTED], phoneNumber="
+                + phoneNumber + "]";
+    }
 }
@@ -0,0 +1,16 @@
+package com.naren.movieticketbookingapplication.Record;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record MovieBatchOperation(
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES)
+        Type op,
+        Long id,
+        String name,
+        Double cost,
+        Double rating
+) {
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+}
@@ -0,0 +1,17 @@
+package com.naren.movieticketbookingapplication.Record;
+
+/**
+ * Optional inclusive bounds on a movie's rating and cost; a {@code null} bound is open.
+ */
+public record MovieFilter(
+        Double minRating,
+        Double maxRating,
+        Double minCost,
+        Double maxCost
+) {
+    public static final MovieFilter NONE = new MovieFilter(null, null, null, null);
+
+    public boolean isEmpty() {
+        return minRating == null && maxRating == null && minCost == null && maxCost == null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.naren.movieticketbookingapplication.Record;
+
+import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
+
+import java.util.Locale;
+
+/**
+ * The catalog orders clients may ask for, as {@code sort=<key>[,asc|desc]}. Each one is backed by an index
+ * ending in {@code movie_id}, which breaks ties and makes the keyset cursor unique.
+ */
+public enum MovieSort {
+    ID("movie_id", false),
+    RATING_ASC("rating", false),
+    RATING_DESC("rating", true),
+    COST_ASC("cost", false),
+    COST_DESC("cost", true);
+
+    private final String column;
+    private final boolean descending;
+
+    MovieSort(String column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public boolean descending() {
+        return descending;
+    }
+
+    public static MovieSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return ID;
+        }
+        String[] parts = sort.strip().toLowerCase(Locale.ROOT).split("\\s*,\\s*");
+        String direction = parts.length > 1 ? parts[1] : "asc";
+        if (parts.length > 2 || !(direction.equals("asc") || direction.equals("desc"))) {
+            throw new RequestValidationException("Invalid sort '%s'".formatted(sort));
+        }
+        return switch (parts[0] + "," + direction) {
+            case "id,asc" -> ID;
+            case "rating,asc" -> RATING_ASC;
+            case "rating,desc" -> RATING_DESC;
+            case "cost,asc" -> COST_ASC;
+            case "cost,desc" -> COST_DESC;
+            default -> throw new RequestValidationException(
+                    "Invalid sort '%s', expected id, rating or cost with an optional ,asc or ,desc".formatted(sort));
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.naren.movieticketbookingapplication.Record;
+
+public record ScreenRegistration(
+        String name,
+        Integer seatRows,
+        Integer seatsPerRow
+) {
+}
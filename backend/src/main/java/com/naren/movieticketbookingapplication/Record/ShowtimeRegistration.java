@@ -0,0 +1,10 @@
+package com.naren.movieticketbookingapplication.Record;
+
+import java.time.Instant;
+
+public record ShowtimeRegistration(
+        Long movieId,
+        Long screenId,
+        Instant startsAt
+) {
+}
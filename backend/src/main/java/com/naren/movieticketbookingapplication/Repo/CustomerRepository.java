@@ -1,8 +1,14 @@
 package com.naren.movieticketbookingapplication.Repo;
 
+import com.naren.movieticketbookingapplication.Dto.CustomerSummary;
 import com.naren.movieticketbookingapplication.Entity.Customer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -12,6 +18,31 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     boolean existsByPhoneNumber(Long phoneNumber);
 
     Optional<Customer> findCustomerByEmail(String email);
+
+    @Query(value = """
+            SELECT c.customer_id AS "id", c.name AS "name", c.email AS "email",
+                   c.phone_number AS "phoneNumber",
+                   string_agg(r.name, ',' ORDER BY r.name) AS "roles"
+            FROM customer c
+                     LEFT JOIN customers_roles cr ON cr.customer_id = c.customer_id
+                     LEFT JOIN role r ON r.id = cr.role_id
+            GROUP BY c.customer_id
+            ORDER BY c.customer_id
+            """, nativeQuery = true)
+    List<CustomerSummary> findCustomerSummaries(Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO customer_movie (customer_id, movie_id)
+            VALUES (:customerId, :movieId)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertMovieSubscription(@Param("customerId") Long customerId, @Param("movieId") Long movieId);
+
+    @Modifying
+    @Query(value = "DELETE FROM customer_movie WHERE customer_id = :customerId AND movie_id = :movieId",
+            nativeQuery = true)
+    int deleteMovieSubscription(@Param("customerId") Long customerId, @Param("movieId") Long movieId);
 }
 
 
@@ -1,9 +1,76 @@
 package com.naren.movieticketbookingapplication.Repo;
 
+import com.naren.movieticketbookingapplication.Dto.CustomerMovie;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieSubscriptionCount;
 import com.naren.movieticketbookingapplication.Entity.Movie;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 
 public interface MovieRepository extends JpaRepository<Movie, Long> {
     boolean existsByName(String name);
+
+    List<Movie> findByNameIn(Collection<String> names);
+
+    @Query("select m from Movie m order by m.rating desc, m.movie_id desc")
+    List<Movie> findTopRated(Pageable pageable);
+
+    /**
+     * Movies with the most subscribers, counted from the {@code (movie_id, customer_id)} index alone; ties go to
+     * the higher id.
+     */
+    @Query(value = """
+            SELECT m.movie_id AS "movieId", m.name AS "name", m.rating AS "rating", s.subscribers AS "subscribers"
+            FROM (SELECT movie_id, count(*) AS subscribers
+                  FROM customer_movie
+                  GROUP BY movie_id
+                  ORDER BY subscribers DESC, movie_id DESC
+                  LIMIT :limit) s
+                     JOIN movie m ON m.movie_id = s.movie_id
+            ORDER BY s.subscribers DESC, s.movie_id DESC
+            """, nativeQuery = true)
+    List<MovieSubscriptionCount> findMostSubscribed(@Param("limit") int limit);
+
+    @Query("select m from Movie m where m.movie_id > :afterId order by m.movie_id")
+    Slice<Movie> findMoviesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new com.naren.movieticketbookingapplication.Dto.CustomerMovie(
+                c.customer_id, m.movie_id, m.name, m.cost, m.rating)
+            from Customer c join c.movies m
+            where c.customer_id in :customerIds
+            order by m.movie_id
+            """)
+    List<CustomerMovie> findCustomerMovies(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * Ranked search over movie names: full-text matches on {@code name_tsv} plus trigram word-similarity
+     * matches on {@code name}, so misspelled words still find their title. Both predicates are served by GIN
+     * indexes. Rows come back by score descending, then id, starting after the given keyset position.
+     */
+    @Query(value = """
+            SELECT ranked.movie_id AS "movieId", ranked.name AS "name", ranked.cost AS "cost",
+                   ranked.rating AS "rating", ranked.score AS "score"
+            FROM (SELECT m.movie_id, m.name, m.cost, m.rating,
+                         CAST(ts_rank(m.name_tsv, q.tsq) + word_similarity(:query, m.name) AS float8) AS score
+                  FROM movie m,
+                       (SELECT websearch_to_tsquery('english', :query) AS tsq) q
+                  WHERE m.name_tsv @@ q.tsq
+                     OR :query <% m.name) ranked
+            WHERE ranked.score < :afterScore
+               OR (ranked.score = :afterScore AND ranked.movie_id > :afterId)
+            ORDER BY ranked.score DESC, ranked.movie_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<MovieSearchResult> searchMovies(@Param("query") String query,
+                                         @Param("afterScore") double afterScore,
+                                         @Param("afterId") long afterId,
+                                         @Param("limit") int limit);
 }
@@ -0,0 +1,8 @@
+package com.naren.movieticketbookingapplication.Repo;
+
+import com.naren.movieticketbookingapplication.Entity.Screen;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ScreenRepository extends JpaRepository<Screen, Long> {
+    boolean existsByName(String name);
+}
@@ -0,0 +1,7 @@
+package com.naren.movieticketbookingapplication.Repo;
+
+import com.naren.movieticketbookingapplication.Entity.Showtime;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
+}
@@ -0,0 +1,43 @@
+package com.naren.movieticketbookingapplication.Security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the BCrypt cost whose hash time on this machine is closest to a target. Each cost step doubles the work,
+ * so one measurement at a cheap reference cost is enough to extrapolate.
+ */
+@Slf4j
+final class BCryptCalibrator {
+
+    private static final int REFERENCE_STRENGTH = 8;
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 5;
+
+    private BCryptCalibrator() {
+    }
+
+    static int calibrate(Duration target, int minStrength) {
+        long referenceNanos = measure(new BCryptPasswordEncoder(REFERENCE_STRENGTH));
+        double steps = Math.log((double) target.toNanos() / referenceNanos) / Math.log(2);
+        int strength = Math.max(minStrength, Math.min(MAX_STRENGTH, REFERENCE_STRENGTH + (int) Math.round(steps)));
+        log.info("BCrypt cost {} takes {} µs; calibrated cost {} for target {}",
+                REFERENCE_STRENGTH, referenceNanos / 1_000, strength, target);
+        return strength;
+    }
+
+    private static long measure(BCryptPasswordEncoder encoder) {
+        encoder.encode("calibration-warmup");
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-sample");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return Math.max(1, samples[SAMPLES / 2]);
+    }
+}
@@ -1,6 +1,7 @@
 package com.naren.movieticketbookingapplication.Security;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,14 +12,19 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Slf4j
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        log.info("Creating PasswordEncoder bean");
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:0}") int strength,
+                                           @Value("${security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${security.bcrypt.target-hash-time:250ms}") Duration targetHashTime) {
+        int cost = strength > 0 ? strength : BCryptCalibrator.calibrate(targetHashTime, minStrength);
+        log.info("Creating PasswordEncoder bean with BCrypt cost {}", cost);
+        return new BCryptPasswordEncoder(cost);
     }
 
     @Bean
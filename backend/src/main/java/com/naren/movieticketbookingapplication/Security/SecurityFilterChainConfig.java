@@ -1,5 +1,6 @@
 package com.naren.movieticketbookingapplication.Security;
 
+import com.naren.movieticketbookingapplication.WaitingRoom.WaitingRoomFilter;
 import com.naren.movieticketbookingapplication.jwt.JwtAuthFilter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -21,12 +22,15 @@ public class SecurityFilterChainConfig {
 
     private final AuthenticationProvider authenticationProvider;
     private final JwtAuthFilter authFilter;
+    private final WaitingRoomFilter waitingRoomFilter;
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
     public SecurityFilterChainConfig(AuthenticationProvider authenticationProvider, JwtAuthFilter authFilter,
+                                     WaitingRoomFilter waitingRoomFilter,
                                      AuthenticationEntryPoint authenticationEntryPoint) {
         this.authenticationProvider = authenticationProvider;
         this.authFilter = authFilter;
+        this.waitingRoomFilter = waitingRoomFilter;
         this.authenticationEntryPoint = authenticationEntryPoint;
     }
 
@@ -41,14 +45,17 @@ public class SecurityFilterChainConfig {
                                 .requestMatchers(HttpMethod.GET, "/api/v1/roles").permitAll()
                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/roles/{id}").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/api/v1/customers", "/api/v1/movies", "api/v1/admins").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/api/v1/movies", "api/v1/movies/{id}").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/api/v1/movies:batch").hasAuthority("ROLE_ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/api/v1/movies", "/api/v1/movies/search", "/api/v1/movies/autocomplete", "/api/v1/movies/leaderboard", "/api/v1/movies/{id}/recommendations", "api/v1/movies/{id}", "/api/v1/showtimes/{id}/seats").permitAll()
                                 .requestMatchers(HttpMethod.PUT, "/api/v1/movies/{id}").permitAll()
                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/movies/{id}").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
                 .addFilterBefore(authFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(waitingRoomFilter, JwtAuthFilter.class)
                 .exceptionHandling(
                         handler -> handler.authenticationEntryPoint(authenticationEntryPoint)
                 );
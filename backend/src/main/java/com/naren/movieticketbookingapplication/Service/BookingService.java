@@ -0,0 +1,32 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import com.naren.movieticketbookingapplication.Dto.SeatAvailability;
+import com.naren.movieticketbookingapplication.Dto.SeatHoldDTO;
+import com.naren.movieticketbookingapplication.Entity.Screen;
+import com.naren.movieticketbookingapplication.Entity.Showtime;
+import com.naren.movieticketbookingapplication.Record.BookingRequest;
+import com.naren.movieticketbookingapplication.Record.ScreenRegistration;
+import com.naren.movieticketbookingapplication.Record.ShowtimeRegistration;
+
+import java.util.List;
+
+public interface BookingService {
+    Screen addScreen(ScreenRegistration registration);
+
+    Showtime addShowtime(ShowtimeRegistration registration);
+
+    SeatAvailability getSeatAvailability(Long showtimeId);
+
+    BookingDTO book(Long customerId, BookingRequest request);
+
+    SeatHoldDTO hold(Long customerId, BookingRequest request);
+
+    BookingDTO confirmHold(Long customerId, String holdId);
+
+    void releaseHold(Long customerId, String holdId);
+
+    List<BookingDTO> getBookings(Long customerId);
+
+    void cancelBooking(Long customerId, Long bookingId);
+}
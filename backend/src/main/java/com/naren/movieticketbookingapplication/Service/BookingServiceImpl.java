@@ -0,0 +1,268 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Booking.BookingJournal;
+import com.naren.movieticketbookingapplication.Booking.SeatHold;
+import com.naren.movieticketbookingapplication.Booking.SeatHoldManager;
+import com.naren.movieticketbookingapplication.Booking.SeatMap;
+import com.naren.movieticketbookingapplication.Booking.SeatMapRegistry;
+import com.naren.movieticketbookingapplication.Dao.BookingDao;
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dao.ShowtimeDao;
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import com.naren.movieticketbookingapplication.Dto.SeatAvailability;
+import com.naren.movieticketbookingapplication.Dto.SeatHoldDTO;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Entity.Screen;
+import com.naren.movieticketbookingapplication.Entity.Showtime;
+import com.naren.movieticketbookingapplication.Exception.*;
+import com.naren.movieticketbookingapplication.Record.BookingRequest;
+import com.naren.movieticketbookingapplication.Record.ScreenRegistration;
+import com.naren.movieticketbookingapplication.Record.ShowtimeRegistration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Seats are claimed in the showtime's in-memory {@link SeatMap} first, so competing requests for the same
+ * seats are settled without touching the database. Only winners reach the {@link BookingJournal}, whose
+ * group commit makes the booking durable; the {@code booking_seat} primary key stays the final guard when
+ * several nodes sell the same showtime.
+ * <p>
+ * A hold claims seats in the seat map the same way but defers the write; confirming hands the still-claimed
+ * seats to the journal, so there is no window in which another customer can take them. Holds live in this
+ * node's {@link SeatHoldManager}.
+ */
+@Slf4j
+@Service
+public class BookingServiceImpl implements BookingService {
+
+    private final ShowtimeDao showtimeDao;
+    private final MovieDao movieDao;
+    private final BookingDao bookingDao;
+    private final SeatMapRegistry seatMapRegistry;
+    private final BookingJournal bookingJournal;
+    private final SeatHoldManager seatHoldManager;
+    private final Counter convertedHolds;
+    private final int maxSeatsPerBooking;
+    private final Duration confirmTimeout;
+    private final Counter memoryConflicts;
+    private final Counter databaseConflicts;
+
+    public BookingServiceImpl(ShowtimeDao showtimeDao,
+                              MovieDao movieDao,
+                              BookingDao bookingDao,
+                              SeatMapRegistry seatMapRegistry,
+                              BookingJournal bookingJournal,
+                              SeatHoldManager seatHoldManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${booking.max-seats-per-booking:10}") int maxSeatsPerBooking,
+                              @Value("${booking.confirm-timeout:5s}") Duration confirmTimeout) {
+        this.showtimeDao = showtimeDao;
+        this.movieDao = movieDao;
+        this.bookingDao = bookingDao;
+        this.seatMapRegistry = seatMapRegistry;
+        this.bookingJournal = bookingJournal;
+        this.seatHoldManager = seatHoldManager;
+        this.maxSeatsPerBooking = maxSeatsPerBooking;
+        this.confirmTimeout = confirmTimeout;
+        this.memoryConflicts = Counter.builder("booking.seat.conflicts")
+                .tag("source", "memory")
+                .description("Seat grabs rejected because a seat was already taken")
+                .register(meterRegistry);
+        this.databaseConflicts = Counter.builder("booking.seat.conflicts")
+                .tag("source", "database")
+                .description("Seat grabs rejected because a seat was already taken")
+                .register(meterRegistry);
+        this.convertedHolds = Counter.builder("booking.holds.converted")
+                .description("Seat holds confirmed as bookings")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public Screen addScreen(ScreenRegistration registration) {
+        log.info("Creating screen: {}", registration);
+        if (registration.name() == null || registration.name().isBlank()
+                || registration.seatRows() == null || registration.seatRows() < 1
+                || registration.seatsPerRow() == null || registration.seatsPerRow() < 1) {
+            throw new RequestValidationException("Screen name, seat rows and seats per row are required");
+        }
+        if (showtimeDao.screenExistsByName(registration.name())) {
+            throw new ResourceAlreadyExists("Screen name %s already exists".formatted(registration.name()));
+        }
+        Screen screen = new Screen(registration.name(), registration.seatRows(), registration.seatsPerRow());
+        showtimeDao.addScreen(screen);
+        return screen;
+    }
+
+    @Override
+    @Transactional
+    public Showtime addShowtime(ShowtimeRegistration registration) {
+        log.info("Creating showtime: {}", registration);
+        if (registration.startsAt() == null || registration.startsAt().isBefore(Instant.now())) {
+            throw new RequestValidationException("Showtime must start in the future");
+        }
+        Movie movie = movieDao.getMovieById(registration.movieId())
+                .orElseThrow(() -> new ResourceNotFoundException("Movie with ID " + registration.movieId() + " not found"));
+        Screen screen = showtimeDao.getScreen(registration.screenId())
+                .orElseThrow(() -> new ResourceNotFoundException("Screen with ID " + registration.screenId() + " not found"));
+        Showtime showtime = new Showtime(movie, screen, registration.startsAt());
+        showtimeDao.addShowtime(showtime);
+        return showtime;
+    }
+
+    @Override
+    public SeatAvailability getSeatAvailability(Long showtimeId) {
+        SeatMap seatMap = seatMapRegistry.get(showtimeId);
+        List<Integer> taken = Arrays.stream(seatMap.takenSeats()).map(seat -> seat + 1).boxed().toList();
+        return new SeatAvailability(showtimeId, seatMap.startsAt(), seatMap.capacity(),
+                seatMap.capacity() - taken.size(), taken);
+    }
+
+    @Override
+    public BookingDTO book(Long customerId, BookingRequest request) {
+        log.info("Customer {} booking seats {} for showtime {}", customerId, request.seats(), request.showtimeId());
+        SeatMap seatMap = seatMapRegistry.get(request.showtimeId());
+        int[] seats = seatIndexes(seatMap, request.seats());
+        if (!seatMap.tryReserve(seats)) {
+            memoryConflicts.increment();
+            throw new SeatUnavailableException("One or more of seats %s are already taken".formatted(request.seats()));
+        }
+        return persist(customerId, seatMap, seats);
+    }
+
+    @Override
+    public SeatHoldDTO hold(Long customerId, BookingRequest request) {
+        log.info("Customer {} holding seats {} for showtime {}", customerId, request.seats(), request.showtimeId());
+        SeatMap seatMap = seatMapRegistry.get(request.showtimeId());
+        int[] seats = seatIndexes(seatMap, request.seats());
+        if (!seatMap.tryReserve(seats)) {
+            memoryConflicts.increment();
+            throw new SeatUnavailableException("One or more of seats %s are already taken".formatted(request.seats()));
+        }
+        SeatHold hold = seatHoldManager.hold(customerId, seatMap, seats);
+        List<Integer> seatNumbers = Arrays.stream(seats).sorted().map(seat -> seat + 1).boxed().toList();
+        return new SeatHoldDTO(hold.holdId(), seatMap.showtimeId(), customerId, seatNumbers, hold.expiresAt());
+    }
+
+    @Override
+    public BookingDTO confirmHold(Long customerId, String holdId) {
+        log.info("Customer {} confirming hold {}", customerId, holdId);
+        SeatHold hold = seatHoldManager.claim(holdId, customerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold with ID " + holdId + " not found or expired"));
+        convertedHolds.increment();
+        return persist(customerId, hold.seatMap(), hold.seats());
+    }
+
+    @Override
+    public void releaseHold(Long customerId, String holdId) {
+        log.info("Customer {} releasing hold {}", customerId, holdId);
+        if (!seatHoldManager.release(holdId, customerId)) {
+            throw new ResourceNotFoundException("Hold with ID " + holdId + " not found or expired");
+        }
+    }
+
+    /**
+     * Writes a booking for seats already claimed in {@code seatMap}. If the write fails the seats are released
+     * again, also when the caller has stopped waiting.
+     */
+    BookingDTO persist(Long customerId, SeatMap seatMap, int[] seats) {
+        List<Integer> seatNumbers = Arrays.stream(seats).sorted().map(seat -> seat + 1).boxed().toList();
+        CompletableFuture<BookingDTO> written;
+        try {
+            written = bookingJournal.append(seatMap.showtimeId(), customerId, seatNumbers);
+        } catch (RuntimeException e) {
+            seatMap.release(seats);
+            throw e;
+        }
+        written.whenComplete((booking, failure) -> {
+            if (failure != null) {
+                seatMap.release(seats);
+                if (isSeatConflict(failure)) {
+                    databaseConflicts.increment();
+                    seatMapRegistry.refresh(seatMap.showtimeId());
+                }
+            }
+        });
+        try {
+            BookingDTO booking = written.get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Booking {} confirmed for customer {}", booking.bookingId(), customerId);
+            return booking;
+        } catch (ExecutionException e) {
+            throw translate(e.getCause(), customerId, seatNumbers);
+        } catch (TimeoutException e) {
+            throw new ServiceOverloadedException("Booking is still being confirmed, check your bookings before retrying",
+                    confirmTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Booking interrupted", confirmTimeout);
+        }
+    }
+
+    @Override
+    public List<BookingDTO> getBookings(Long customerId) {
+        return bookingDao.getBookingsByCustomer(customerId);
+    }
+
+    @Override
+    public void cancelBooking(Long customerId, Long bookingId) {
+        log.info("Customer {} cancelling booking {}", customerId, bookingId);
+        BookingDTO booking = bookingDao.getBooking(bookingId)
+                .filter(b -> b.customerId().equals(customerId))
+                .orElseThrow(() -> new ResourceNotFoundException("Booking with ID " + bookingId + " not found"));
+        if (bookingDao.deleteBooking(bookingId)) {
+            int[] seats = booking.seats().stream().mapToInt(seat -> seat - 1).toArray();
+            seatMapRegistry.getIfLoaded(booking.showtimeId()).ifPresent(seatMap -> seatMap.release(seats));
+            log.info("Booking {} cancelled", bookingId);
+        }
+    }
+
+    int[] seatIndexes(SeatMap seatMap, List<Integer> seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isEmpty() || seatNumbers.size() > maxSeatsPerBooking) {
+            throw new RequestValidationException("Between 1 and %d seats must be requested".formatted(maxSeatsPerBooking));
+        }
+        if (!seatMap.startsAt().isAfter(Instant.now())) {
+            throw new RequestValidationException("Showtime has already started");
+        }
+        int[] seats = new int[seatNumbers.size()];
+        for (int i = 0; i < seats.length; i++) {
+            Integer seat = seatNumbers.get(i);
+            if (seat == null || seat < 1 || seat > seatMap.capacity()) {
+                throw new RequestValidationException("Seat %s does not exist".formatted(seat));
+            }
+            seats[i] = seat - 1;
+        }
+        if (Arrays.stream(seats).distinct().count() != seats.length) {
+            throw new RequestValidationException("Seats must not repeat");
+        }
+        return seats;
+    }
+
+    private RuntimeException translate(Throwable failure, Long customerId, List<Integer> seats) {
+        if (isSeatConflict(failure)) {
+            return new SeatUnavailableException("One or more of seats %s are already taken".formatted(seats));
+        }
+        if (failure instanceof DataIntegrityViolationException && String.valueOf(failure.getMessage()).contains("fk_booking_customer_id")) {
+            return new ResourceNotFoundException("Customer with ID " + customerId + " not found");
+        }
+        return failure instanceof RuntimeException runtime ? runtime : new IllegalStateException(failure);
+    }
+
+    private static boolean isSeatConflict(Throwable failure) {
+        return failure instanceof DataIntegrityViolationException
+                && String.valueOf(failure.getMessage()).contains("pk_booking_seat");
+    }
+}
@@ -16,7 +16,7 @@ public interface CustomerService {
 
     void updateCustomer(CustomerUpdateRequest customer, Long customerId);
 
-    List<CustomerDTO> getAllCustomers();
+    List<CustomerDTO> getAllCustomers(boolean includeMovies);
 
     void deleteCustomer(Long customerId);
 
@@ -4,6 +4,8 @@ import com.naren.movieticketbookingapplication.Dao.CustomerDao;
 import com.naren.movieticketbookingapplication.Dao.MovieDao;
 import com.naren.movieticketbookingapplication.Dto.CustomerDTO;
 import com.naren.movieticketbookingapplication.Dto.CustomerDTOMapper;
+import com.naren.movieticketbookingapplication.Dto.CustomerMovie;
+import com.naren.movieticketbookingapplication.Dto.CustomerSummary;
 import com.naren.movieticketbookingapplication.Entity.Customer;
 import com.naren.movieticketbookingapplication.Entity.Movie;
 import com.naren.movieticketbookingapplication.Entity.Role;
@@ -13,18 +15,25 @@ import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
 import com.naren.movieticketbookingapplication.Record.CustomerRegistration;
 import com.naren.movieticketbookingapplication.Record.CustomerUpdateRequest;
+import com.naren.movieticketbookingapplication.Security.PasswordHasher;
+import com.naren.movieticketbookingapplication.Util.AfterCommit;
 import com.naren.movieticketbookingapplication.jwt.JwtUtil;
+import com.naren.movieticketbookingapplication.jwt.SubjectRevocationCheck;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Transactional
@@ -33,19 +42,25 @@ public class CustomerServiceImpl implements CustomerService {
 
     private static final long REQ_PASSWORD_LENGTH = 8;
     private final CustomerDao customerDao;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final CustomerDTOMapper customerDTOMapper;
     private final RoleService roleService;
     private final MovieDao movieDao;
     private final JwtUtil jwtUtil;
+    private final MovieLeaderboardService leaderboard;
+    private final SubjectRevocationCheck revocationCheck;
+    private final TransactionTemplate registrationTransaction;
 
-    public CustomerServiceImpl(CustomerDao customerDao, PasswordEncoder passwordEncoder, CustomerDTOMapper customerDTOMapper, RoleService roleService, MovieDao movieDao, JwtUtil jwtUtil) {
+    public CustomerServiceImpl(CustomerDao customerDao, PasswordHasher passwordHasher, CustomerDTOMapper customerDTOMapper, RoleService roleService, MovieDao movieDao, JwtUtil jwtUtil, MovieLeaderboardService leaderboard, SubjectRevocationCheck revocationCheck, PlatformTransactionManager transactionManager) {
         this.customerDao = customerDao;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.customerDTOMapper = customerDTOMapper;
         this.roleService = roleService;
         this.movieDao = movieDao;
         this.jwtUtil = jwtUtil;
+        this.leaderboard = leaderboard;
+        this.revocationCheck = revocationCheck;
+        this.registrationTransaction = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -75,35 +90,50 @@ public class CustomerServiceImpl implements CustomerService {
         roleService.deleteRole(id);
     }
 
+    /**
+     * Hashing is deliberately slow, so it runs before any connection is taken: only the uniqueness checks and
+     * the insert share a short transaction, and a registration burst cannot pin the connection pool.
+     */
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ResponseEntity<?> registerUser(CustomerRegistration customerRegistration,
                                           Set<String> roleNames) {
 
-        Customer registeredCustomer = registerCustomer(customerRegistration);
+        Customer registeredCustomer = newCustomer(customerRegistration);
 
-        Set<Role> roles = new HashSet<>();
+        return registrationTransaction.execute(status -> {
+            if (customerDao.existsByEmail(customerRegistration.email())) {
+                throw new ResourceAlreadyExists("Email already taken");
+            }
+            if (customerDao.existsByPhoneNumber(customerRegistration.phoneNumber())) {
+                throw new ResourceAlreadyExists("Phone number already taken");
+            }
+
+            Set<Role> roles = new HashSet<>();
 
-        for (String roleName : roleNames) {
-            Role role = roleService.findRoleByName(roleName);
-            if (role == null) {
-                return ResponseEntity.badRequest().body("Role " + roleName + " not found");
+            for (String roleName : roleNames) {
+                Role role = roleService.findRoleByName(roleName);
+                if (role == null) {
+                    return ResponseEntity.badRequest().body("Role " + roleName + " not found");
+                }
+                roles.add(role);
             }
-            roles.add(role);
-        }
 
-        roles.forEach(registeredCustomer::addRole);
+            roles.forEach(registeredCustomer::addRole);
 
-        customerDao.addCustomer(registeredCustomer);
+            customerDao.addCustomer(registeredCustomer);
 
-        String token = jwtUtil.issueToken(registeredCustomer.getUsername(), roles);
+            String token = jwtUtil.issueToken(registeredCustomer.getUsername(),
+                    registeredCustomer.getCustomer_id(), roles);
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .body("Customer registered successfully!");
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .body("Customer registered successfully!");
+        });
     }
 
 
-    private Customer registerCustomer(CustomerRegistration customerRegistration) {
+    private Customer newCustomer(CustomerRegistration customerRegistration) {
 
         boolean isValidPassword = validatePassword(customerRegistration.password(),
                 customerRegistration.name(),
@@ -112,15 +142,9 @@ public class CustomerServiceImpl implements CustomerService {
         if (!isValidPassword) {
             throw new PasswordInvalidException("Invalid password");
         }
-        if (customerDao.existsByEmail(customerRegistration.email())) {
-            throw new ResourceAlreadyExists("Email already taken");
-        }
-        if (customerDao.existsByPhoneNumber(customerRegistration.phoneNumber())) {
-            throw new ResourceAlreadyExists("Phone number already taken");
-        }
         return new Customer(customerRegistration.name(),
                 customerRegistration.email(),
-                passwordEncoder.encode(customerRegistration.password()),
+                passwordHasher.encode(customerRegistration.password()),
                 customerRegistration.phoneNumber());
     }
 
@@ -153,6 +177,7 @@ public class CustomerServiceImpl implements CustomerService {
         Customer customer = customerDao.getCustomer(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer with ID " + id + " not found"));
 
+        String previousEmail = customer.getEmail();
         boolean changes = false;
 
         if (request.name() != null && !request.name().equals(customer.getName())) {
@@ -178,21 +203,43 @@ public class CustomerServiceImpl implements CustomerService {
         }
 
         customerDao.updateCustomer(customer);
+        if (!customer.getEmail().equals(previousEmail)) {
+            // tokens carry the email as subject: the old one must stop authenticating without waiting out the TTL
+            AfterCommit.run(() -> {
+                revocationCheck.invalidate(previousEmail);
+                revocationCheck.invalidate(customer.getEmail());
+            });
+        }
 
         log.info("Customer updated successfully: {}", customer);
     }
 
     @Override
-    public List<CustomerDTO> getAllCustomers() {
-        log.info("Fetching all customers");
-        List<CustomerDTO> customers = customerDao.getCustomerList()
-                .stream()
-                .map(customerDTOMapper)
+    public List<CustomerDTO> getAllCustomers(boolean includeMovies) {
+        log.info("Fetching all customers, include movies: {}", includeMovies);
+        List<CustomerSummary> summaries = customerDao.getCustomerSummaries();
+
+        Map<Long, List<Movie>> moviesByCustomer = includeMovies && !summaries.isEmpty()
+                ? getMoviesByCustomer(summaries)
+                : Map.of();
+
+        List<CustomerDTO> customers = summaries.stream()
+                .map(summary -> customerDTOMapper.apply(summary,
+                        moviesByCustomer.getOrDefault(summary.getId(), List.of())))
                 .toList();
         log.info("Retrieved {} customers", customers.size());
         return customers;
     }
 
+    private Map<Long, List<Movie>> getMoviesByCustomer(List<CustomerSummary> summaries) {
+        List<Long> customerIds = summaries.stream().map(CustomerSummary::getId).toList();
+        return movieDao.getMoviesByCustomerIds(customerIds)
+                .stream()
+                .collect(Collectors.groupingBy(CustomerMovie::customerId,
+                        Collectors.mapping(m -> new Movie(m.movieId(), m.name(), m.cost(), m.rating()),
+                                Collectors.toList())));
+    }
+
     @Override
     public void deleteCustomer(Long customerId) {
         log.info("Deleting customer with ID: {}", customerId);
@@ -201,43 +248,55 @@ public class CustomerServiceImpl implements CustomerService {
                 .orElseThrow(() -> new ResourceNotFoundException("Customer with ID " + customerId + " not found"));
 
         customerDao.deleteCustomer(customer);
+        AfterCommit.run(() -> revocationCheck.invalidate(customer.getEmail()));
         log.info("Customer deleted successfully: {}", customer);
     }
 
+    /**
+     * Subscriptions are written straight to {@code customer_movie} in one statement, so the cost does not
+     * depend on how many movies the customer already follows. The foreign keys tell a missing customer or
+     * movie apart from an existing subscription.
+     */
     @Override
     public void addMovieToCustomer(Long customerId, Long movieId) {
         log.info("Adding movie with ID {} to customer with ID {}", movieId, customerId);
 
-        Customer customer = customerDao.getCustomer(customerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer with ID " + customerId + " not found"));
-        Movie movie = movieDao.getMovieById(movieId)
-                .orElseThrow(() -> new ResourceNotFoundException("Movie with ID " + movieId + " not found"));
-
-        if (customer.getMovies().contains(movie)) {
+        boolean added;
+        try {
+            added = customerDao.addMovieSubscription(customerId, movieId);
+        } catch (DataIntegrityViolationException e) {
+            String message = String.valueOf(e.getMessage());
+            if (message.contains("fk_customer_movie_customer_id")) {
+                throw new ResourceNotFoundException("Customer with ID " + customerId + " not found");
+            }
+            if (message.contains("fk_customer_movie_movie_id")) {
+                throw new ResourceNotFoundException("Movie with ID " + movieId + " not found");
+            }
+            throw e;
+        }
+        if (!added) {
             throw new ResourceAlreadyExists(
-                    "Customer %s already subscribed to %s movie".formatted(customer, movie));
+                    "Customer %d already subscribed to movie %d".formatted(customerId, movieId));
         }
-        customer.addMovie(movie);
-        customerDao.updateCustomer(customer);
+        leaderboard.subscriptionAdded(movieId);
 
-        log.info("Movie added to customer successfully: Customer={}, Movie={}", customer.getName(), movie.getName());
+        log.info("Movie {} added to customer {} successfully", movieId, customerId);
     }
 
     @Override
     public void removeMovieFromCustomer(Long customerId, Long movieId) {
         log.info("Removing movie with ID {} from customer with ID {}", movieId, customerId);
 
-        Customer customer = customerDao.getCustomer(customerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer with ID " + customerId + " not found"));
-        Movie movie = movieDao.getMovieById(movieId)
-                .orElseThrow(() -> new ResourceNotFoundException("Movie with ID " + movieId + " not found"));
-
-        if (!customer.getMovies().contains(movie)) {
+        if (!customerDao.removeMovieSubscription(customerId, movieId)) {
+            // nothing deleted: find out which part is missing for the error message
+            customerDao.getCustomer(customerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Customer with ID " + customerId + " not found"));
+            movieDao.getMovieById(movieId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Movie with ID " + movieId + " not found"));
             throw new ResourceNotFoundException(
-                    "Customer %s not subscribed to %s movie".formatted(customer, movie));
+                    "Customer %d not subscribed to movie %d".formatted(customerId, movieId));
         }
-        customer.removeMovie(movie);
-        customerDao.updateCustomer(customer);
-        log.info("Movie removed from customer successfully: Customer={}, Movie={}", customer.getName(), movie.getName());
+        leaderboard.subscriptionRemoved(movieId);
+        log.info("Movie {} removed from customer {} successfully", movieId, customerId);
     }
 }
@@ -0,0 +1,224 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Config.SchedulingConfig;
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dto.MovieLeaderboard;
+import com.naren.movieticketbookingapplication.Dto.SubscribedMovie;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Top movies by rating and by subscriber count for the home page, read from an immutable snapshot that is
+ * replaced, never modified, so readers take no lock and never touch the database.
+ * <p>
+ * Each board tracks a window of {@code window} candidates, more than the {@code size} it serves. A window
+ * loaded full holds exactly the movies that rank at or above its last entry (the floor); movie and subscription
+ * writes keep it that way once their transaction commits, and a movie that falls below the floor is dropped
+ * because an untracked movie may now outrank it. Two things only show up at the next reconcile: a movie outside
+ * the subscription window gaining subscribers, and subscriptions removed by deleting a customer. A write racing
+ * a reconcile may also be off by one until the next one.
+ * <p>
+ * A reconcile counts every row of {@code customer_movie}, so it runs hourly by default; the window absorbs
+ * ordinary churn in between, and the interval is the worst-case lag for the two cases above.
+ */
+@Slf4j
+@Service
+public class MovieLeaderboardService {
+
+    static final Comparator<Movie> BY_RATING = Comparator.comparing(Movie::getRating)
+            .thenComparing(Movie::getMovie_id).reversed();
+    static final Comparator<SubscribedMovie> BY_SUBSCRIBERS = Comparator.comparingLong(SubscribedMovie::subscribers)
+            .thenComparing(SubscribedMovie::movieId).reversed();
+
+    private final MovieDao movieDao;
+    private final Clock clock;
+    private final int size;
+    private final Window<Movie> rated;
+    private final Window<SubscribedMovie> subscribed;
+
+    private volatile MovieLeaderboard snapshot = MovieLeaderboard.EMPTY;
+    private Instant reconciledAt;
+    private List<Runnable> pending;
+
+    @Autowired
+    public MovieLeaderboardService(MovieDao movieDao,
+                                   @Value("${movies.leaderboard.size:20}") int size,
+                                   @Value("${movies.leaderboard.window:100}") int window) {
+        this(movieDao, size, window, Clock.systemUTC());
+    }
+
+    MovieLeaderboardService(MovieDao movieDao, int size, int window, Clock clock) {
+        if (window < size) {
+            throw new IllegalArgumentException("Leaderboard window must be at least its size");
+        }
+        this.movieDao = movieDao;
+        this.clock = clock;
+        this.size = size;
+        this.rated = new Window<>(BY_RATING, Movie::getMovie_id, window);
+        this.subscribed = new Window<>(BY_SUBSCRIBERS, SubscribedMovie::movieId, window);
+    }
+
+    public MovieLeaderboard snapshot() {
+        return snapshot;
+    }
+
+    public void movieSaved(Movie movie) {
+        Movie saved = new Movie(movie.getMovie_id(), movie.getName(), movie.getCost(), movie.getRating());
+        AfterCommit.run(() -> change(() -> {
+            rated.upsert(saved);
+            SubscribedMovie previous = subscribed.get(saved.getMovie_id());
+            if (previous != null) {
+                subscribed.upsert(new SubscribedMovie(saved.getMovie_id(), saved.getName(), saved.getRating(),
+                        previous.subscribers()));
+            }
+        }));
+    }
+
+    public void movieRemoved(Long movieId) {
+        AfterCommit.run(() -> change(() -> {
+            rated.remove(movieId);
+            subscribed.remove(movieId);
+        }));
+    }
+
+    public void subscriptionAdded(Long movieId) {
+        AfterCommit.run(() -> change(() -> addSubscribers(movieId, 1)));
+    }
+
+    public void subscriptionRemoved(Long movieId) {
+        AfterCommit.run(() -> change(() -> addSubscribers(movieId, -1)));
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.REBUILD_SCHEDULER, initialDelayString = "0",
+            fixedDelayString = "${movies.leaderboard.reconcile-interval:PT1H}")
+    public void reconcile() {
+        try {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            List<Movie> topRated = movieDao.getTopRatedMovies(rated.capacity);
+            List<SubscribedMovie> mostSubscribed = movieDao.getMostSubscribedMovies(subscribed.capacity);
+            synchronized (this) {
+                int drift = drift(topRated, mostSubscribed);
+                rated.reset(topRated.stream()
+                        .map(movie -> new Movie(movie.getMovie_id(), movie.getName(), movie.getCost(), movie.getRating()))
+                        .toList());
+                subscribed.reset(mostSubscribed);
+                pending.forEach(Runnable::run);
+                pending = null;
+                reconciledAt = clock.instant();
+                publish();
+                if (drift > 0) {
+                    log.info("Reconciled movie leaderboard, {} positions had drifted from the database", drift);
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            log.warn("Movie leaderboard reconcile failed, keeping the current boards", e);
+        }
+    }
+
+    private void addSubscribers(Long movieId, int delta) {
+        SubscribedMovie previous = subscribed.get(movieId);
+        if (previous != null) {
+            subscribed.upsert(new SubscribedMovie(movieId, previous.name(), previous.rating(),
+                    Math.max(0, previous.subscribers() + delta)));
+        }
+    }
+
+    private synchronized void change(Runnable change) {
+        change.run();
+        if (pending != null) {
+            pending.add(change);
+        }
+        publish();
+    }
+
+    private void publish() {
+        snapshot = new MovieLeaderboard(rated.top(size), subscribed.top(size), reconciledAt);
+    }
+
+    private int drift(List<Movie> topRated, List<SubscribedMovie> mostSubscribed) {
+        MovieLeaderboard current = snapshot;
+        int drift = 0;
+        for (int i = 0; i < size; i++) {
+            drift += differs(current.topRated(), topRated, i, Movie::getMovie_id) ? 1 : 0;
+            drift += differs(current.mostSubscribed(), mostSubscribed, i, SubscribedMovie::subscribers) ? 1 : 0;
+        }
+        return current == MovieLeaderboard.EMPTY ? 0 : drift;
+    }
+
+    private static <T> boolean differs(List<T> before, List<T> after, int i, Function<T, Object> key) {
+        Object was = i < before.size() ? key.apply(before.get(i)) : null;
+        Object now = i < after.size() ? key.apply(after.get(i)) : null;
+        return was == null ? now != null : !was.equals(now);
+    }
+
+    /**
+     * The best {@code capacity} candidates of one board, keyed by movie id. {@code floor} is the worst entry a
+     * full window is known to be complete down to; {@code null} means the window holds every movie.
+     */
+    private static final class Window<T> {
+        private final Comparator<T> order;
+        private final Function<T, Long> id;
+        private final int capacity;
+        private final Map<Long, T> entries = new HashMap<>();
+        private T floor;
+
+        Window(Comparator<T> order, Function<T, Long> id, int capacity) {
+            this.order = order;
+            this.id = id;
+            this.capacity = capacity;
+        }
+
+        T get(Long movieId) {
+            return entries.get(movieId);
+        }
+
+        void reset(List<T> loaded) {
+            entries.clear();
+            loaded.forEach(entry -> entries.put(id.apply(entry), entry));
+            floor = loaded.size() < capacity ? null : loaded.get(loaded.size() - 1);
+        }
+
+        void upsert(T entry) {
+            if (floor != null && order.compare(entry, floor) > 0) {
+                entries.remove(id.apply(entry));
+                return;
+            }
+            entries.put(id.apply(entry), entry);
+            if (entries.size() > capacity) {
+                entries.remove(id.apply(worst()));
+                floor = worst();
+            }
+        }
+
+        void remove(Long movieId) {
+            entries.remove(movieId);
+        }
+
+        List<T> top(int size) {
+            return entries.values().stream().sorted(order).limit(size).toList();
+        }
+
+        private T worst() {
+            return entries.values().stream().max(order).orElseThrow();
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.naren.movieticketbookingapplication.Service;
 
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResponse;
+import com.naren.movieticketbookingapplication.Dto.MovieLeaderboard;
+import com.naren.movieticketbookingapplication.Dto.MoviePage;
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
+import com.naren.movieticketbookingapplication.Dto.MovieSuggestion;
 import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
 import com.naren.movieticketbookingapplication.Record.MovieRegistration;
 import com.naren.movieticketbookingapplication.Record.MovieUpdation;
 
@@ -16,5 +23,35 @@ public interface MovieService {
 
     List<Movie> getMovieList();
 
+    MoviePage getMoviePage(String cursor, int size);
+
+    /**
+     * Catalog page within the filter bounds in a whitelisted order ({@code id}, {@code rating} or {@code cost},
+     * optionally {@code ,desc}), paged with the returned cursor.
+     */
+    MoviePage getMoviePage(MovieFilter filter, String sort, String cursor, int size);
+
+    /**
+     * Ranked, typo-tolerant search over movie names, paged with the returned cursor.
+     */
+    MoviePage searchMovies(String query, String cursor, int size);
+
+    /**
+     * Highest-rated movies with a word in their name starting with {@code prefix}, served from memory.
+     */
+    List<MovieSuggestion> autocompleteMovies(String prefix, int limit);
+
+    /**
+     * Top movies by rating and by subscriber count, served from memory and reconciled periodically.
+     */
+    MovieLeaderboard getLeaderboard();
+
+    /**
+     * Movies most often subscribed to by the subscribers of {@code movieId}, best match first.
+     */
+    List<MovieRecommendation> getRecommendations(Long movieId, int limit);
+
     void updateMovie(MovieUpdation update, Long movieId);
+
+    MovieBatchResponse applyBatch(List<MovieBatchOperation> operations);
 }
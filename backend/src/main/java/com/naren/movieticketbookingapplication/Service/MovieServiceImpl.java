@@ -1,30 +1,60 @@
 package com.naren.movieticketbookingapplication.Service;
 
+import com.naren.movieticketbookingapplication.Config.CacheConfig;
 import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResponse;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResult.Status;
+import com.naren.movieticketbookingapplication.Dto.MovieCursor;
+import com.naren.movieticketbookingapplication.Dto.MovieLeaderboard;
+import com.naren.movieticketbookingapplication.Dto.MoviePage;
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchCursor;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieSortCursor;
+import com.naren.movieticketbookingapplication.Dto.MovieSuggestion;
 import com.naren.movieticketbookingapplication.Entity.Movie;
 import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
 import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
+import com.naren.movieticketbookingapplication.Record.MovieSort;
 import com.naren.movieticketbookingapplication.Record.MovieRegistration;
 import com.naren.movieticketbookingapplication.Record.MovieUpdation;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Transactional
 @Service
 public class MovieServiceImpl implements MovieService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_RECOMMENDATIONS = 20;
+    private static final int MAX_BATCH_SIZE = 5000;
     private final MovieDao movieDao;
+    private final MovieLeaderboardService leaderboard;
 
-    public MovieServiceImpl(MovieDao movieDao) {
+    public MovieServiceImpl(MovieDao movieDao, MovieLeaderboardService leaderboard) {
         this.movieDao = movieDao;
+        this.leaderboard = leaderboard;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MOVIE_PAGES, allEntries = true)
     public void addMovie(MovieRegistration registration) {
         log.info("Creating movie: {}", registration);
         Movie movie = createMovie(registration);
@@ -34,6 +64,7 @@ public class MovieServiceImpl implements MovieService {
             throw new ResourceAlreadyExists(errorMessage);
         }
         movieDao.addMovie(movie);
+        leaderboard.movieSaved(movie);
         log.info("Movie added successfully: {}", movie);
     }
 
@@ -46,6 +77,10 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MOVIE_PAGES, allEntries = true)
+    })
     public void removeMovie(Long id) {
         log.info("Removing movie with ID: {}", id);
         Movie movie = movieDao.getMovieById(id)
@@ -55,10 +90,12 @@ public class MovieServiceImpl implements MovieService {
                     return new ResourceNotFoundException(errorMessage);
                 });
         movieDao.removeMovie(movie);
+        leaderboard.movieRemoved(movie.getMovie_id());
         log.info("Movie removed successfully: {}", movie);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.MOVIES, key = "#id")
     public Movie getMovieById(Long id) {
         log.info("Fetching movie by ID: {}", id);
         return movieDao.getMovieById(id)
@@ -78,6 +115,129 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.MOVIE_PAGES, key = "#size + ':' + #cursor")
+    public MoviePage getMoviePage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RequestValidationException("Page size must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+        MovieCursor after = MovieCursor.decode(cursor);
+        log.info("Fetching page of {} movies after ID: {}", size, after.lastMovieId());
+
+        Slice<Movie> slice = movieDao.getMoviesAfter(after.lastMovieId(), size);
+        List<Movie> movies = slice.getContent();
+
+        String nextCursor = slice.hasNext() && !movies.isEmpty()
+                ? new MovieCursor(movies.get(movies.size() - 1).getMovie_id()).encode()
+                : null;
+        log.info("Retrieved {} movies, next cursor: {}", movies.size(), nextCursor);
+        return new MoviePage(movies, nextCursor);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.MOVIE_PAGES, key = "#filter + ':' + #sort + ':' + #size + ':' + #cursor")
+    public MoviePage getMoviePage(MovieFilter filter, String sort, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RequestValidationException("Page size must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+        validateRange("rating", filter.minRating(), filter.maxRating());
+        validateRange("cost", filter.minCost(), filter.maxCost());
+        MovieSort order = MovieSort.parse(sort);
+        MovieSortCursor after = MovieSortCursor.decode(cursor, order);
+        log.info("Fetching page of {} movies matching {} by {}", size, filter, order);
+
+        // one extra row tells whether another page follows
+        List<Movie> movies = movieDao.getMoviesAfter(filter, order, after.lastValue(), after.lastMovieId(), size + 1);
+        String nextCursor = null;
+        if (movies.size() > size) {
+            movies = movies.subList(0, size);
+            Movie last = movies.get(size - 1);
+            double lastValue = switch (order) {
+                case ID -> 0;
+                case RATING_ASC, RATING_DESC -> last.getRating();
+                case COST_ASC, COST_DESC -> last.getCost();
+            };
+            nextCursor = new MovieSortCursor(order, lastValue, last.getMovie_id()).encode();
+        }
+        log.info("Retrieved {} movies, next cursor: {}", movies.size(), nextCursor);
+        return new MoviePage(List.copyOf(movies), nextCursor);
+    }
+
+    private static void validateRange(String field, Double min, Double max) {
+        if ((min != null && min.isNaN()) || (max != null && max.isNaN())) {
+            throw new RequestValidationException("Invalid %s bound".formatted(field));
+        }
+        if (min != null && max != null && min > max) {
+            throw new RequestValidationException("Minimum %s must not exceed the maximum".formatted(field));
+        }
+    }
+
+    @Override
+    public MoviePage searchMovies(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new RequestValidationException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new RequestValidationException("Search query must be at most %d characters".formatted(MAX_QUERY_LENGTH));
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new RequestValidationException("Page size must be between 1 and %d".formatted(MAX_SEARCH_PAGE_SIZE));
+        }
+        MovieSearchCursor after = MovieSearchCursor.decode(cursor);
+        log.info("Searching page of {} movies for '{}'", size, query);
+
+        // one extra row tells whether another page follows
+        List<MovieSearchResult> results = movieDao.searchMovies(query.strip(), after.lastScore(), after.lastMovieId(), size + 1);
+        List<MovieSearchResult> page = results.size() > size ? results.subList(0, size) : results;
+        List<Movie> movies = page.stream()
+                .map(result -> new Movie(result.getMovieId(), result.getName(), result.getCost(), result.getRating()))
+                .toList();
+
+        String nextCursor = null;
+        if (results.size() > size) {
+            MovieSearchResult last = page.get(page.size() - 1);
+            nextCursor = new MovieSearchCursor(last.getScore(), last.getMovieId()).encode();
+        }
+        log.info("Found {} movies, next cursor: {}", movies.size(), nextCursor);
+        return new MoviePage(movies, nextCursor);
+    }
+
+    @Override
+    // answered from the in-memory index; no transaction, so no pooled connection per keystroke
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public List<MovieSuggestion> autocompleteMovies(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new RequestValidationException("Prefix must not be blank");
+        }
+        if (prefix.length() > MAX_QUERY_LENGTH) {
+            throw new RequestValidationException("Prefix must be at most %d characters".formatted(MAX_QUERY_LENGTH));
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new RequestValidationException("Limit must be between 1 and %d".formatted(MAX_SUGGESTIONS));
+        }
+        log.debug("Completing up to {} movie names for '{}'", limit, prefix);
+        return movieDao.completeMovieNames(prefix, limit);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public MovieLeaderboard getLeaderboard() {
+        return leaderboard.snapshot();
+    }
+
+    @Override
+    public List<MovieRecommendation> getRecommendations(Long movieId, int limit) {
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS) {
+            throw new RequestValidationException("Limit must be between 1 and %d".formatted(MAX_RECOMMENDATIONS));
+        }
+        log.debug("Fetching up to {} recommendations for movie {}", limit, movieId);
+        return movieDao.getRecommendedMovies(movieId, limit);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MOVIES, key = "#movieId"),
+            @CacheEvict(cacheNames = CacheConfig.MOVIE_PAGES, allEntries = true)
+    })
     public void updateMovie(MovieUpdation update, Long movieId) {
         log.info("Updating movie with ID: {}", movieId);
         Movie movie = movieDao.getMovieById(movieId)
@@ -101,6 +261,139 @@ public class MovieServiceImpl implements MovieService {
             throw new RequestValidationException("No data changes found");
         }
         movieDao.updateMovie(movie);
+        leaderboard.movieSaved(movie);
         log.info("Movie updated successfully: {}", movie);
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies the operations in order within one transaction. Name conflicts are resolved up front with one
+     * lookup for every referenced id and one for every referenced name; operations that conflict, miss or fail
+     * validation are reported and skipped while the rest are written as JDBC batches.
+     * <p>
+     * Deletes are flushed before updates and updates before inserts, so a name freed by a delete can be
+     * reused by any later operation and a name freed by a rename can be reused by a create. Updates are applied
+     * to detached copies so nothing reaches the database before the deletes. Renaming onto a name that another
+     * update in the same batch is vacating is reported as a conflict.
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MOVIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MOVIE_PAGES, allEntries = true)
+    })
+    public MovieBatchResponse applyBatch(List<MovieBatchOperation> operations) {
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_BATCH_SIZE) {
+            throw new RequestValidationException("Batch must contain between 1 and %d operations".formatted(MAX_BATCH_SIZE));
+        }
+        log.info("Applying movie batch of {} operations", operations.size());
+
+        Set<Long> ids = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (MovieBatchOperation operation : operations) {
+            if (operation == null) {
+                continue;
+            }
+            if (operation.id() != null) {
+                ids.add(operation.id());
+            }
+            if (operation.name() != null) {
+                names.add(operation.name());
+            }
+        }
+        Map<Long, Movie> moviesById = movieDao.getMoviesByIds(ids).stream()
+                .collect(Collectors.toMap(Movie::getMovie_id, Function.identity()));
+        Set<String> takenNames = movieDao.getMoviesByNames(names).stream()
+                .map(Movie::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Set<String> renamedAway = new HashSet<>();
+        List<Movie> deletes = new ArrayList<>();
+        Map<Long, Movie> updates = new LinkedHashMap<>();
+        Map<Integer, Movie> inserts = new LinkedHashMap<>();
+        MovieBatchResult[] results = new MovieBatchResult[operations.size()];
+
+        for (int i = 0; i < operations.size(); i++) {
+            MovieBatchOperation operation = operations.get(i);
+            if (operation == null || operation.op() == null) {
+                results[i] = new MovieBatchResult(i, null, Status.INVALID, null, "op is required");
+                continue;
+            }
+            results[i] = switch (operation.op()) {
+                case CREATE -> {
+                    if (operation.name() == null || operation.name().isBlank()
+                            || operation.cost() == null || operation.rating() == null) {
+                        yield rejected(i, operation, Status.INVALID, "name, cost and rating are required");
+                    }
+                    if (takenNames.contains(operation.name())) {
+                        yield rejected(i, operation, Status.CONFLICT,
+                                "Movie name %s already exists".formatted(operation.name()));
+                    }
+                    takenNames.add(operation.name());
+                    inserts.put(i, new Movie(operation.name(), operation.cost(), operation.rating()));
+                    yield null;
+                }
+                case UPDATE -> {
+                    Movie loaded = operation.id() == null ? null : moviesById.get(operation.id());
+                    if (loaded == null) {
+                        yield rejected(i, operation, Status.NOT_FOUND, "Movie not found");
+                    }
+                    // edit a detached copy: a dirty managed entity would be flushed along with the deletes,
+                    // and Hibernate runs updates before deletes
+                    Movie movie = updates.containsKey(loaded.getMovie_id())
+                            ? updates.get(loaded.getMovie_id())
+                            : new Movie(loaded.getMovie_id(), loaded.getName(), loaded.getCost(), loaded.getRating());
+                    String newName = operation.name() != null && !operation.name().equals(movie.getName())
+                            ? operation.name() : null;
+                    if (newName != null && (takenNames.contains(newName) || renamedAway.contains(newName))) {
+                        yield rejected(i, operation, Status.CONFLICT,
+                                "Movie name %s already exists".formatted(newName));
+                    }
+                    boolean changes = newName != null;
+                    if (operation.cost() != null && !operation.cost().equals(movie.getCost())) {
+                        changes = true;
+                        movie.setCost(operation.cost());
+                    }
+                    if (operation.rating() != null && !operation.rating().equals(movie.getRating())) {
+                        changes = true;
+                        movie.setRating(operation.rating());
+                    }
+                    if (!changes) {
+                        yield rejected(i, operation, Status.INVALID, "No data changes found");
+                    }
+                    if (newName != null) {
+                        takenNames.remove(movie.getName());
+                        renamedAway.add(movie.getName());
+                        takenNames.add(newName);
+                        movie.setName(newName);
+                    }
+                    updates.put(movie.getMovie_id(), movie);
+                    yield new MovieBatchResult(i, operation.op(), Status.UPDATED, movie.getMovie_id(), null);
+                }
+                case DELETE -> {
+                    Movie movie = operation.id() == null ? null : moviesById.remove(operation.id());
+                    if (movie == null) {
+                        yield rejected(i, operation, Status.NOT_FOUND, "Movie not found");
+                    }
+                    Movie pending = updates.remove(movie.getMovie_id());
+                    takenNames.remove(pending == null ? movie.getName() : pending.getName());
+                    deletes.add(movie);
+                    yield new MovieBatchResult(i, operation.op(), Status.DELETED, movie.getMovie_id(), null);
+                }
+            };
+        }
+
+        movieDao.writeBatch(deletes, updates.values(), inserts.values());
+        deletes.forEach(movie -> leaderboard.movieRemoved(movie.getMovie_id()));
+        updates.values().forEach(leaderboard::movieSaved);
+        inserts.values().forEach(leaderboard::movieSaved);
+        inserts.forEach((i, movie) ->
+                results[i] = new MovieBatchResult(i, operations.get(i).op(), Status.CREATED, movie.getMovie_id(), null));
+
+        MovieBatchResponse response = MovieBatchResponse.of(List.of(results));
+        log.info("Movie batch applied: {} applied, {} rejected", response.applied(), response.rejected());
+        return response;
+    }
+
+    private MovieBatchResult rejected(int index, MovieBatchOperation operation, Status status, String message) {
+        return new MovieBatchResult(index, operation.op(), status, operation.id(), message);
+    }
+}
@@ -0,0 +1,109 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Never returns a false negative; the false-positive rate grows as
+ * more keys than {@code expectedInsertions} are added. Safe for concurrent puts and lookups.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long bitSize = Math.max(64, (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        if (bitSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter would exceed " + Integer.MAX_VALUE + " bits");
+        }
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitSize, hashFunctions);
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = bitIndex(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probability that a key never added is reported as present, estimated from the current bit fill.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount() / bitSize, hashFunctions);
+    }
+
+    public long bitCount() {
+        long count = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            count += Long.bitCount(bits.get(i));
+        }
+        return count;
+    }
+
+    public long sizeInBytes() {
+        return (long) bits.length() * Long.BYTES;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long bitIndex(int combinedHash) {
+        return ((combinedHash & 0xffffffffL) * bitSize) >>> 32;
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the UTF-8 bytes followed by the murmur3 finalizer to spread the bits
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,301 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Immutable "subscribed to this, also subscribed to" index: for every movie, its {@code topK} neighbours by
+ * cosine similarity of their subscriber sets ({@code common / sqrt(subscribers(a) * subscribers(b))}), ties
+ * going to more common subscribers and then the lower id.
+ * <p>
+ * The index is built from subscriptions grouped by customer. Movies are mapped to dense ints and subscriptions
+ * stored as flat basket and inverted arrays, so nothing is boxed. Each movie's row of the co-subscription matrix
+ * is then counted on the fork/join pool and cut down to its top {@code topK}; the full matrix is never held.
+ * Customers with more than {@code maxBasket} subscriptions still count as subscribers but are left out of
+ * the pairs, because they cost quadratically and say little about any one pair of movies.
+ */
+public final class CoSubscriptionIndex {
+
+    public record Neighbour(long movieId, int commonSubscribers, double score) {
+    }
+
+    private final LongIntMap rows;
+    private final int[] offsets;
+    private final long[] neighbourIds;
+    private final int[] commonSubscribers;
+    private final float[] scores;
+
+    private CoSubscriptionIndex(LongIntMap rows, int[] offsets, long[] neighbourIds, int[] commonSubscribers,
+                                float[] scores) {
+        this.rows = rows;
+        this.offsets = offsets;
+        this.neighbourIds = neighbourIds;
+        this.commonSubscribers = commonSubscribers;
+        this.scores = scores;
+    }
+
+    public static Builder builder(int maxBasket) {
+        if (maxBasket < 2) {
+            throw new IllegalArgumentException("maxBasket must be at least 2");
+        }
+        return new Builder(maxBasket);
+    }
+
+    public List<Neighbour> neighbours(long movieId, int limit) {
+        int row = rows.get(movieId);
+        if (row == LongIntMap.MISSING) {
+            return List.of();
+        }
+        int end = Math.min(offsets[row + 1], offsets[row] + limit);
+        List<Neighbour> neighbours = new ArrayList<>(Math.max(0, end - offsets[row]));
+        for (int i = offsets[row]; i < end; i++) {
+            neighbours.add(new Neighbour(neighbourIds[i], commonSubscribers[i], scores[i]));
+        }
+        return neighbours;
+    }
+
+    /**
+     * Movies with at least one subscriber.
+     */
+    public int movies() {
+        return rows.size();
+    }
+
+    /**
+     * Neighbour entries across all movies.
+     */
+    public int pairs() {
+        return neighbourIds.length;
+    }
+
+    public long sizeInBytes() {
+        return rows.sizeInBytes() + 16L + 4L * offsets.length + 16L * 3 + 16L * neighbourIds.length;
+    }
+
+    /**
+     * Collects subscriptions, which must arrive grouped by customer (as {@code order by customer_id} returns
+     * them), then builds the index. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final int maxBasket;
+        private final LongIntMap movieIndex = new LongIntMap(1024);
+        private long[] movieIds = new long[1024];
+        private int[] subscribers = new int[1024];
+        private int movieCount;
+        private int[] basketEnds = new int[1024];
+        private int baskets;
+        private int[] items = new int[4096];
+        private int itemCount;
+        private int basketStart;
+        private long customerId;
+        private boolean open;
+
+        private Builder(int maxBasket) {
+            this.maxBasket = maxBasket;
+        }
+
+        public Builder add(long customerId, long movieId) {
+            if (!open || customerId != this.customerId) {
+                if (open && customerId < this.customerId) {
+                    throw new IllegalArgumentException("Subscriptions must be added in customer order");
+                }
+                closeBasket();
+                this.customerId = customerId;
+                open = true;
+            }
+            int movie = movieIndex.get(movieId);
+            if (movie == LongIntMap.MISSING) {
+                movie = movieCount++;
+                if (movie == movieIds.length) {
+                    movieIds = Arrays.copyOf(movieIds, movie * 2);
+                    subscribers = Arrays.copyOf(subscribers, movie * 2);
+                }
+                movieIds[movie] = movieId;
+                movieIndex.put(movieId, movie);
+            }
+            subscribers[movie]++;
+            if (itemCount == items.length) {
+                items = Arrays.copyOf(items, itemCount * 2);
+            }
+            items[itemCount++] = movie;
+            return this;
+        }
+
+        public CoSubscriptionIndex build(ForkJoinPool pool, int topK) {
+            if (topK < 1) {
+                throw new IllegalArgumentException("topK must be positive");
+            }
+            closeBasket();
+            open = false;
+            int n = movieCount;
+
+            // invert the baskets: movie -> baskets holding it, as one flat array sliced by movie
+            int[] movieStarts = new int[n + 1];
+            for (int i = 0; i < itemCount; i++) {
+                movieStarts[items[i] + 1]++;
+            }
+            for (int m = 0; m < n; m++) {
+                movieStarts[m + 1] += movieStarts[m];
+            }
+            int[] basketsOfMovie = new int[itemCount];
+            int[] fill = Arrays.copyOf(movieStarts, n);
+            for (int b = 0, start = 0; b < baskets; start = basketEnds[b++]) {
+                for (int i = start; i < basketEnds[b]; i++) {
+                    basketsOfMovie[fill[items[i]]++] = b;
+                }
+            }
+
+            Rows rows = new Rows(n, topK, movieIds, subscribers, movieStarts, basketsOfMovie, basketEnds, items);
+            int leaf = Math.max(16, n / (pool.getParallelism() * 16));
+            pool.invoke(new RowTask(rows, 0, n, leaf));
+            return rows.compact(movieIndex);
+        }
+
+        private void closeBasket() {
+            int size = itemCount - basketStart;
+            if (size < 2 || size > maxBasket) {
+                // subscribers are already counted; a lone or oversized basket adds no pairs
+                itemCount = basketStart;
+                return;
+            }
+            if (baskets == basketEnds.length) {
+                basketEnds = Arrays.copyOf(basketEnds, baskets * 2);
+            }
+            basketEnds[baskets++] = itemCount;
+            basketStart = itemCount;
+        }
+    }
+
+    /**
+     * Shared inputs and per-movie output slots; every row is written by exactly one task.
+     */
+    private static final class Rows {
+        final int n;
+        final int topK;
+        final long[] movieIds;
+        final int[] subscribers;
+        final int[] movieStarts;
+        final int[] basketsOfMovie;
+        final int[] basketEnds;
+        final int[] items;
+        final int[] sizes;
+        final int[] neighbours;
+        final int[] common;
+        final float[] scores;
+
+        Rows(int n, int topK, long[] movieIds, int[] subscribers, int[] movieStarts, int[] basketsOfMovie,
+             int[] basketEnds, int[] items) {
+            this.n = n;
+            this.topK = topK;
+            this.movieIds = movieIds;
+            this.subscribers = subscribers;
+            this.movieStarts = movieStarts;
+            this.basketsOfMovie = basketsOfMovie;
+            this.basketEnds = basketEnds;
+            this.items = items;
+            this.sizes = new int[n];
+            this.neighbours = new int[Math.multiplyExact(n, topK)];
+            this.common = new int[neighbours.length];
+            this.scores = new float[neighbours.length];
+        }
+
+        void compute(int from, int to) {
+            int[] counts = new int[n];
+            int[] touched = new int[n];
+            for (int movie = from; movie < to; movie++) {
+                int touchedCount = 0;
+                for (int q = movieStarts[movie]; q < movieStarts[movie + 1]; q++) {
+                    int b = basketsOfMovie[q];
+                    for (int i = b == 0 ? 0 : basketEnds[b - 1]; i < basketEnds[b]; i++) {
+                        int other = items[i];
+                        if (other != movie && counts[other]++ == 0) {
+                            touched[touchedCount++] = other;
+                        }
+                    }
+                }
+                int base = movie * topK;
+                int size = 0;
+                for (int t = 0; t < touchedCount; t++) {
+                    int other = touched[t];
+                    int count = counts[other];
+                    counts[other] = 0;
+                    float score = (float) (count / Math.sqrt((double) subscribers[movie] * subscribers[other]));
+                    int slot = size;
+                    while (slot > 0 && better(score, count, other, base + slot - 1)) {
+                        slot--;
+                    }
+                    if (slot == topK) {
+                        continue;
+                    }
+                    int last = Math.min(size, topK - 1);
+                    System.arraycopy(neighbours, base + slot, neighbours, base + slot + 1, last - slot);
+                    System.arraycopy(common, base + slot, common, base + slot + 1, last - slot);
+                    System.arraycopy(scores, base + slot, scores, base + slot + 1, last - slot);
+                    neighbours[base + slot] = other;
+                    common[base + slot] = count;
+                    scores[base + slot] = score;
+                    size = Math.min(size + 1, topK);
+                }
+                sizes[movie] = size;
+            }
+        }
+
+        private boolean better(float score, int count, int movie, int slot) {
+            if (score != scores[slot]) {
+                return score > scores[slot];
+            }
+            if (count != common[slot]) {
+                return count > common[slot];
+            }
+            return movieIds[movie] < movieIds[neighbours[slot]];
+        }
+
+        CoSubscriptionIndex compact(LongIntMap rows) {
+            int[] offsets = new int[n + 1];
+            for (int m = 0; m < n; m++) {
+                offsets[m + 1] = offsets[m] + sizes[m];
+            }
+            int total = offsets[n];
+            long[] neighbourIds = new long[total];
+            int[] commonSubscribers = new int[total];
+            float[] neighbourScores = new float[total];
+            for (int m = 0; m < n; m++) {
+                int base = m * topK;
+                for (int i = 0; i < sizes[m]; i++) {
+                    neighbourIds[offsets[m] + i] = movieIds[neighbours[base + i]];
+                    commonSubscribers[offsets[m] + i] = common[base + i];
+                    neighbourScores[offsets[m] + i] = scores[base + i];
+                }
+            }
+            return new CoSubscriptionIndex(rows, offsets, neighbourIds, commonSubscribers, neighbourScores);
+        }
+    }
+
+    private static final class RowTask extends RecursiveAction {
+        private final Rows rows;
+        private final int from;
+        private final int to;
+        private final int leaf;
+
+        RowTask(Rows rows, int from, int to, int leaf) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leaf) {
+                rows.compute(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowTask(rows, from, middle, leaf), new RowTask(rows, middle, to, leaf));
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Search-as-you-type index: a radix trie over normalised text in which every node whose subtree holds more than
+ * {@code topK} keys keeps its best {@code topK} matches by score. A lookup is one walk down the prefix plus a copy
+ * of at most {@code topK} references; smaller subtrees are collected on demand, which keeps the ranking arrays
+ * off the long tail of deep nodes.
+ * <p>
+ * Text is indexed from the start of every word, so "dark" finds "The Dark Knight". Lookups share a read lock and
+ * updates take the write lock.
+ */
+public final class PrefixIndex {
+
+    public record Match(long id, String text, double score) {
+    }
+
+    private static final Comparator<Match> BEST_FIRST =
+            Comparator.comparingDouble(Match::score).reversed().thenComparingLong(Match::id);
+
+    // shallow sizes on a 64-bit JVM with compressed oops
+    private static final int NODE_BYTES = 32;
+    private static final int MATCH_BYTES = 32;
+    private static final int STRING_BYTES = 24;
+
+    private final int topK;
+    private final Node root = new Node(new char[0]);
+    private final IdTable matches = new IdTable();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PrefixIndex(int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("topK must be positive");
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * Adds the text under {@code id}, replacing whatever was indexed for that id before.
+     */
+    public void put(long id, String text, double score) {
+        Match match = new Match(id, text, score);
+        lock.writeLock().lock();
+        try {
+            Match previous = matches.get(id);
+            if (match.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                for (String key : keys(previous.text())) {
+                    delete(root, key, 0, previous);
+                }
+            }
+            matches.put(match);
+            for (String key : keys(text)) {
+                insert(root, key, 0, match);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Match previous = matches.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            for (String key : keys(previous.text())) {
+                delete(root, key, 0, previous);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} (at most {@code topK}) matches with a word starting with {@code prefix}, best
+     * score first
+     */
+    public List<Match> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null || limit <= 0) {
+                return List.of();
+            }
+            if (node.top != null) {
+                return List.of(node.top.length > limit ? Arrays.copyOf(node.top, limit) : node.top);
+            }
+            List<Match> candidates = new ArrayList<>();
+            gather(node, candidates);
+            return List.of(rank(candidates, Math.min(limit, topK)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return matches.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimated heap footprint of the trie, the id table and the indexed strings, assuming compressed oops and
+     * Latin-1 strings.
+     */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = array(4, matches.table.length);
+            for (Match match : matches.table) {
+                if (match != null) {
+                    bytes += MATCH_BYTES + STRING_BYTES + array(1, match.text().length());
+                }
+            }
+            return bytes + sizeInBytes(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cases, strips accents and apostrophes, and collapses every other run of non-alphanumerics into a
+     * single space.
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean separator = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                separator = false;
+            } else if (c != '\'' && c != '’' && Character.getType(c) != Character.NON_SPACING_MARK) {
+                separator = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static List<String> keys(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        int pos = 0;
+        while (pos < key.length()) {
+            int slot = slot(node, key.charAt(pos));
+            if (slot < 0) {
+                return null;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, pos);
+            if (pos + common == key.length()) {
+                // the prefix may end part-way along the edge
+                return child;
+            }
+            if (common < child.label.length) {
+                return null;
+            }
+            node = child;
+            pos += common;
+        }
+        return node;
+    }
+
+    private void insert(Node node, String key, int pos, Match match) {
+        node.keys++;
+        if (pos == key.length()) {
+            node.terminals = withTerminal(node.terminals, match);
+        } else {
+            int slot = slot(node, key.charAt(pos));
+            if (slot < 0) {
+                Node leaf = new Node(key.substring(pos).toCharArray());
+                leaf.keys = 1;
+                leaf.terminals = match;
+                node.children = insertAt(node.children, -slot - 1, leaf);
+            } else {
+                Node child = node.children[slot];
+                int common = commonPrefix(child.label, key, pos);
+                if (common < child.label.length) {
+                    child = split(node, slot, common);
+                }
+                insert(child, key, pos + common, match);
+            }
+        }
+        if (node.keys <= topK) {
+            node.top = null;
+        } else if (node.top == null) {
+            node.top = best(node);
+        } else {
+            node.top = offer(node.top, match);
+        }
+    }
+
+    private void delete(Node node, String key, int pos, Match match) {
+        node.keys--;
+        if (pos == key.length()) {
+            node.terminals = withoutTerminal(node.terminals, match);
+        } else {
+            int slot = slot(node, key.charAt(pos));
+            Node child = node.children[slot];
+            delete(child, key, pos + child.label.length, match);
+            if (child.keys == 0) {
+                node.children = removeAt(node.children, slot);
+            } else if (child.terminals == null && child.children.length == 1) {
+                // a pass-through node left behind by the removal is folded into its only child
+                Node only = child.children[0];
+                char[] label = Arrays.copyOf(child.label, child.label.length + only.label.length);
+                System.arraycopy(only.label, 0, label, child.label.length, only.label.length);
+                only.label = label;
+                node.children[slot] = only;
+            }
+        }
+        if (node.keys <= topK) {
+            node.top = null;
+        } else if (contains(node.top, match)) {
+            node.top = best(node);
+        }
+    }
+
+    private static Node split(Node parent, int slot, int at) {
+        Node child = parent.children[slot];
+        Node head = new Node(Arrays.copyOf(child.label, at));
+        child.label = Arrays.copyOfRange(child.label, at, child.label.length);
+        head.children = new Node[]{child};
+        head.keys = child.keys;
+        head.top = child.top;
+        parent.children[slot] = head;
+        return head;
+    }
+
+    private Match[] best(Node node) {
+        List<Match> candidates = new ArrayList<>();
+        addTerminals(node, candidates);
+        if (node.children != null) {
+            for (Node child : node.children) {
+                gather(child, candidates);
+            }
+        }
+        return rank(candidates, topK);
+    }
+
+    private static void gather(Node node, List<Match> candidates) {
+        if (node.top != null) {
+            Collections.addAll(candidates, node.top);
+            return;
+        }
+        addTerminals(node, candidates);
+        if (node.children != null) {
+            for (Node child : node.children) {
+                gather(child, candidates);
+            }
+        }
+    }
+
+    private static Match[] rank(List<Match> candidates, int limit) {
+        candidates.sort(BEST_FIRST);
+        List<Match> ranked = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (Match candidate : candidates) {
+            // a title indexed under several words of one prefix shows up once per word
+            if (ranked.isEmpty() || ranked.get(ranked.size() - 1) != candidate) {
+                ranked.add(candidate);
+                if (ranked.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return ranked.toArray(new Match[0]);
+    }
+
+    private Match[] offer(Match[] top, Match match) {
+        if (contains(top, match) || (top.length == topK && BEST_FIRST.compare(match, top[topK - 1]) >= 0)) {
+            return top;
+        }
+        int at = 0;
+        while (at < top.length && BEST_FIRST.compare(top[at], match) < 0) {
+            at++;
+        }
+        Match[] offered = new Match[Math.min(topK, top.length + 1)];
+        System.arraycopy(top, 0, offered, 0, at);
+        offered[at] = match;
+        System.arraycopy(top, at, offered, at + 1, offered.length - at - 1);
+        return offered;
+    }
+
+    private static boolean contains(Match[] matches, Match match) {
+        if (matches != null) {
+            for (Match candidate : matches) {
+                if (candidate == match) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int slot(Node node, char c) {
+        Node[] children = node.children;
+        if (children == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = children[mid].label[0];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefix(char[] label, String key, int pos) {
+        int max = Math.min(label.length, key.length() - pos);
+        int i = 0;
+        while (i < max && label[i] == key.charAt(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static void addTerminals(Node node, List<Match> candidates) {
+        if (node.terminals instanceof Match match) {
+            candidates.add(match);
+        } else if (node.terminals != null) {
+            Collections.addAll(candidates, (Match[]) node.terminals);
+        }
+    }
+
+    private static Object withTerminal(Object terminals, Match match) {
+        if (terminals == null) {
+            return match;
+        }
+        if (terminals instanceof Match single) {
+            return new Match[]{single, match};
+        }
+        Match[] matches = (Match[]) terminals;
+        Match[] appended = Arrays.copyOf(matches, matches.length + 1);
+        appended[matches.length] = match;
+        return appended;
+    }
+
+    private static Object withoutTerminal(Object terminals, Match match) {
+        if (terminals == match) {
+            return null;
+        }
+        if (!(terminals instanceof Match[] matches)) {
+            return terminals;
+        }
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i] == match) {
+                if (matches.length == 2) {
+                    return matches[1 - i];
+                }
+                Match[] remaining = new Match[matches.length - 1];
+                System.arraycopy(matches, 0, remaining, 0, i);
+                System.arraycopy(matches, i + 1, remaining, i, remaining.length - i);
+                return remaining;
+            }
+        }
+        return matches;
+    }
+
+    private static Node[] insertAt(Node[] children, int at, Node child) {
+        if (children == null) {
+            return new Node[]{child};
+        }
+        Node[] inserted = new Node[children.length + 1];
+        System.arraycopy(children, 0, inserted, 0, at);
+        inserted[at] = child;
+        System.arraycopy(children, at, inserted, at + 1, children.length - at);
+        return inserted;
+    }
+
+    private static Node[] removeAt(Node[] children, int at) {
+        if (children.length == 1) {
+            return null;
+        }
+        Node[] remaining = new Node[children.length - 1];
+        System.arraycopy(children, 0, remaining, 0, at);
+        System.arraycopy(children, at + 1, remaining, at, remaining.length - at);
+        return remaining;
+    }
+
+    private static long nodeCount(Node node) {
+        long count = 1;
+        if (node.children != null) {
+            for (Node child : node.children) {
+                count += nodeCount(child);
+            }
+        }
+        return count;
+    }
+
+    private static long sizeInBytes(Node node) {
+        long bytes = NODE_BYTES + array(2, node.label.length);
+        if (node.terminals instanceof Match[] matches) {
+            bytes += array(4, matches.length);
+        }
+        if (node.top != null) {
+            bytes += array(4, node.top.length);
+        }
+        if (node.children != null) {
+            bytes += array(4, node.children.length);
+            for (Node child : node.children) {
+                bytes += sizeInBytes(child);
+            }
+        }
+        return bytes;
+    }
+
+    private static long array(int elementBytes, int length) {
+        return (16 + (long) elementBytes * length + 7) & ~7L;
+    }
+
+    private static final class Node {
+        private char[] label;
+        private Node[] children;
+        // a single Match, or a Match[] when several keys end here; most leaves hold exactly one
+        private Object terminals;
+        private Match[] top;
+        private int keys;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Open-addressing table of matches keyed by their id, about a quarter of the size of a
+     * {@code HashMap<Long, Match>}.
+     */
+    private static final class IdTable {
+        private Match[] table = new Match[16];
+        private int size;
+
+        Match get(long id) {
+            int mask = table.length - 1;
+            for (int i = index(id, mask); table[i] != null; i = (i + 1) & mask) {
+                if (table[i].id() == id) {
+                    return table[i];
+                }
+            }
+            return null;
+        }
+
+        void put(Match match) {
+            if ((size + 1) * 4L > table.length * 3L) {
+                resize();
+            }
+            int mask = table.length - 1;
+            int i = index(match.id(), mask);
+            while (table[i] != null) {
+                if (table[i].id() == match.id()) {
+                    table[i] = match;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = match;
+            size++;
+        }
+
+        Match remove(long id) {
+            int mask = table.length - 1;
+            int i = index(id, mask);
+            while (table[i] != null && table[i].id() != id) {
+                i = (i + 1) & mask;
+            }
+            Match removed = table[i];
+            if (removed == null) {
+                return null;
+            }
+            // backward-shift deletion keeps every probe chain unbroken without tombstones
+            int gap = i;
+            for (int j = (i + 1) & mask; table[j] != null; j = (j + 1) & mask) {
+                int home = index(table[j].id(), mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    table[gap] = table[j];
+                    gap = j;
+                }
+            }
+            table[gap] = null;
+            size--;
+            return removed;
+        }
+
+        private void resize() {
+            Match[] old = table;
+            table = new Match[old.length * 2];
+            int mask = table.length - 1;
+            for (Match match : old) {
+                if (match != null) {
+                    int i = index(match.id(), mask);
+                    while (table[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    table[i] = match;
+                }
+            }
+        }
+
+        private static int index(long id, int mask) {
+            long h = id * 0x9e3779b97f4a7c15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
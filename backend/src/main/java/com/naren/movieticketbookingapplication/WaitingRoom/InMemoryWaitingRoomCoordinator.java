@@ -0,0 +1,48 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * Per-node queue. Each node admits at the configured rate on its own, so the database sees
+ * {@code nodes * rate} admissions per second.
+ */
+@Component
+@ConditionalOnProperty(name = "waiting-room.coordinator", havingValue = "memory", matchIfMissing = true)
+public class InMemoryWaitingRoomCoordinator implements WaitingRoomCoordinator {
+
+    private long issued;
+    private long admitted;
+
+    @Override
+    public synchronized long issue() {
+        return ++issued;
+    }
+
+    @Override
+    public synchronized OptionalLong issueAdmitted() {
+        if (admitted < issued) {
+            return OptionalLong.empty();
+        }
+        admitted = ++issued;
+        return OptionalLong.of(issued);
+    }
+
+    @Override
+    public synchronized long advance(long count) {
+        admitted = Math.min(issued, admitted + count);
+        return admitted;
+    }
+
+    @Override
+    public synchronized long admitted() {
+        return admitted;
+    }
+
+    @Override
+    public synchronized long issued() {
+        return issued;
+    }
+}
@@ -0,0 +1,9 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import java.time.Instant;
+
+/**
+ * A place in the waiting room, bound to the user it was issued to.
+ */
+public record QueueTicket(long number, String subject, Instant issuedAt) {
+}
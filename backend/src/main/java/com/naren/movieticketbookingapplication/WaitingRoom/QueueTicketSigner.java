@@ -0,0 +1,107 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Encodes tickets as {@code payload.signature} with an HMAC-SHA256 signature, so a node can check a ticket
+ * without looking it up anywhere. Without {@code waiting-room.ticket-secret} a random key is generated at
+ * startup, which only works for a single node.
+ */
+@Slf4j
+@Component
+public class QueueTicketSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ticketTtl;
+    private final Clock clock;
+
+    @Autowired
+    public QueueTicketSigner(@Value("${waiting-room.ticket-secret:}") String secret,
+                             @Value("${waiting-room.ticket-ttl:2h}") Duration ticketTtl) {
+        this(secret, ticketTtl, Clock.systemUTC());
+    }
+
+    QueueTicketSigner(String secret, Duration ticketTtl, Clock clock) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            log.info("No waiting-room.ticket-secret configured, queue tickets are only valid on this node");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ticketTtl = ticketTtl;
+        this.clock = clock;
+    }
+
+    public String sign(QueueTicket ticket) {
+        String payload = ENCODER.encodeToString("%d:%d:%s".formatted(ticket.number(),
+                ticket.issuedAt().toEpochMilli(), ticket.subject()).getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    /**
+     * @return the ticket if the signature is valid and it has not expired
+     */
+    public Optional<QueueTicket> verify(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        int dot = value.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        String payload = value.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(mac(payload), DECODER.decode(value.substring(dot + 1)))) {
+                return Optional.empty();
+            }
+            String[] fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":", 3);
+            QueueTicket ticket = new QueueTicket(Long.parseLong(fields[0]), fields[2],
+                    Instant.ofEpochMilli(Long.parseLong(fields[1])));
+            if (expiresAt(ticket).isBefore(clock.instant())) {
+                return Optional.empty();
+            }
+            return Optional.of(ticket);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * When {@link #verify} stops accepting {@code ticket}.
+     */
+    public Instant expiresAt(QueueTicket ticket) {
+        return ticket.issuedAt().plus(ticketTtl);
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
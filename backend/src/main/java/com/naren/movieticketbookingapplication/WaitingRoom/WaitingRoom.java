@@ -0,0 +1,220 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual waiting room for the booking endpoints. Visitors get a signed ticket numbered in arrival order;
+ * every admission tick a token bucket decides how many more tickets are let in, so bookings reach the
+ * database at {@code admission-rate} per second however large the rush. An admitted ticket opens a session
+ * that lasts {@code session-ttl}, and at most {@code max-sessions} sessions are open per node; admission
+ * stops while the node is full. {@link WaitingRoomFilter} ends a session as soon as its booking completes, so
+ * {@code session-ttl} only bounds abandoned sessions: if every visitor walks away a node still admits
+ * {@code max-sessions / session-ttl} per second, which is why {@code max-sessions} should be at least
+ * {@code admission-rate * session-ttl}. A ticket whose session was ended that way is spent on this node until
+ * it expires: presenting it again counts as a new arrival, so every booking passes the admission rate. A ticket
+ * whose session merely timed out keeps its place and is let back in while there is room.
+ * <p>
+ * When nobody is queued a visitor is admitted on the spot as long as the bucket has a token left.
+ */
+@Slf4j
+@Component
+public class WaitingRoom {
+
+    private final WaitingRoomCoordinator coordinator;
+    private final QueueTicketSigner signer;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int maxSessions;
+    private final Duration sessionTtl;
+    private final double admissionRate;
+    private final double burst;
+    private final Map<Long, Long> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> spentTickets = new ConcurrentHashMap<>();
+    private final Counter admittedRequests;
+    private final Counter queuedRequests;
+
+    private double tokens;
+    private long refilledAt;
+    private volatile long waiting;
+
+    @Autowired
+    public WaitingRoom(WaitingRoomCoordinator coordinator,
+                       QueueTicketSigner signer,
+                       MeterRegistry meterRegistry,
+                       @Value("${waiting-room.enabled:false}") boolean enabled,
+                       @Value("${waiting-room.max-sessions:3000}") int maxSessions,
+                       @Value("${waiting-room.session-ttl:1m}") Duration sessionTtl,
+                       @Value("${waiting-room.admission-rate:50}") double admissionRate,
+                       @Value("${waiting-room.burst:0}") double burst) {
+        this(coordinator, signer, meterRegistry, enabled, maxSessions, sessionTtl, admissionRate, burst,
+                Clock.systemUTC());
+    }
+
+    WaitingRoom(WaitingRoomCoordinator coordinator, QueueTicketSigner signer, MeterRegistry meterRegistry,
+                boolean enabled, int maxSessions, Duration sessionTtl, double admissionRate, double burst,
+                Clock clock) {
+        this.coordinator = coordinator;
+        this.signer = signer;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxSessions = maxSessions;
+        this.sessionTtl = sessionTtl;
+        this.admissionRate = admissionRate;
+        this.burst = burst > 0 ? burst : Math.max(1, admissionRate);
+        this.tokens = this.burst;
+        this.refilledAt = clock.millis();
+        this.admittedRequests = Counter.builder("waiting.room.requests")
+                .tag("outcome", "admitted")
+                .description("Booking requests let through the waiting room")
+                .register(meterRegistry);
+        this.queuedRequests = Counter.builder("waiting.room.requests")
+                .tag("outcome", "queued")
+                .description("Booking requests turned away with a queue ticket")
+                .register(meterRegistry);
+        Gauge.builder("waiting.room.sessions.active", sessions, Map::size)
+                .description("Booking sessions open on this node")
+                .register(meterRegistry);
+        Gauge.builder("waiting.room.queue.length", this, room -> room.waiting)
+                .description("Tickets issued but not yet admitted")
+                .register(meterRegistry);
+        if (enabled && maxSessions < admissionRate * sessionTtl.toSeconds()) {
+            log.warn("waiting-room.max-sessions {} is below admission-rate x session-ttl ({}); abandoned sessions"
+                    + " will hold admissions under {}/s", maxSessions, (long) (admissionRate * sessionTtl.toSeconds()),
+                    maxSessions / Math.max(1, sessionTtl.toSeconds()));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Decides whether {@code subject} may proceed with the ticket it presented, if any.
+     */
+    public Admission admit(String subject, String presentedTicket) {
+        Optional<QueueTicket> ticket = signer.verify(presentedTicket)
+                .filter(t -> t.subject().equals(subject));
+        Admission admission = ticket.isPresent() && !spentTickets.containsKey(ticket.get().number())
+                ? admitTicket(ticket.get(), presentedTicket)
+                : admitNewcomer(subject);
+        (admission.admitted() ? admittedRequests : queuedRequests).increment();
+        return admission;
+    }
+
+    /**
+     * Frees the session opened for {@code presentedTicket} once the caller's booking is done.
+     */
+    public void endSession(String subject, String presentedTicket) {
+        signer.verify(presentedTicket)
+                .filter(t -> t.subject().equals(subject))
+                .ifPresent(t -> {
+                    spentTickets.put(t.number(), signer.expiresAt(t).toEpochMilli());
+                    sessions.remove(t.number());
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${waiting-room.admission-interval:PT0.2S}")
+    void admitNext() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        sessions.values().removeIf(expiresAt -> expiresAt <= now);
+        spentTickets.values().removeIf(expiresAt -> expiresAt <= now);
+        long before = coordinator.admitted();
+        long queued = Math.max(0, coordinator.issued() - before);
+        long headroom = Math.max(0, maxSessions - sessions.size());
+        long count;
+        synchronized (this) {
+            refill(now);
+            count = Math.min((long) tokens, Math.min(queued, headroom));
+        }
+        long after = coordinator.advance(count);
+        synchronized (this) {
+            tokens -= Math.min(count, Math.max(0, after - before));
+        }
+        waiting = Math.max(0, queued - (after - before));
+    }
+
+    private Admission admitTicket(QueueTicket ticket, String signed) {
+        Long expiresAt = sessions.get(ticket.number());
+        if (expiresAt != null && expiresAt > clock.millis()) {
+            return Admission.granted(signed);
+        }
+        if (ticket.number() <= coordinator.admitted()) {
+            // admitted ticket without a session yet; it keeps its turn while the node is full
+            return startSession(ticket.number()) ? Admission.granted(signed) : queued(ticket, signed);
+        }
+        return queued(ticket, signed);
+    }
+
+    private Admission admitNewcomer(String subject) {
+        if (sessions.size() < maxSessions && takeToken()) {
+            OptionalLong number = coordinator.issueAdmitted();
+            if (number.isPresent() && startSession(number.getAsLong())) {
+                return Admission.granted(signer.sign(new QueueTicket(number.getAsLong(), subject, clock.instant())));
+            }
+            synchronized (this) {
+                tokens = Math.min(burst, tokens + 1);
+            }
+            if (number.isPresent()) {
+                QueueTicket ticket = new QueueTicket(number.getAsLong(), subject, clock.instant());
+                return queued(ticket, signer.sign(ticket));
+            }
+        }
+        QueueTicket ticket = new QueueTicket(coordinator.issue(), subject, clock.instant());
+        return queued(ticket, signer.sign(ticket));
+    }
+
+    private Admission queued(QueueTicket ticket, String signed) {
+        long position = Math.max(0, ticket.number() - coordinator.admitted());
+        long waitSeconds = (long) Math.ceil(position / admissionRate);
+        return new Admission(false, signed, position, Duration.ofSeconds(waitSeconds));
+    }
+
+    private synchronized boolean startSession(long number) {
+        if (sessions.size() >= maxSessions) {
+            return false;
+        }
+        sessions.put(number, clock.millis() + sessionTtl.toMillis());
+        return true;
+    }
+
+    private synchronized boolean takeToken() {
+        refill(clock.millis());
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - refilledAt) * admissionRate / 1000);
+        refilledAt = now;
+    }
+
+    /**
+     * @param ticket the signed ticket the client should present on its next request
+     */
+    public record Admission(boolean admitted, String ticket, long position, Duration estimatedWait) {
+
+        static Admission granted(String ticket) {
+            return new Admission(true, ticket, 0, Duration.ZERO);
+        }
+    }
+}
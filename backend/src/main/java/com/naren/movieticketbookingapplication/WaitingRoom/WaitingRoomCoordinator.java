@@ -0,0 +1,32 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import java.util.OptionalLong;
+
+/**
+ * Shared state of the waiting room: a ticket counter and an admission watermark. Tickets are numbered in
+ * arrival order and a ticket is admitted once the watermark has reached its number, so visitors are let in
+ * first come, first served no matter which node they reach.
+ */
+public interface WaitingRoomCoordinator {
+
+    /**
+     * Hands out the next ticket number.
+     */
+    long issue();
+
+    /**
+     * Hands out a ticket that is admitted straight away, but only while nobody is waiting.
+     */
+    OptionalLong issueAdmitted();
+
+    /**
+     * Admits up to {@code count} more tickets, never past the last one issued.
+     *
+     * @return the new watermark
+     */
+    long advance(long count);
+
+    long admitted();
+
+    long issued();
+}
@@ -0,0 +1,104 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naren.movieticketbookingapplication.Dto.QueueStatus;
+import com.naren.movieticketbookingapplication.WaitingRoom.WaitingRoom.Admission;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Sends booking writes through the {@link WaitingRoom}. Runs after authentication so tickets are bound to
+ * the caller; unauthenticated requests pass through and are rejected by the security chain as usual.
+ * Queued callers get a 503 with {@code Retry-After} and their ticket, which they send back in the
+ * {@value #TICKET_HEADER} header. A successful request to one of the {@code completing-paths} ends the
+ * caller's session so the slot goes to the next ticket instead of idling until {@code session-ttl}.
+ */
+@Slf4j
+@Component
+public class WaitingRoomFilter extends OncePerRequestFilter {
+
+    public static final String TICKET_HEADER = "X-Queue-Ticket";
+
+    private final WaitingRoom waitingRoom;
+    private final ObjectMapper objectMapper;
+    private final List<String> paths;
+    private final List<String> completingPaths;
+    private final long maxRetryAfterSeconds;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public WaitingRoomFilter(WaitingRoom waitingRoom,
+                             ObjectMapper objectMapper,
+                             @Value("${waiting-room.paths:/api/v1/customers/*/bookings,/api/v1/customers/*/holds/**,/api/v1/customers/add-movie/**}") List<String> paths,
+                             @Value("${waiting-room.completing-paths:/api/v1/customers/*/bookings,/api/v1/customers/*/holds/*/confirm,/api/v1/customers/add-movie/**}") List<String> completingPaths,
+                             @Value("${waiting-room.max-retry-after:5s}") Duration maxRetryAfter) {
+        this.waitingRoom = waitingRoom;
+        this.objectMapper = objectMapper;
+        this.paths = paths;
+        this.completingPaths = completingPaths;
+        this.maxRetryAfterSeconds = Math.max(1, maxRetryAfter.toSeconds());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!waitingRoom.isEnabled()) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!method.equals("POST") && !method.equals("PUT")) {
+            return true;
+        }
+        return !matches(paths, request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Admission admission = waitingRoom.admit(authentication.getName(), request.getHeader(TICKET_HEADER));
+        response.setHeader(TICKET_HEADER, admission.ticket());
+        if (admission.admitted()) {
+            filterChain.doFilter(request, response);
+            if (response.getStatus() < 400 && matches(completingPaths, request)) {
+                waitingRoom.endSession(authentication.getName(), admission.ticket());
+            }
+            return;
+        }
+
+        log.debug("Queued {} at position {}", authentication.getName(), admission.position());
+        long retryAfter = Math.min(maxRetryAfterSeconds, Math.max(1, admission.estimatedWait().toSeconds()));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new QueueStatus(admission.ticket(), admission.position(), admission.estimatedWait().toSeconds()));
+    }
+
+    private boolean matches(List<String> patterns, HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return patterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+}
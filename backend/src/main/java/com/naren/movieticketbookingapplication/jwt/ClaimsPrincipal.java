@@ -0,0 +1,22 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Principal built from a verified token in claims mode. Carries the customer id claim, so ownership checks need no
+ * customer lookup; the id is {@code null} for tokens issued without one.
+ */
+@Getter
+public class ClaimsPrincipal extends User {
+
+    private final Long customerId;
+
+    public ClaimsPrincipal(String username, Long customerId, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.customerId = customerId;
+    }
+}
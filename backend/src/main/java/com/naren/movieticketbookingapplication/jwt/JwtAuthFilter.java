@@ -1,32 +1,44 @@
 package com.naren.movieticketbookingapplication.jwt;
 
 import com.naren.movieticketbookingapplication.Service.CustomerUserDetailsService;
+import com.naren.movieticketbookingapplication.jwt.JwtTokenVerifier.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
-@Configuration
+@Component
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtTokenVerifier tokenVerifier;
     private final UserDetailsService userDetailsService;
+    private final SubjectRevocationCheck revocationCheck;
+    private final JwtAuthMode authMode;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, CustomerUserDetailsService userDetailsService) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthFilter(JwtTokenVerifier tokenVerifier, CustomerUserDetailsService userDetailsService,
+                         SubjectRevocationCheck revocationCheck,
+                         @Value("${jwt.auth-mode:claims}") JwtAuthMode authMode) {
+        this.tokenVerifier = tokenVerifier;
         this.userDetailsService = userDetailsService;
+        this.revocationCheck = revocationCheck;
+        this.authMode = authMode;
     }
 
     @Override
@@ -35,7 +47,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        log.info("Starting JWT_FILTER on " + request);
+        if (log.isDebugEnabled()) {
+            log.debug("JWT filter on {} {}", request.getMethod(), request.getRequestURI());
+        }
 
         final String authHeader = request.getHeader("Authorization");
 
@@ -46,25 +60,43 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7);
 
-        String userName = jwtUtil.getSubject(token);
+        Optional<VerifiedToken> verified = tokenVerifier.verify(token);
 
-        if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
+        if (verified.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authenticationToken = authMode == JwtAuthMode.CLAIMS
+                    ? authenticateFromClaims(verified.get())
+                    : authenticateFromDatabase(verified.get());
 
-            if (jwtUtil.isTokenValid(token, userDetails.getUsername())) {
-                UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, "null", userDetails.getAuthorities()
-                        );
+            if (authenticationToken != null) {
                 authenticationToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-
             }
+        }
 
-            filterChain.doFilter(request, response);
+        filterChain.doFilter(request, response);
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(VerifiedToken token) {
+        String userName = token.subject();
+        if (!revocationCheck.isActive(userName)) {
+            log.warn("JWT subject {} is no longer active", userName);
+            return null;
         }
+        List<GrantedAuthority> authorities = token.roles()
+                .stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        UserDetails principal = new ClaimsPrincipal(userName, token.customerId(), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromDatabase(VerifiedToken token) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(token.subject());
+        return new UsernamePasswordAuthenticationToken(
+                userDetails, "null", userDetails.getAuthorities()
+        );
     }
 }
@@ -0,0 +1,12 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+public enum JwtAuthMode {
+    /**
+     * Authorities are taken from the verified role-name claims of the token; no customer lookup per request.
+     */
+    CLAIMS,
+    /**
+     * Authorities are loaded from the customer table on every request.
+     */
+    DATABASE
+}
@@ -0,0 +1,114 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parses and verifies a bearer token once per request. Verified tokens are remembered by SHA-256 digest
+ * until they expire (or the cache TTL passes), so repeat callers skip the HMAC check and JSON parsing.
+ * A max-size of 0 disables the cache.
+ */
+@Slf4j
+@Service
+public class JwtTokenVerifier {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenVerifier(JwtUtil jwtUtil,
+                            MeterRegistry meterRegistry,
+                            @Value("${jwt.verification-cache.max-size:50000}") long maxSize,
+                            @Value("${jwt.verification-cache.ttl:5m}") Duration ttl) {
+        this.jwtUtil = jwtUtil;
+        if (maxSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfter(new TokenExpiry(ttl))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified.tokens");
+        } else {
+            this.verifiedTokens = null;
+        }
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached);
+        }
+        Optional<VerifiedToken> verified = parse(token);
+        verified.ifPresent(v -> verifiedTokens.put(digest, v));
+        return verified;
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
+        try {
+            Claims claims = jwtUtil.getClaims(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                log.warn("JWT token without subject or expiration rejected");
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    JwtUtil.getCustomerId(claims),
+                    JwtUtil.getRoles(claims),
+                    claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Error validating JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record VerifiedToken(String subject, Long customerId, List<String> roles, Instant expiresAt) {
+    }
+
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.naren.movieticketbookingapplication.jwt;
 import com.naren.movieticketbookingapplication.Entity.Role;
 import com.naren.movieticketbookingapplication.Exception.AlgorithmNotSupportedException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,7 +14,9 @@ import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,7 +24,10 @@ import java.util.Set;
 @Service
 public class JwtUtil {
 
+    static final String CUSTOMER_ID_CLAIM = "customerId";
+
     private static final SecretKey SECRET_KEY;
+    private static final JwtParser PARSER;
 
     static {
         try {
@@ -29,6 +35,8 @@ public class JwtUtil {
         } catch (NoSuchAlgorithmException e) {
             throw new AlgorithmNotSupportedException("Algorithm not supported");
         }
+        // JwtParser is immutable and thread-safe, so one instance serves every request
+        PARSER = Jwts.parser().verifyWith(SECRET_KEY).build();
     }
 
     private static SecretKey generateSecretKey() throws NoSuchAlgorithmException {
@@ -53,9 +61,19 @@ public class JwtUtil {
     }
 
     public String issueToken(String subject, Set<Role> roles) {
+        return issueToken(subject, null, roles);
+    }
+
+    /**
+     * The customer id rides along as a claim so customer-scoped endpoints can check ownership without a lookup.
+     */
+    public String issueToken(String subject, Long customerId, Set<Role> roles) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("subject", subject);
-        claims.put("roles", roles);
+        if (customerId != null) {
+            claims.put(CUSTOMER_ID_CLAIM, customerId);
+        }
+        claims.put("roles", roles.stream().map(Role::getName).sorted().toList());
 
         return Jwts
                 .builder()
@@ -68,9 +86,9 @@ public class JwtUtil {
     }
 
 
-    private Claims getClaims(String token) {
+    Claims getClaims(String token) {
         log.debug("Parsing and verifying JWT token");
-        return Jwts.parser().verifyWith(SECRET_KEY).build().parseSignedClaims(token).getPayload();
+        return PARSER.parseSignedClaims(token).getPayload();
     }
 
     public String getSubject(String token) {
@@ -78,10 +96,26 @@ public class JwtUtil {
         return getClaims(token).getSubject();
     }
 
-//    public Set<String> getRoles(String token) {
-//        //noinspection unchecked
-//        return (Set<String>) getClaims(token).get("roles");
-//    }
+    public List<String> getRoles(String token) {
+        log.debug("Getting roles from JWT token");
+        return getRoles(getClaims(token));
+    }
+
+    static List<String> getRoles(Claims claims) {
+        if (!(claims.get("roles") instanceof Collection<?> roles)) {
+            return List.of();
+        }
+        // tokens issued before role names were used carry serialized Role objects
+        return roles.stream()
+                .map(role -> role instanceof Map<?, ?> map ? map.get("name") : role)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .toList();
+    }
+
+    static Long getCustomerId(Claims claims) {
+        return claims.get(CUSTOMER_ID_CLAIM) instanceof Number id ? id.longValue() : null;
+    }
 
     public boolean isTokenValid(String token, String userName) {
         try {
@@ -0,0 +1,50 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.naren.movieticketbookingapplication.Dao.CustomerDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Stands in for the per-request customer lookup when authenticating from token claims:
+ * a subject is treated as revoked once its customer row is gone, remembered for a short TTL. The lookup goes to the
+ * database, never to the identity filter, so a customer the filter has not seen yet is not locked out.
+ * {@link com.naren.movieticketbookingapplication.Service.CustomerServiceImpl} invalidates the entry after a delete or
+ * email change commits, so the TTL only delays revocations made on another node.
+ */
+@Slf4j
+@Service
+public class SubjectRevocationCheck {
+
+    private final CustomerDao customerDao;
+    private final boolean enabled;
+    private final Cache<String, Boolean> activeSubjects;
+
+    public SubjectRevocationCheck(CustomerDao customerDao,
+                                  @Value("${jwt.revocation-check.enabled:true}") boolean enabled,
+                                  @Value("${jwt.revocation-check.ttl:30s}") Duration ttl,
+                                  @Value("${jwt.revocation-check.max-size:100000}") long maxSize) {
+        this.customerDao = customerDao;
+        this.enabled = enabled;
+        this.activeSubjects = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        log.info("Subject revocation check enabled: {}, ttl: {}", enabled, ttl);
+    }
+
+    public boolean isActive(String subject) {
+        if (!enabled) {
+            return true;
+        }
+        return activeSubjects.get(subject, customerDao::existsByEmailUnfiltered);
+    }
+
+    public void invalidate(String subject) {
+        activeSubjects.invalidate(subject);
+    }
+}
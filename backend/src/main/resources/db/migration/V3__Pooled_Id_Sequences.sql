@@ -0,0 +1,5 @@
+-- Customer and Movie ids use Hibernate's pooled optimizer with allocationSize = 50: each nextval reserves the
+-- block (value - 49 .. value), so the sequence increment must match the entity mappings.
+ALTER SEQUENCE customer_id INCREMENT BY 50;
+
+ALTER SEQUENCE movie_id INCREMENT BY 50;
@@ -0,0 +1,9 @@
+-- Landing table for the catalog loader's COPY streams. Unlogged and unindexed: it is truncated around every
+-- load and only read once, by the merge into movie.
+CREATE UNLOGGED TABLE movie_staging
+(
+    name         TEXT             NOT NULL,
+    cost         DOUBLE PRECISION NOT NULL,
+    rating       DOUBLE PRECISION NOT NULL,
+    source_order BIGINT           NOT NULL
+);
@@ -0,0 +1,57 @@
+CREATE SEQUENCE IF NOT EXISTS screen_id START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE screen
+(
+    screen_id     BIGINT  NOT NULL,
+    name          TEXT    NOT NULL,
+    seat_rows     INTEGER NOT NULL,
+    seats_per_row INTEGER NOT NULL,
+    CONSTRAINT pk_screen PRIMARY KEY (screen_id),
+    CONSTRAINT screen_name_unique UNIQUE (name),
+    CONSTRAINT screen_size_positive CHECK (seat_rows > 0 AND seats_per_row > 0)
+);
+
+CREATE SEQUENCE IF NOT EXISTS showtime_id START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE showtime
+(
+    showtime_id BIGINT      NOT NULL,
+    movie_id    BIGINT      NOT NULL,
+    screen_id   BIGINT      NOT NULL,
+    starts_at   TIMESTAMPTZ NOT NULL,
+    CONSTRAINT pk_showtime PRIMARY KEY (showtime_id),
+    CONSTRAINT fk_showtime_movie_id FOREIGN KEY (movie_id) REFERENCES movie (movie_id) ON DELETE CASCADE,
+    CONSTRAINT fk_showtime_screen_id FOREIGN KEY (screen_id) REFERENCES screen (screen_id),
+    CONSTRAINT showtime_screen_start_unique UNIQUE (screen_id, starts_at)
+);
+
+CREATE INDEX idx_showtime_movie_id ON showtime (movie_id, starts_at);
+
+-- booking ids are drawn by the booking journal for a whole batch at once, so the increment stays at 1
+CREATE SEQUENCE IF NOT EXISTS booking_id START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE booking
+(
+    booking_id  BIGINT      NOT NULL,
+    showtime_id BIGINT      NOT NULL,
+    customer_id BIGINT      NOT NULL,
+    seat_count  INTEGER     NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL,
+    CONSTRAINT pk_booking PRIMARY KEY (booking_id),
+    CONSTRAINT fk_booking_showtime_id FOREIGN KEY (showtime_id) REFERENCES showtime (showtime_id) ON DELETE CASCADE,
+    CONSTRAINT fk_booking_customer_id FOREIGN KEY (customer_id) REFERENCES customer (customer_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_booking_customer_id ON booking (customer_id, booking_id);
+
+-- one row per sold seat; the primary key is the final guard against double-selling a seat across nodes
+CREATE TABLE booking_seat
+(
+    showtime_id BIGINT  NOT NULL,
+    seat_no     INTEGER NOT NULL,
+    booking_id  BIGINT  NOT NULL,
+    CONSTRAINT pk_booking_seat PRIMARY KEY (showtime_id, seat_no),
+    CONSTRAINT fk_booking_seat_booking_id FOREIGN KEY (booking_id) REFERENCES booking (booking_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_booking_seat_booking_id ON booking_seat (booking_id);
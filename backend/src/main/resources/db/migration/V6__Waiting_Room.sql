@@ -0,0 +1,11 @@
+-- shared queue state for waiting-room.coordinator=postgres
+CREATE SEQUENCE IF NOT EXISTS waiting_room_ticket;
+
+CREATE TABLE IF NOT EXISTS waiting_room
+(
+    room        TEXT PRIMARY KEY,
+    admitted    BIGINT      NOT NULL DEFAULT 0,
+    advanced_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+INSERT INTO waiting_room (room) VALUES ('booking') ON CONFLICT DO NOTHING;
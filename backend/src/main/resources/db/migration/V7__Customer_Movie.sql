@@ -0,0 +1,26 @@
+-- subscriptions move from movie.customer_id (one subscriber per movie) to a join table
+CREATE TABLE IF NOT EXISTS customer_movie
+(
+    customer_id BIGINT NOT NULL,
+    movie_id    BIGINT NOT NULL,
+    CONSTRAINT pk_customer_movie PRIMARY KEY (customer_id, movie_id),
+    CONSTRAINT fk_customer_movie_customer_id FOREIGN KEY (customer_id)
+        REFERENCES customer (customer_id) ON DELETE CASCADE,
+    CONSTRAINT fk_customer_movie_movie_id FOREIGN KEY (movie_id)
+        REFERENCES movie (movie_id) ON DELETE CASCADE
+);
+
+-- the primary key answers "movies of a customer"; this answers "subscribers of a movie" from the index alone
+CREATE INDEX IF NOT EXISTS idx_customer_movie_movie_customer ON customer_movie (movie_id, customer_id);
+
+INSERT INTO customer_movie (customer_id, movie_id)
+SELECT customer_id, movie_id
+FROM movie
+WHERE customer_id IS NOT NULL
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE movie
+    DROP CONSTRAINT IF EXISTS fk_customer_movie_id;
+
+ALTER TABLE movie
+    DROP COLUMN IF EXISTS customer_id;
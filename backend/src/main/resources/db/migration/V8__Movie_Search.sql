@@ -0,0 +1,9 @@
+-- full-text and typo-tolerant search on movie names
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE movie
+    ADD COLUMN name_tsv tsvector GENERATED ALWAYS AS (to_tsvector('english', name)) STORED;
+
+CREATE INDEX idx_movie_name_tsv ON movie USING GIN (name_tsv);
+
+CREATE INDEX idx_movie_name_trgm ON movie USING GIN (name gin_trgm_ops);
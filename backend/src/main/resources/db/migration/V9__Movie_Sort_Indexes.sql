@@ -0,0 +1,5 @@
+-- keyset paging over filtered, sorted catalog pages; the included column lets the other filter be checked
+-- without visiting the heap, so the page is found with an index-only scan
+CREATE INDEX idx_movie_rating_id ON movie (rating, movie_id) INCLUDE (cost);
+
+CREATE INDEX idx_movie_cost_id ON movie (cost, movie_id) INCLUDE (rating);
@@ -0,0 +1,142 @@
+package com.naren.movieticketbookingapplication.Perf;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+/**
+ * Closed-loop load generator: {@code clients} threads each send one request at a time, picking the next
+ * operation by weight, for a warm-up period followed by a measured period. Latencies are recorded per
+ * operation in HdrHistograms with microsecond resolution.
+ * <p>
+ * Being closed-loop, a stalled server also slows the clients down, so percentiles understate what an
+ * open-loop arrival rate would see; compare runs against each other rather than against absolute targets.
+ */
+@Slf4j
+public final class LoadDriver {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private LoadDriver() {
+    }
+
+    @FunctionalInterface
+    public interface RequestFactory {
+        HttpRequest next(ThreadLocalRandom random);
+    }
+
+    public record Operation(String name, int weight, RequestFactory requests, IntPredicate success) {
+
+        public static Operation of(String name, int weight, RequestFactory requests) {
+            return new Operation(name, weight, requests, status -> status < 400);
+        }
+    }
+
+    public record OperationResult(String name, long requests, long errors, double throughput,
+                                  double p50Millis, double p90Millis, double p99Millis, double p999Millis,
+                                  double maxMillis, @JsonIgnore Histogram histogram) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    public record Result(Duration measured, double throughput, double p99Millis, long errors,
+                         List<OperationResult> operations) {
+    }
+
+    public static Result run(HttpClient client, List<Operation> operations, int clients,
+                             Duration warmUp, Duration measure) throws InterruptedException {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        List<Recorder> recorders = new ArrayList<>();
+        List<LongAdder> errors = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            recorders.add(new Recorder(MAX_LATENCY_MICROS, 3));
+            errors.add(new LongAdder());
+        }
+
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long measureUntil = measureFrom + measure.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            for (int c = 0; c < clients; c++) {
+                executor.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < measureUntil && !Thread.currentThread().isInterrupted()) {
+                        int index = pick(operations, random.nextInt(totalWeight));
+                        Operation operation = operations.get(index);
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(operation.requests().next(random),
+                                    HttpResponse.BodyHandlers.discarding());
+                            ok = operation.success().test(response.statusCode());
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        if (now >= measureFrom) {
+                            long micros = (System.nanoTime() - now) / 1_000;
+                            recorders.get(index).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+                            if (!ok) {
+                                errors.get(index).increment();
+                            }
+                        }
+                    }
+                });
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, measureUntil - System.nanoTime()));
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+
+        double seconds = measure.toNanos() / 1e9;
+        Histogram overall = new Histogram(MAX_LATENCY_MICROS, 3);
+        List<OperationResult> results = new ArrayList<>();
+        long totalErrors = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            Histogram histogram = recorders.get(i).getIntervalHistogram();
+            overall.add(histogram);
+            long failed = errors.get(i).sum();
+            totalErrors += failed;
+            results.add(new OperationResult(operations.get(i).name(), histogram.getTotalCount(), failed,
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1_000.0, histogram));
+        }
+        return new Result(measure, overall.getTotalCount() / seconds, millis(overall, 99), totalErrors, results);
+    }
+
+    private static int pick(List<Operation> operations, int ticket) {
+        for (int i = 0; i < operations.size(); i++) {
+            ticket -= operations.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return operations.size() - 1;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+}
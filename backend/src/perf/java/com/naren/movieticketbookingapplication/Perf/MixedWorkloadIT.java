@@ -0,0 +1,175 @@
+package com.naren.movieticketbookingapplication.Perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.Operation;
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.OperationResult;
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.Result;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end mixed workload against one application instance and a Postgres seeded with production-like
+ * volumes: anonymous catalog reads (servlet and reactive), registration, subscribe/unsubscribe and
+ * authenticated customer reads.
+ * <pre>
+ * mvn -Pperf verify -Dit.test=MixedWorkloadIT [-Dperf.customers=1000000] [-Dperf.movies=100000] \
+ *     [-Dperf.clients=64] [-Dperf.warm-up=30s] [-Dperf.measure=60s] [-Dperf.slo.p99.movie-by-id=50]
+ * </pre>
+ * Per-operation throughput and percentiles are written to {@code target/perf/mixed-workload.json}, and the
+ * full HdrHistogram distribution of each operation to {@code target/perf/mixed-workload/<operation>.hgrm}.
+ * The run fails when any objective in {@link PerfSlo} is missed.
+ */
+@Slf4j
+class MixedWorkloadIT {
+
+    private static final int CUSTOMERS = Integer.getInteger("perf.customers", 1_000_000);
+    private static final int MOVIES = Integer.getInteger("perf.movies", 100_000);
+    private static final int CLIENTS = Integer.getInteger("perf.clients", 64);
+    private static final int TOKENS = Integer.getInteger("perf.tokens", 16);
+    private static final Duration WARM_UP = Duration.parse("PT" + System.getProperty("perf.warm-up", "30s"));
+    private static final Duration MEASURE = Duration.parse("PT" + System.getProperty("perf.measure", "60s"));
+
+    // generous defaults for a shared CI host; tighten them per environment on the command line
+    private static final Map<String, Double> DEFAULT_P99_MILLIS = Map.of(
+            "catalog-page", 250.0,
+            "movie-by-id", 100.0,
+            "reactive-movie-by-id", 100.0,
+            "customer-by-id", 150.0,
+            "subscribe", 200.0,
+            "unsubscribe", 200.0,
+            "register", 2_000.0);
+
+    private static PerfDatabase database;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        database = new PerfDatabase().seed(CUSTOMERS, MOVIES);
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        database.close();
+    }
+
+    @Test
+    void mixedWorkloadMeetsSlo() throws Exception {
+        PerfSlo slo = PerfSlo.fromSystemProperties(DEFAULT_P99_MILLIS, 0);
+        Result result;
+        try (PerfApplication application = PerfApplication.start(database, Map.of())) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            result = LoadDriver.run(client, operations(client, application), CLIENTS, WARM_UP, MEASURE);
+        }
+        report(result);
+
+        List<String> violations = slo.violations(result);
+        violations.forEach(violation -> log.warn("SLO missed: {}", violation));
+        assertThat(violations).as("SLO violations").isEmpty();
+    }
+
+    private List<Operation> operations(HttpClient client, PerfApplication application) throws Exception {
+        String baseUrl = application.baseUrl();
+        String reactiveBaseUrl = application.reactiveBaseUrl();
+        long[] movieIds = database.movieIds();
+        long[] customerIds = database.customerIds();
+        String[] tokens = new String[TOKENS];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = ThreadModeComparisonIT.register(client, baseUrl);
+        }
+        // unsubscribes target pairs an earlier subscribe asked for, so most of them delete a real row
+        Queue<long[]> subscribed = new ConcurrentLinkedQueue<>();
+        AtomicLong registrations = new AtomicLong();
+        long phoneBase = 6_000_000_000L + (System.currentTimeMillis() % 100_000) * 10_000;
+
+        List<Operation> operations = new ArrayList<>();
+        operations.add(Operation.of("catalog-page", 20, random -> HttpRequest.newBuilder(
+                URI.create(baseUrl + "/api/v1/movies?size=20")).build()));
+        operations.add(Operation.of("movie-by-id", 30, random -> HttpRequest.newBuilder(
+                URI.create(baseUrl + "/api/v1/movies/" + movieIds[random.nextInt(movieIds.length)])).build()));
+        operations.add(Operation.of("reactive-movie-by-id", 15, random -> HttpRequest.newBuilder(
+                URI.create(reactiveBaseUrl + "/api/v2/movies/" + movieIds[random.nextInt(movieIds.length)])).build()));
+        operations.add(Operation.of("customer-by-id", 20, random -> HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/v1/customers/" + customerIds[random.nextInt(customerIds.length)]))
+                .header("Authorization", "Bearer " + tokens[random.nextInt(tokens.length)])
+                .build()));
+        // an already existing subscription (409) is a valid outcome under random pairing
+        operations.add(new Operation("subscribe", 6, random -> {
+            long[] pair = {customerIds[random.nextInt(customerIds.length)], movieIds[random.nextInt(movieIds.length)]};
+            subscribed.add(pair);
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/customers/add-movie/" + pair[0] + "/" + pair[1]))
+                    .header("Authorization", "Bearer " + tokens[random.nextInt(tokens.length)])
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }, status -> status < 400 || status == 409));
+        // 404 when the matching subscribe has not committed yet, or there was nothing to pair with
+        operations.add(new Operation("unsubscribe", 6, random -> {
+            long[] pair = subscribed.poll();
+            if (pair == null) {
+                pair = new long[]{customerIds[random.nextInt(customerIds.length)], movieIds[random.nextInt(movieIds.length)]};
+            }
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/customers/remove-movie/" + pair[0] + "/" + pair[1]))
+                    .header("Authorization", "Bearer " + tokens[random.nextInt(tokens.length)])
+                    .DELETE()
+                    .build();
+        }, status -> status < 400 || status == 404));
+        operations.add(Operation.of("register", 1, random -> {
+            long n = registrations.incrementAndGet();
+            String body = """
+                    {"name": "Load Customer %d", "email": "load-%d-%d@codeNaren.com", "password": "load-test-pw", "phoneNumber": %d}
+                    """.formatted(n, phoneBase, n, phoneBase + n);
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/customers"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }));
+        return operations;
+    }
+
+    private void report(Result result) throws Exception {
+        log.warn("Mixed workload: {} req/s overall, p99 {} ms, {} errors",
+                Math.round(result.throughput()), result.p99Millis(), result.errors());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("customers", CUSTOMERS);
+        summary.put("movies", MOVIES);
+        summary.put("clients", CLIENTS);
+        summary.put("result", result);
+
+        Path directory = Path.of("target", "perf", "mixed-workload");
+        Files.createDirectories(directory);
+        for (OperationResult operation : result.operations()) {
+            log.warn("{}: {} req/s, p50 {} ms, p99 {} ms, p99.9 {} ms, max {} ms, {} errors", operation.name(),
+                    Math.round(operation.throughput()), operation.p50Millis(), operation.p99Millis(),
+                    operation.p999Millis(), operation.maxMillis(), operation.errors());
+            try (PrintStream out = new PrintStream(directory.resolve(operation.name() + ".hgrm").toFile())) {
+                // recorded in microseconds, reported in milliseconds
+                operation.histogram().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+        Path report = directory.resolveSibling("mixed-workload.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).findAndRegisterModules()
+                .writeValue(report.toFile(), summary);
+        log.warn("Mixed workload report written to {}", report.toAbsolutePath());
+    }
+}
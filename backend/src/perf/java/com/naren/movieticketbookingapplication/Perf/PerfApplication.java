@@ -0,0 +1,61 @@
+package com.naren.movieticketbookingapplication.Perf;
+
+import com.naren.movieticketbookingapplication.Config.ReactiveCatalogServer;
+import com.naren.movieticketbookingapplication.MovieTicketBookingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One application instance under load, on a random port. Request logging and SQL echo are turned down so
+ * the measurement is not dominated by console output.
+ */
+public final class PerfApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private PerfApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static PerfApplication start(PerfDatabase database, Map<String, Object> overrides, String... profiles) {
+        Map<String, Object> properties = new HashMap<>(database.datasourceProperties());
+        properties.put("server.port", "0");
+        properties.put("catalog.reactive.port", "0");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "warn");
+        properties.put("logging.level.web", "warn");
+        properties.put("logging.level.sql", "warn");
+        properties.put("logging.level.com.naren", "warn");
+        properties.putAll(overrides);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MovieTicketBookingApplication.class)
+                .profiles(profiles)
+                .properties(properties)
+                .run();
+        return new PerfApplication(context);
+    }
+
+    public String baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * Base URL of the reactive {@code /api/v2} catalog server.
+     */
+    public String reactiveBaseUrl() {
+        return "http://localhost:" + context.getBean(ReactiveCatalogServer.class).port();
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.naren.movieticketbookingapplication.Perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Postgres container migrated by Flyway and seeded in bulk with {@code generate_series}, so even a million
+ * customers take seconds rather than going through the API. Seeded customers hold {@code ROLE_USER} and share
+ * one precomputed password hash.
+ */
+@Slf4j
+public final class PerfDatabase implements AutoCloseable {
+
+    // BCrypt (cost 10) of "perf-password"
+    private static final String PASSWORD_HASH = "$2a$10$EB1kNUjEys6AwsJKyKMR9eXwViUKubfuyyt3bUrBENTIIv5pst7Li";
+
+    private final PostgreSQLContainer<?> container;
+    private long[] customerIds = new long[0];
+    private long[] movieIds = new long[0];
+
+    public PerfDatabase() {
+        container = new PostgreSQLContainer<>("postgres:15")
+                .withDatabaseName("movie-perf")
+                .withUsername("codeNaren")
+                .withPassword("password")
+                .withCommand("postgres", "-c", "max_connections=300", "-c", "shared_buffers=256MB");
+        container.start();
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .load()
+                .migrate();
+    }
+
+    public PerfDatabase seed(int customers, int movies) throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insertMovies = connection.prepareStatement("""
+                    INSERT INTO movie (movie_id, name, cost, rating)
+                    SELECT nextval('movie_id'), 'Perf movie ' || g,
+                           round((200 + random() * 1000)::numeric, 2), round((1 + random() * 4)::numeric, 1)
+                    FROM generate_series(1, ?) g
+                    """);
+                 PreparedStatement insertCustomers = connection.prepareStatement("""
+                    INSERT INTO customer (customer_id, name, email, password, phone_number)
+                    SELECT nextval('customer_id'), 'Perf customer ' || g, 'perf' || g || '@codeNaren.com', ?,
+                           9000000000 + g
+                    FROM generate_series(1, ?) g
+                    """)) {
+                insertMovies.setInt(1, movies);
+                insertMovies.executeUpdate();
+                insertCustomers.setString(1, PASSWORD_HASH);
+                insertCustomers.setInt(2, customers);
+                insertCustomers.executeUpdate();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO role (name) VALUES ('ROLE_USER'), ('ROLE_ADMIN') ON CONFLICT DO NOTHING");
+                statement.execute("""
+                        INSERT INTO customers_roles (customer_id, role_id)
+                        SELECT c.customer_id, r.id FROM customer c, role r WHERE r.name = 'ROLE_USER'
+                        ON CONFLICT DO NOTHING
+                        """);
+                // let Hibernate's pooled optimizer start above the seeded ids
+                statement.execute("SELECT setval('movie_id', (SELECT max(movie_id) FROM movie) + 50)");
+                statement.execute("SELECT setval('customer_id', (SELECT max(customer_id) FROM customer) + 50)");
+            }
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("VACUUM ANALYZE");
+            }
+            customerIds = ids(connection, "SELECT customer_id FROM customer ORDER BY customer_id", customers);
+            movieIds = ids(connection, "SELECT movie_id FROM movie ORDER BY movie_id", movies);
+        }
+        log.info("Seeded {} customers and {} movies in {} ms", customers, movies, (System.nanoTime() - started) / 1_000_000);
+        return this;
+    }
+
+    /**
+     * Datasource properties for an application instance under test.
+     */
+    public Map<String, Object> datasourceProperties() {
+        return Map.of(
+                "spring.datasource.url", container.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                "spring.datasource.username", container.getUsername(),
+                "spring.datasource.password", container.getPassword(),
+                "spring.r2dbc.url", "r2dbc:postgresql://" + container.getHost() + ":"
+                        + container.getFirstMappedPort() + "/" + container.getDatabaseName(),
+                "spring.r2dbc.username", container.getUsername(),
+                "spring.r2dbc.password", container.getPassword());
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    public long[] customerIds() {
+        return customerIds;
+    }
+
+    public long[] movieIds() {
+        return movieIds;
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+
+    private static long[] ids(Connection connection, String sql, int expected) throws SQLException {
+        long[] ids = new long[expected + 16];
+        int n = 0;
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                if (n == ids.length) {
+                    ids = Arrays.copyOf(ids, n * 2);
+                }
+                ids[n++] = rs.getLong(1);
+            }
+        }
+        return Arrays.copyOf(ids, n);
+    }
+}
@@ -0,0 +1,52 @@
+package com.naren.movieticketbookingapplication.Perf;
+
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.OperationResult;
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.Result;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service-level objectives for a load run. Every limit can be overridden on the command line:
+ * {@code -Dperf.slo.p99.<operation>=<millis>}, {@code -Dperf.slo.error-rate=<fraction>} and
+ * {@code -Dperf.slo.min-throughput=<requests per second>}; a p99 limit of 0 disables that check.
+ */
+public record PerfSlo(Map<String, Double> p99Millis, double maxErrorRate, double minThroughput) {
+
+    public static PerfSlo fromSystemProperties(Map<String, Double> defaultP99Millis, double defaultMinThroughput) {
+        Map<String, Double> p99 = new LinkedHashMap<>(defaultP99Millis);
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("perf.slo.p99."))
+                .forEach(name -> p99.put(name.substring("perf.slo.p99.".length()),
+                        Double.parseDouble(System.getProperty(name))));
+        return new PerfSlo(p99,
+                Double.parseDouble(System.getProperty("perf.slo.error-rate", "0.01")),
+                Double.parseDouble(System.getProperty("perf.slo.min-throughput", String.valueOf(defaultMinThroughput))));
+    }
+
+    /**
+     * @return one line per objective the run missed; empty when all were met
+     */
+    public List<String> violations(Result result) {
+        List<String> violations = new ArrayList<>();
+        if (result.throughput() < minThroughput) {
+            violations.add("throughput %.0f req/s is below %.0f req/s".formatted(result.throughput(), minThroughput));
+        }
+        for (OperationResult operation : result.operations()) {
+            double limit = p99Millis.getOrDefault(operation.name(), 0.0);
+            if (limit > 0 && operation.p99Millis() > limit) {
+                violations.add("%s p99 %.1f ms exceeds %.1f ms".formatted(operation.name(), operation.p99Millis(), limit));
+            }
+            if (operation.errorRate() > maxErrorRate) {
+                violations.add("%s error rate %.2f%% exceeds %.2f%%".formatted(
+                        operation.name(), operation.errorRate() * 100, maxErrorRate * 100));
+            }
+            if (operation.requests() == 0) {
+                violations.add(operation.name() + " completed no requests");
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,130 @@
+package com.naren.movieticketbookingapplication.Perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.Operation;
+import com.naren.movieticketbookingapplication.Perf.LoadDriver.Result;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and p99 of platform-thread versus virtual-thread request handling at fixed Hikari pool sizes,
+ * on the DB-bound read paths. The movie cache is disabled so every read reaches Postgres.
+ * <pre>
+ * mvn -Pperf,java21 verify -Dit.test=ThreadModeComparisonIT -Dperf.thread-modes=true \
+ *     [-Dperf.pool-sizes=10,50] [-Dperf.clients=400] [-Dperf.measure=30s]
+ * </pre>
+ * Results are printed and written to {@code target/perf/thread-modes.json}.
+ */
+@Slf4j
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "perf.thread-modes", matches = "true")
+class ThreadModeComparisonIT {
+
+    private static final int CUSTOMERS = Integer.getInteger("perf.customers", 100_000);
+    private static final int MOVIES = Integer.getInteger("perf.movies", 100_000);
+    private static final int CLIENTS = Integer.getInteger("perf.clients", 400);
+    private static final Duration WARM_UP = Duration.parse("PT" + System.getProperty("perf.warm-up", "10s"));
+    private static final Duration MEASURE = Duration.parse("PT" + System.getProperty("perf.measure", "30s"));
+    private static final int[] POOL_SIZES = Arrays.stream(System.getProperty("perf.pool-sizes", "10,50").split(","))
+            .mapToInt(size -> Integer.parseInt(size.trim()))
+            .toArray();
+
+    private static PerfDatabase database;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        database = new PerfDatabase().seed(CUSTOMERS, MOVIES);
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        database.close();
+    }
+
+    @Test
+    void compareThreadModes() throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (int poolSize : POOL_SIZES) {
+            for (boolean virtual : new boolean[]{false, true}) {
+                String run = (virtual ? "virtual" : "platform") + "/pool=" + poolSize;
+                results.put(run, measure(poolSize, virtual));
+                log.warn("{}: {} req/s, p99 {} ms, {} errors", run,
+                        Math.round(results.get(run).throughput()), results.get(run).p99Millis(),
+                        results.get(run).errors());
+            }
+        }
+
+        Path report = Path.of("target", "perf", "thread-modes.json");
+        Files.createDirectories(report.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).findAndRegisterModules()
+                .writeValue(report.toFile(), results);
+        log.warn("Thread mode comparison written to {}", report.toAbsolutePath());
+
+        assertThat(results.values()).allSatisfy(result -> assertThat(result.throughput()).isPositive());
+    }
+
+    private Result measure(int poolSize, boolean virtual) throws Exception {
+        Map<String, Object> overrides = Map.of(
+                "spring.threads.virtual.enabled", String.valueOf(virtual),
+                "spring.datasource.hikari.maximum-pool-size", String.valueOf(poolSize),
+                "spring.datasource.hikari.minimum-idle", String.valueOf(poolSize),
+                "movies.cache.movie.max-size", "0",
+                "customers.identity-filter.enabled", "false");
+        try (PerfApplication application = virtual
+                ? PerfApplication.start(database, overrides, "virtual-threads")
+                : PerfApplication.start(database, overrides)) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            String baseUrl = application.baseUrl();
+            String token = register(client, baseUrl);
+            long[] movieIds = database.movieIds();
+            long[] customerIds = database.customerIds();
+
+            List<Operation> operations = new ArrayList<>();
+            operations.add(Operation.of("GET /movies/{id}", 1, random -> HttpRequest.newBuilder(
+                    URI.create(baseUrl + "/api/v1/movies/" + movieIds[random.nextInt(movieIds.length)])).build()));
+            operations.add(Operation.of("GET /customers/{id}", 1, random -> HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/api/v1/customers/" + customerIds[random.nextInt(customerIds.length)]))
+                    .header("Authorization", "Bearer " + token)
+                    .build()));
+            return LoadDriver.run(client, operations, CLIENTS, WARM_UP, MEASURE);
+        }
+    }
+
+    static String register(HttpClient client, String baseUrl) throws Exception {
+        String email = "perf-" + UUID.randomUUID() + "@codeNaren.com";
+        String body = """
+                {"name": "Perf Runner", "email": "%s", "password": "load-test-pw", "phoneNumber": %d}
+                """.formatted(email, 7_000_000_000L + Math.abs(email.hashCode() % 1_000_000_000L));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/customers"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(201);
+        return response.headers().firstValue("Authorization").orElseThrow();
+    }
+}
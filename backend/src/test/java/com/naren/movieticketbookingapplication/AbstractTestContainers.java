@@ -48,6 +48,20 @@ public class AbstractTestContainers {
                 "spring.datasource.password",
                 postgresContainer::getPassword
         );
+        registry.add(
+                "spring.r2dbc.url",
+                () -> "r2dbc:postgresql://" + postgresContainer.getHost() + ":"
+                        + postgresContainer.getFirstMappedPort() + "/" + postgresContainer.getDatabaseName()
+        );
+        registry.add(
+                "spring.r2dbc.username",
+                postgresContainer::getUsername
+        );
+        registry.add(
+                "spring.r2dbc.password",
+                postgresContainer::getPassword
+        );
+        registry.add("catalog.reactive.port", () -> "0");
     }
 
 }
@@ -0,0 +1,69 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import com.naren.movieticketbookingapplication.Dao.BookingDao;
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BookingJournalTest {
+
+    private final BookingDao bookingDao = mock(BookingDao.class);
+    private BookingJournal underTest;
+
+    private void startJournal(Duration maxBatchDelay) {
+        when(bookingDao.nextBookingIds(anyInt())).thenAnswer(invocation ->
+                LongStream.rangeClosed(1, invocation.<Integer>getArgument(0)).boxed().toList());
+        underTest = new BookingJournal(bookingDao, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                100, 50, maxBatchDelay, Duration.ofSeconds(1));
+        underTest.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        underTest.stop();
+    }
+
+    @Test
+    void coalescesConcurrentBookingsIntoOneBatch() throws Exception {
+        startJournal(Duration.ofMillis(200));
+
+        CompletableFuture<BookingDTO> first = underTest.append(1L, 10L, List.of(1, 2));
+        CompletableFuture<BookingDTO> second = underTest.append(1L, 11L, List.of(3));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).bookingId()).isEqualTo(1L);
+        assertThat(second.get(5, TimeUnit.SECONDS).bookingId()).isEqualTo(2L);
+        verify(bookingDao, times(1)).insertBookings(anyList());
+    }
+
+    @Test
+    void failedBatchIsRetriedPerBookingSoOnlyTheConflictFails() throws Exception {
+        doThrow(new DuplicateKeyException("duplicate key value violates unique constraint \"pk_booking_seat\""))
+                .when(bookingDao).insertBookings(argThat(bookings -> bookings.size() > 1
+                        || bookings.get(0).customerId().equals(11L)));
+        startJournal(Duration.ofMillis(200));
+
+        CompletableFuture<BookingDTO> ok = underTest.append(1L, 10L, List.of(1));
+        CompletableFuture<BookingDTO> conflict = underTest.append(1L, 11L, List.of(1));
+
+        assertThat(ok.get(5, TimeUnit.SECONDS).customerId()).isEqualTo(10L);
+        assertThatThrownBy(() -> conflict.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import com.naren.movieticketbookingapplication.Booking.HierarchicalTimingWheel.Timeout;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private final List<String> expired = new ArrayList<>();
+    private final HierarchicalTimingWheel<String> wheel =
+            new HierarchicalTimingWheel<>(10, 8, 3, 0, timeout -> expired.add(timeout.item()));
+
+    @Test
+    void firesWithinOneTickAfterTheDeadline() {
+        wheel.schedule("a", 25);
+
+        wheel.advanceTo(20);
+        assertThat(expired).isEmpty();
+
+        wheel.advanceTo(30);
+        assertThat(expired).containsExactly("a");
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    void cascadesTimeoutsFromHigherLevels() {
+        // level 0 covers 80 ms, level 1 640 ms, level 2 5120 ms
+        wheel.schedule("near", 50);
+        wheel.schedule("mid", 300);
+        wheel.schedule("far", 3_000);
+
+        for (long now = 0; now <= 3_100; now += 10) {
+            wheel.advanceTo(now);
+            if (now < 300) {
+                assertThat(expired).doesNotContain("mid");
+            }
+            if (now < 3_000) {
+                assertThat(expired).doesNotContain("far");
+            }
+        }
+
+        assertThat(expired).containsExactly("near", "mid", "far");
+    }
+
+    @Test
+    void handlesLargeJumpsAndDeadlinesBeyondTheHorizon() {
+        wheel.schedule("beyond", 20_000);
+        wheel.schedule("soon", 40);
+
+        assertThat(wheel.advanceTo(10_000)).isEqualTo(1);
+        assertThat(expired).containsExactly("soon");
+
+        assertThat(wheel.advanceTo(20_000)).isEqualTo(1);
+        assertThat(expired).containsExactly("soon", "beyond");
+    }
+
+    @Test
+    void cancelledTimeoutsNeverFire() {
+        Timeout<String> timeout = wheel.schedule("a", 500);
+        wheel.schedule("b", 500);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        wheel.advanceTo(1_000);
+
+        assertThat(expired).containsExactly("b");
+        assertThat(wheel.pending()).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatHoldManagerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SeatHoldManager underTest;
+    private SeatMap seatMap;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new SeatHoldManager(meterRegistry, Duration.ofMinutes(5), Duration.ofMillis(100), 64, 4, clock);
+        seatMap = new SeatMap(7L, clock.instant().plus(Duration.ofDays(1)), 100);
+    }
+
+    @Test
+    void expiredHoldsReleaseTheirSeats() {
+        seatMap.tryReserve(new int[]{3, 4});
+        SeatHold hold = underTest.hold(1L, seatMap, new int[]{3, 4});
+
+        clock.advance(Duration.ofMinutes(5).minusSeconds(1));
+        underTest.advance();
+        assertThat(seatMap.isTaken(3)).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        underTest.advance();
+
+        assertThat(seatMap.available()).isEqualTo(100);
+        assertThat(underTest.claim(hold.holdId(), 1L)).isEmpty();
+        assertThat(meterRegistry.get("booking.holds.expired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.holds.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void claimedHoldsKeepTheirSeatsPastTheDeadline() {
+        seatMap.tryReserve(new int[]{3});
+        SeatHold hold = underTest.hold(1L, seatMap, new int[]{3});
+
+        assertThat(underTest.claim(hold.holdId(), 2L)).isEmpty();
+        assertThat(underTest.claim(hold.holdId(), 1L)).contains(hold);
+        assertThat(underTest.claim(hold.holdId(), 1L)).isEmpty();
+
+        clock.advance(Duration.ofMinutes(10));
+        underTest.advance();
+
+        assertThat(seatMap.isTaken(3)).isTrue();
+        assertThat(meterRegistry.get("booking.holds.expired").counter().count()).isZero();
+    }
+
+    @Test
+    void releaseFreesSeatsImmediately() {
+        seatMap.tryReserve(new int[]{3});
+        SeatHold hold = underTest.hold(1L, seatMap, new int[]{3});
+
+        assertThat(underTest.release(hold.holdId(), 1L)).isTrue();
+
+        assertThat(seatMap.isTaken(3)).isFalse();
+        assertThat(underTest.activeHolds()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
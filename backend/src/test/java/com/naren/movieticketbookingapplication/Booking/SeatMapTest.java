@@ -0,0 +1,82 @@
+package com.naren.movieticketbookingapplication.Booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatMapTest {
+
+    @Test
+    void reservesAllSeatsOrNone() {
+        SeatMap seatMap = new SeatMap(1L, Instant.now(), 200);
+
+        assertThat(seatMap.tryReserve(new int[]{5, 70, 150})).isTrue();
+        assertThat(seatMap.tryReserve(new int[]{4, 64, 150})).isFalse();
+
+        assertThat(seatMap.isTaken(4)).isFalse();
+        assertThat(seatMap.isTaken(64)).isFalse();
+        assertThat(seatMap.takenSeats()).containsExactly(5, 70, 150);
+        assertThat(seatMap.available()).isEqualTo(197);
+    }
+
+    @Test
+    void releaseFreesSeats() {
+        SeatMap seatMap = new SeatMap(1L, Instant.now(), 100);
+        seatMap.tryReserve(new int[]{1, 2, 99});
+
+        seatMap.release(new int[]{99, 1});
+
+        assertThat(seatMap.takenSeats()).containsExactly(2);
+        assertThat(seatMap.tryReserve(new int[]{1, 99})).isTrue();
+    }
+
+    @Test
+    void concurrentGrabsNeverSellASeatTwice() throws Exception {
+        int capacity = 500;
+        SeatMap seatMap = new SeatMap(1L, Instant.now(), capacity);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger[] owners = new AtomicInteger[capacity];
+        for (int i = 0; i < capacity; i++) {
+            owners[i] = new AtomicInteger();
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 2_000; i++) {
+                    int first = random.nextInt(capacity - 3);
+                    int[] seats = {first, first + 1, first + 2};
+                    if (seatMap.tryReserve(seats)) {
+                        for (int seat : seats) {
+                            owners[seat].incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int sold = 0;
+        for (int seat = 0; seat < capacity; seat++) {
+            assertThat(owners[seat].get()).isLessThanOrEqualTo(1);
+            assertThat(seatMap.isTaken(seat)).isEqualTo(owners[seat].get() == 1);
+            sold += owners[seat].get();
+        }
+        assertThat(seatMap.available()).isEqualTo(capacity - sold);
+    }
+}
@@ -0,0 +1,58 @@
+package com.naren.movieticketbookingapplication.Catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogChunkReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void chunksTileTheFileWithoutSplittingLines() throws IOException {
+        List<String> lines = IntStream.range(0, 5_000)
+                .mapToObj(i -> "Movie " + i + " été\t" + (100 + i) + "\t4.5")
+                .toList();
+        Path file = tempDir.resolve("movies.tsv");
+        Files.writeString(file, String.join("\n", lines), StandardCharsets.UTF_8);
+
+        List<String> read = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file)) {
+            long size = channel.size();
+            long chunkSize = 997;
+            for (long offset = 0; offset < size; offset += chunkSize) {
+                long start = CatalogChunkReader.alignToLineStart(channel, offset, size);
+                long end = CatalogChunkReader.alignToLineStart(channel, offset + chunkSize, size);
+                CatalogChunkReader.forEachLine(channel, start, end,
+                        (bytes, off, len) -> read.add(new String(bytes, off, len, StandardCharsets.UTF_8)));
+            }
+        }
+
+        assertThat(read).containsExactlyElementsOf(lines);
+    }
+
+    @Test
+    void stripsCarriageReturns() throws IOException {
+        Path file = tempDir.resolve("movies.csv");
+        Files.writeString(file, "name,cost,rating\r\nA,1,2\r\n");
+
+        List<String> read = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file)) {
+            CatalogChunkReader.forEachLine(channel, 0, channel.size(),
+                    (bytes, off, len) -> read.add(new String(bytes, off, len, StandardCharsets.UTF_8)));
+        }
+
+        assertThat(read).containsExactly("name,cost,rating", "A,1,2");
+    }
+}
@@ -0,0 +1,78 @@
+package com.naren.movieticketbookingapplication.Catalog;
+
+import com.naren.movieticketbookingapplication.AbstractTestContainers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the loader's COPY and merge against Postgres: new names share one {@code movie_id} block, names already in
+ * {@code movie} keep their id and take no sequence value.
+ */
+class CatalogLoaderMergeTest extends AbstractTestContainers {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(postgresContainer.getJdbcUrl(),
+                postgresContainer.getUsername(), postgresContainer.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void newNamesShareOneSequenceBlock() throws Exception {
+        jdbcTemplate.update("INSERT INTO movie (movie_id, name, cost, rating) VALUES (nextval('movie_id'), ?, 100, 3)",
+                "Loader existing");
+        long existingId = jdbcTemplate.queryForObject("SELECT movie_id FROM movie WHERE name = 'Loader existing'",
+                Long.class);
+        Path file = Files.writeString(dir.resolve("movies.tsv"), """
+                name\tcost\trating
+                Loader existing\t150\t4
+                Loader new 1\t200\t3.5
+                Loader new 2\t210\t3.6
+                Loader new 3\t220\t3.7
+                Loader new 1\t250\t4.5
+                """);
+        long before = nextMovieId();
+
+        loader(file).load();
+
+        assertThat(nextMovieId() - before).isEqualTo(2 * increment());
+        List<Long> newIds = jdbcTemplate.queryForList(
+                "SELECT movie_id FROM movie WHERE name LIKE 'Loader new %' ORDER BY name", Long.class);
+        assertThat(newIds).hasSize(3).doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).isBetween(before + 1, before + increment()));
+        assertThat(jdbcTemplate.queryForObject("SELECT movie_id FROM movie WHERE name = 'Loader existing'", Long.class))
+                .isEqualTo(existingId);
+        assertThat(jdbcTemplate.queryForObject("SELECT cost FROM movie WHERE name = 'Loader new 1'", Double.class))
+                .isEqualTo(250.0);
+    }
+
+    private CatalogLoader loader(Path file) {
+        return new CatalogLoader(dataSource, jdbcTemplate, new DataSourceTransactionManager(dataSource), null,
+                file, "", List.of("name", "cost", "rating"), true, 1, 64, true, "64MB");
+    }
+
+    private long nextMovieId() {
+        return jdbcTemplate.queryForObject("SELECT nextval('movie_id')", Long.class);
+    }
+
+    private long increment() {
+        return jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'movie_id'", Long.class);
+    }
+}
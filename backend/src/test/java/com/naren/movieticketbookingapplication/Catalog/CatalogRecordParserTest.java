@@ -0,0 +1,49 @@
+package com.naren.movieticketbookingapplication.Catalog;
+
+import com.naren.movieticketbookingapplication.Catalog.CatalogRecordParser.CatalogRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogRecordParserTest {
+
+    @Test
+    void parsesTsvInConfiguredColumnOrder() {
+        CatalogRecordParser parser = CatalogRecordParser.of("tsv", List.of("id", "rating", "name", "cost"));
+
+        CatalogRecord record = parser.parse("tt0111161\t9.3\tThe Shawshank Redemption\t450.5\textra");
+
+        assertThat(record).isEqualTo(new CatalogRecord("The Shawshank Redemption", 450.5, 9.3));
+    }
+
+    @Test
+    void parsesQuotedCsvFields() {
+        CatalogRecordParser parser = CatalogRecordParser.of("csv", List.of("name", "cost", "rating"));
+
+        CatalogRecord record = parser.parse("\"Crouching Tiger, Hidden \"\"Dragon\"\"\",300,4.1");
+
+        assertThat(record).isEqualTo(new CatalogRecord("Crouching Tiger, Hidden \"Dragon\"", 300.0, 4.1));
+    }
+
+    @Test
+    void rejectsMalformedLines() {
+        CatalogRecordParser parser = CatalogRecordParser.of("tsv", List.of("name", "cost", "rating"));
+
+        assertThat(parser.parse("")).isNull();
+        assertThat(parser.parse("Only a name")).isNull();
+        assertThat(parser.parse("Name\tfree\t4.0")).isNull();
+        assertThat(parser.parse("\t100\t4.0")).isNull();
+        assertThat(parser.parse("Name\tNaN\t4.0")).isNull();
+    }
+
+    @Test
+    void requiresNameCostAndRatingColumns() {
+        assertThatThrownBy(() -> CatalogRecordParser.of("tsv", List.of("name", "cost")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CatalogRecordParser.of("xml", List.of("name", "cost", "rating")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dao.MovieDaoImpl;
+import com.naren.movieticketbookingapplication.Dao.MovieNameIndex;
+import com.naren.movieticketbookingapplication.Dao.MovieRecommendationIndex;
+import com.naren.movieticketbookingapplication.Dao.ReactiveMovieDao;
+import com.naren.movieticketbookingapplication.Dao.ReactiveMovieDaoImpl;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Repo.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DaoMetricsAspectTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MovieDao movieDao;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        movieDao = proxy(new MovieDaoImpl(movieRepository, mock(MovieNameIndex.class),
+                mock(MovieRecommendationIndex.class), mock(JdbcTemplate.class)));
+    }
+
+    private <T> T proxy(Object target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new DaoMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+
+    @Test
+    void recordsLatencyAndRowsPerMethod() {
+        when(movieRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(new Movie("A", 1.0, 1.0), new Movie("B", 2.0, 2.0))));
+        when(movieRepository.findById(1L)).thenReturn(Optional.empty());
+
+        movieDao.getMovieList();
+        movieDao.getMovieList();
+        movieDao.getMovieById(1L);
+
+        assertThat(meterRegistry.get("dao.calls").tags("dao", "MovieDao", "method", "getMovieList", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("dao.rows").tags("dao", "MovieDao", "method", "getMovieList")
+                .summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("dao.rows").tags("method", "getMovieById").summary().max()).isZero();
+    }
+
+    @Test
+    void doesNotRecordRowsForScalarResults() {
+        when(movieRepository.existsByName("A")).thenReturn(true);
+
+        movieDao.existsByName("A");
+
+        assertThat(meterRegistry.get("dao.calls").tags("method", "existsByName").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dao.rows").tags("method", "existsByName").summary().count()).isZero();
+    }
+
+    @Test
+    void countsErrorsByException() {
+        when(movieRepository.findAll(any(Pageable.class))).thenThrow(new QueryTimeoutException("slow"));
+
+        assertThatThrownBy(() -> movieDao.getMovieList()).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(meterRegistry.get("dao.calls")
+                .tags("method", "getMovieList", "outcome", "error", "exception", "QueryTimeoutException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void measuresReactiveCallsOnSubscription() {
+        ReactiveMovieDao target = spy(new ReactiveMovieDaoImpl(mock(DatabaseClient.class), 100));
+        doReturn(Flux.just(new Movie("A", 1.0, 1.0), new Movie("B", 2.0, 2.0), new Movie("C", 3.0, 3.0)))
+                .when(target).streamMoviesAfter(0, 0);
+        ReactiveMovieDao reactiveDao = proxy(target);
+
+        Flux<Movie> movies = reactiveDao.streamMoviesAfter(0, 0);
+        assertThat(meterRegistry.get("dao.calls").tags("method", "streamMoviesAfter").timer().count()).isZero();
+
+        assertThat(movies.collectList().block()).hasSize(3);
+        assertThat(meterRegistry.get("dao.calls").tags("method", "streamMoviesAfter").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dao.rows").tags("method", "streamMoviesAfter").summary().totalAmount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,32 @@
+package com.naren.movieticketbookingapplication.Config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskSchedulingAutoConfiguration.class))
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    void rebuildsGetTheirOwnPoolBesideTheDefaultScheduler() {
+        contextRunner.withPropertyValues("spring.task.scheduling.pool.size=3", "scheduling.rebuilds.pool-size=4")
+                .run(context -> {
+                    assertThat(context).getBeans(TaskScheduler.class).hasSize(2);
+                    ThreadPoolTaskScheduler defaultScheduler = context.getBean("taskScheduler", ThreadPoolTaskScheduler.class);
+                    ThreadPoolTaskScheduler rebuildScheduler =
+                            context.getBean(SchedulingConfig.REBUILD_SCHEDULER, ThreadPoolTaskScheduler.class);
+
+                    assertThat(defaultScheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isEqualTo(3);
+                    assertThat(rebuildScheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isEqualTo(4);
+                    assertThat(rebuildScheduler.getThreadNamePrefix()).isEqualTo("rebuild-");
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package com.naren.movieticketbookingapplication.Controller;
+
+import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Record.BookingRequest;
+import com.naren.movieticketbookingapplication.Service.BookingService;
+import com.naren.movieticketbookingapplication.jwt.ClaimsPrincipal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingControllerTest {
+
+    private final Authentication alice = new TestingAuthenticationToken(
+            new ClaimsPrincipal("alice@example.com", 1L, AuthorityUtils.createAuthorityList("ROLE_USER")),
+            null, "ROLE_USER");
+
+    @Mock
+    private BookingService bookingService;
+    @InjectMocks
+    private BookingController underTest;
+
+    @Test
+    void actsForTheCustomerTheTokenBelongsTo() {
+        underTest.getBookings(1L, alice);
+        underTest.releaseHold(1L, "hold", alice);
+
+        verify(bookingService).getBookings(1L);
+        verify(bookingService).releaseHold(1L, "hold");
+    }
+
+    @Test
+    void actsForTheCustomerLoadedInDatabaseMode() {
+        Customer customer = new Customer(1L, "alice", "alice@example.com", "password", 20220292232L);
+        Authentication loaded = new TestingAuthenticationToken(customer, null, "ROLE_USER");
+
+        underTest.getBookings(1L, loaded);
+
+        verify(bookingService).getBookings(1L);
+    }
+
+    @Test
+    void refusesToActForAnotherCustomer() {
+        BookingRequest request = new BookingRequest(7L, List.of(1, 2));
+
+        assertThatThrownBy(() -> underTest.book(2L, request, alice)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> underTest.hold(2L, request, alice)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> underTest.confirmHold(2L, "hold", alice)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> underTest.releaseHold(2L, "hold", alice)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> underTest.getBookings(2L, alice)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> underTest.cancelBooking(2L, 3L, alice)).isInstanceOf(AccessDeniedException.class);
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void refusesATokenWithoutCustomerId() {
+        Authentication legacy = new TestingAuthenticationToken("alice@example.com", null, "ROLE_USER");
+
+        assertThatThrownBy(() -> underTest.getBookings(1L, legacy)).isInstanceOf(AccessDeniedException.class);
+
+        verifyNoInteractions(bookingService);
+    }
+}
@@ -0,0 +1,102 @@
+package com.naren.movieticketbookingapplication.Controller;
+
+import com.naren.movieticketbookingapplication.Dao.ReactiveMovieDao;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieCatalogRoutesTest {
+
+    @Mock
+    private ReactiveMovieDao movieDao;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToRouterFunction(new MovieCatalogRoutes(movieDao, 100).routes()).build();
+    }
+
+    @Test
+    void getMovieById() {
+        when(movieDao.getMovieById(7L)).thenReturn(Mono.just(new Movie(7L, "Heat", 250.0, 4.5)));
+
+        client.get().uri("/api/v2/movies/7").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.movie_id").isEqualTo(7)
+                .jsonPath("$.name").isEqualTo("Heat");
+    }
+
+    @Test
+    void getMovieByIdNotFound() {
+        when(movieDao.getMovieById(7L)).thenReturn(Mono.empty());
+
+        client.get().uri("/api/v2/movies/7").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(404);
+    }
+
+    @Test
+    void getMovieByIdRejectsInvalidId() {
+        client.get().uri("/api/v2/movies/abc").exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(movieDao);
+    }
+
+    @Test
+    void streamMoviesAsNdjson() {
+        when(movieDao.streamMoviesAfter(10L, 2L)).thenReturn(Flux.just(
+                new Movie(11L, "Alien", 300.0, 4.8),
+                new Movie(12L, "Brazil", 200.0, 4.1)));
+
+        var movies = client.get().uri("/api/v2/movies?after=10&limit=2").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Movie.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(movies).extracting(Movie::getName).containsExactly("Alien", "Brazil");
+    }
+
+    @Test
+    void streamMoviesAsServerSentEvents() {
+        when(movieDao.streamMoviesAfter(0L, 100L)).thenReturn(Flux.just(new Movie(1L, "Alien", 300.0, 4.8)));
+
+        client.get().uri("/api/v2/movies").accept(MediaType.TEXT_EVENT_STREAM).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM);
+    }
+
+    @Test
+    void streamMoviesCapsLimit() {
+        when(movieDao.streamMoviesAfter(0L, 100L)).thenReturn(Flux.empty());
+
+        client.get().uri("/api/v2/movies?limit=5000").exchange()
+                .expectStatus().isOk();
+
+        verify(movieDao).streamMoviesAfter(0L, 100L);
+    }
+
+    @Test
+    void streamMoviesRejectsNegativeCursor() {
+        client.get().uri("/api/v2/movies?after=-1").exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(movieDao);
+    }
+}
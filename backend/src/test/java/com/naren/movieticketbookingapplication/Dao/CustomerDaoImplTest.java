@@ -2,6 +2,7 @@ package com.naren.movieticketbookingapplication.Dao;
 
 import com.naren.movieticketbookingapplication.AbstractTestContainers;
 import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Repo.CustomerRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,12 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class CustomerDaoImplTest extends AbstractTestContainers {
@@ -23,12 +26,14 @@ class CustomerDaoImplTest extends AbstractTestContainers {
     private AutoCloseable autoCloseable;
     @Mock
     private CustomerRepository customerRepository;
+    @Mock
+    private CustomerIdentityFilter identityFilter;
     private Customer customer;
 
     @BeforeEach
     void setUp() {
         autoCloseable = MockitoAnnotations.openMocks(this);
-        underTest = new CustomerDaoImpl(customerRepository);
+        underTest = new CustomerDaoImpl(customerRepository, identityFilter);
 
         customer = new Customer(1L, FAKER.name().name(),
                 FAKER.internet().emailAddress(), FAKER.internet().password(),
@@ -45,7 +50,8 @@ class CustomerDaoImplTest extends AbstractTestContainers {
 
         underTest.addCustomer(customer);
 
-        verify(customerRepository).save(customer);
+        verify(customerRepository).saveAndFlush(customer);
+        verify(identityFilter).add(customer.getEmail(), customer.getPhoneNumber());
     }
 
     @Test
@@ -60,26 +66,81 @@ class CustomerDaoImplTest extends AbstractTestContainers {
     void updateCustomer() {
         underTest.updateCustomer(customer);
 
-        verify(customerRepository).save(customer);
+        verify(customerRepository).saveAndFlush(customer);
+    }
+
+    @Test
+    void addCustomerTurnsUniqueViolationsIntoConflicts() {
+        when(customerRepository.saveAndFlush(customer)).thenThrow(new DataIntegrityViolationException(
+                "duplicate key value violates unique constraint \"email_id_unique\""));
+
+        assertThatThrownBy(() -> underTest.addCustomer(customer))
+                .isInstanceOf(ResourceAlreadyExists.class)
+                .hasMessage("Email already taken");
+        verify(identityFilter, never()).add(any(), any());
+    }
+
+    @Test
+    void updateCustomerRethrowsOtherIntegrityViolations() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("null value in column");
+        when(customerRepository.saveAndFlush(customer)).thenThrow(violation);
+
+        assertThatThrownBy(() -> underTest.updateCustomer(customer)).isSameAs(violation);
     }
 
     @Test
     void existsByEmail() {
         String email = customer.getEmail();
+        when(identityFilter.mightContainEmail(email)).thenReturn(true);
 
         underTest.existsByEmail(email);
 
         verify(customerRepository).existsByEmail(email);
+        verify(identityFilter).recordFalsePositive();
+    }
+
+    @Test
+    void existsByEmailSkipsQueryWhenFilterRulesItOut() {
+        String email = customer.getEmail();
+        when(identityFilter.mightContainEmail(email)).thenReturn(false);
+
+        boolean exists = underTest.existsByEmail(email);
+
+        assertThat(exists).isFalse();
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void existsByEmailUnfilteredIgnoresTheIdentityFilter() {
+        String email = customer.getEmail();
+        when(customerRepository.existsByEmail(email)).thenReturn(true);
+
+        boolean exists = underTest.existsByEmailUnfiltered(email);
+
+        assertThat(exists).isTrue();
+        verifyNoInteractions(identityFilter);
     }
 
     @Test
     void existsByPhoneNumber() {
         Long phoneNumber = customer.getPhoneNumber();
+        when(identityFilter.mightContainPhoneNumber(phoneNumber)).thenReturn(true);
 
         underTest.existsByPhoneNumber(phoneNumber);
         verify(customerRepository).existsByPhoneNumber(phoneNumber);
     }
 
+    @Test
+    void existsByPhoneNumberSkipsQueryWhenFilterRulesItOut() {
+        Long phoneNumber = customer.getPhoneNumber();
+        when(identityFilter.mightContainPhoneNumber(phoneNumber)).thenReturn(false);
+
+        boolean exists = underTest.existsByPhoneNumber(phoneNumber);
+
+        assertThat(exists).isFalse();
+        verifyNoInteractions(customerRepository);
+    }
+
     @Test
     void getCustomerList() {
         Page<Customer> page = mock(Page.class);
@@ -96,6 +157,13 @@ class CustomerDaoImplTest extends AbstractTestContainers {
         assertThat(pageableArgumentCaptor.getValue()).isEqualTo(Pageable.ofSize(1000));
     }
 
+    @Test
+    void getCustomerSummaries() {
+        underTest.getCustomerSummaries();
+
+        verify(customerRepository).findCustomerSummaries(Pageable.ofSize(1000));
+    }
+
     @Test
     void deleteCustomer() {
 
@@ -103,4 +171,19 @@ class CustomerDaoImplTest extends AbstractTestContainers {
 
         verify(customerRepository).delete(customer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void addMovieSubscriptionReportsWhetherARowWasInserted() {
+        when(customerRepository.insertMovieSubscription(1L, 2L)).thenReturn(1, 0);
+
+        assertThat(underTest.addMovieSubscription(1L, 2L)).isTrue();
+        assertThat(underTest.addMovieSubscription(1L, 2L)).isFalse();
+    }
+
+    @Test
+    void removeMovieSubscription() {
+        when(customerRepository.deleteMovieSubscription(1L, 2L)).thenReturn(1);
+
+        assertThat(underTest.removeMovieSubscription(1L, 2L)).isTrue();
+    }
+}
@@ -0,0 +1,71 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.AbstractTestContainers;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResponse;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResult.Status;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation.Type;
+import com.naren.movieticketbookingapplication.Repo.MovieRepository;
+import com.naren.movieticketbookingapplication.Service.MovieLeaderboardService;
+import com.naren.movieticketbookingapplication.Service.MovieServiceImpl;
+import com.naren.movieticketbookingapplication.TestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs movie batches through the real service, DAO and Hibernate flush, which the mocked unit tests cannot
+ * catch: the order statements reach the database decides whether reused names trip {@code movie_name_unique}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestConfig.class, MovieDaoImpl.class, MovieServiceImpl.class})
+class MovieBatchWriteTest extends AbstractTestContainers {
+
+    @MockBean
+    private MovieNameIndex nameIndex;
+    @MockBean
+    private MovieRecommendationIndex recommendationIndex;
+    @MockBean
+    private MovieLeaderboardService leaderboard;
+
+    @Autowired
+    private MovieServiceImpl movieService;
+    @Autowired
+    private MovieRepository movieRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void renameOntoANameFreedByADeleteInTheSameBatch() {
+        Movie deleted = movieRepository.save(new Movie("Batch freed name", 100.0, 3.0));
+        Movie renamed = movieRepository.save(new Movie("Batch old name", 100.0, 3.0));
+        entityManager.flush();
+
+        MovieBatchResponse response = movieService.applyBatch(List.of(
+                new MovieBatchOperation(Type.DELETE, deleted.getMovie_id(), null, null, null),
+                new MovieBatchOperation(Type.UPDATE, renamed.getMovie_id(), "Batch freed name", null, 4.0),
+                new MovieBatchOperation(Type.CREATE, null, "Batch old name", 120.0, 2.5)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(response.results()).extracting(MovieBatchResult::status)
+                .containsExactly(Status.DELETED, Status.UPDATED, Status.CREATED);
+        assertThat(movieRepository.findById(deleted.getMovie_id())).isEmpty();
+        assertThat(movieRepository.findById(renamed.getMovie_id())).get()
+                .extracting(Movie::getName, Movie::getRating)
+                .containsExactly("Batch freed name", 4.0);
+        assertThat(movieRepository.findByNameIn(List.of("Batch old name"))).singleElement()
+                .extracting(Movie::getCost).isEqualTo(120.0);
+    }
+}
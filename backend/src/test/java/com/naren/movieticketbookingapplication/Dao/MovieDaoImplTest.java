@@ -1,7 +1,9 @@
 package com.naren.movieticketbookingapplication.Dao;
 
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
 import com.naren.movieticketbookingapplication.Entity.Movie;
 import com.naren.movieticketbookingapplication.Repo.MovieRepository;
+import com.naren.movieticketbookingapplication.Util.CoSubscriptionIndex.Neighbour;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,7 +11,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 
@@ -23,13 +29,19 @@ class MovieDaoImplTest {
     private AutoCloseable autoCloseable;
     @Mock
     private MovieRepository movieRepository;
+    @Mock
+    private MovieNameIndex nameIndex;
+    @Mock
+    private MovieRecommendationIndex recommendationIndex;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     private Movie movie;
 
     @BeforeEach
     void setUp() {
         autoCloseable = MockitoAnnotations.openMocks(this);
-        underTest = new MovieDaoImpl(movieRepository);
+        underTest = new MovieDaoImpl(movieRepository, nameIndex, recommendationIndex, jdbcTemplate);
         movie = new Movie(1L,
                 "Harry Potter",
                 200D,
@@ -47,6 +59,7 @@ class MovieDaoImplTest {
         underTest.addMovie(movie);
 
         verify(movieRepository).save(movie);
+        verify(nameIndex).put(movie);
     }
 
 
@@ -65,6 +78,7 @@ class MovieDaoImplTest {
         underTest.updateMovie(movie);
 
         verify(movieRepository).save(movie);
+        verify(nameIndex).put(movie);
     }
 
     @Test
@@ -90,10 +104,44 @@ class MovieDaoImplTest {
         assertThat(pageableArgumentCaptor.getValue()).isEqualTo(Pageable.ofSize(1000));
     }
 
+    @Test
+    void getMoviesAfter() {
+        Slice<Movie> slice = new SliceImpl<>(List.of(movie), PageRequest.ofSize(10), false);
+
+        when(movieRepository.findMoviesAfter(0L, PageRequest.ofSize(10))).thenReturn(slice);
+
+        Slice<Movie> actual = underTest.getMoviesAfter(0L, 10);
+
+        assertThat(actual).isEqualTo(slice);
+        verify(movieRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getMoviesByCustomerIds() {
+        underTest.getMoviesByCustomerIds(List.of(1L, 2L));
+
+        verify(movieRepository).findCustomerMovies(List.of(1L, 2L));
+    }
+
     @Test
     void removeMovieById() {
         underTest.removeMovie(movie);
 
         verify(movieRepository).delete(movie);
+        verify(nameIndex).remove(movie);
+    }
+
+    @Test
+    void getRecommendedMoviesKeepsNeighbourOrderAndSkipsDeletedMovies() {
+        when(recommendationIndex.neighbours(1L, 3)).thenReturn(List.of(
+                new Neighbour(3L, 40, 0.8), new Neighbour(2L, 25, 0.5), new Neighbour(9L, 10, 0.2)));
+        when(movieRepository.findAllById(List.of(3L, 2L, 9L))).thenReturn(List.of(
+                new Movie(2L, "Second", 100.0, 4.0), new Movie(3L, "Third", 120.0, 4.5)));
+
+        List<MovieRecommendation> actual = underTest.getRecommendedMovies(1L, 3);
+
+        assertThat(actual).containsExactly(
+                new MovieRecommendation(3L, "Third", 4.5, 40, 0.8),
+                new MovieRecommendation(2L, "Second", 4.0, 25, 0.5));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.naren.movieticketbookingapplication.Dao;
+
+import com.naren.movieticketbookingapplication.AbstractTestContainers;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
+import com.naren.movieticketbookingapplication.Record.MovieSort;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN} on the sorted catalog queries against a seeded, analysed table, so a missing index or a
+ * query change that loses it fails here instead of as a sequential scan in production.
+ */
+class MovieSortedPageQueryPlanTest extends AbstractTestContainers {
+
+    private static final int MOVIES = 100_000;
+    private static final MovieFilter FILTER = new MovieFilter(4.0, null, null, 100.0);
+
+    private static JdbcTemplate jdbcTemplate;
+    private static MovieDaoImpl movieDao;
+
+    @BeforeAll
+    static void seed() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(postgresContainer.getJdbcUrl(),
+                postgresContainer.getUsername(), postgresContainer.getPassword()));
+        jdbcTemplate.update("""
+                insert into movie (movie_id, name, cost, rating)
+                select nextval('movie_id'), 'Plan movie ' || g, round((random() * 500)::numeric, 2),
+                       round((random() * 5)::numeric, 1)
+                from generate_series(1, ?) g
+                """, MOVIES);
+        // fresh statistics, and a visibility map so the planner can cost index-only scans
+        jdbcTemplate.execute("vacuum analyze movie");
+        movieDao = new MovieDaoImpl(null, null, null, jdbcTemplate);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MovieSort.class)
+    void sortedPagesNeverScanTheWholeTable(MovieSort sort) {
+        for (MovieFilter filter : List.of(MovieFilter.NONE, FILTER)) {
+            List<String> plan = explain(filter, sort);
+
+            assertThat(plan).as("%s %s:%n%s", sort, filter, String.join("\n", plan))
+                    .noneMatch(line -> line.contains("Seq Scan"));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MovieSort.class, names = "ID", mode = EnumSource.Mode.EXCLUDE)
+    void ratingAndCostOrdersFindThePageWithAnIndexOnlyScan(MovieSort sort) {
+        List<String> plan = explain(FILTER, sort);
+
+        assertThat(plan).as("%s:%n%s", sort, String.join("\n", plan))
+                .anyMatch(line -> line.contains("Index Only Scan"));
+    }
+
+    @Test
+    void keysetPagesMatchASingleSortedQuery() {
+        List<Movie> expected = jdbcTemplate.query("""
+                        select movie_id, name, cost, rating from movie
+                        where rating >= 4 and cost <= 100
+                        order by rating desc, movie_id desc
+                        limit 150
+                        """,
+                (rs, i) -> new Movie(rs.getLong(1), rs.getString(2), rs.getDouble(3), rs.getDouble(4)));
+
+        List<Movie> paged = new ArrayList<>();
+        double afterValue = Double.POSITIVE_INFINITY;
+        long afterId = Long.MAX_VALUE;
+        for (int page = 0; page < 3; page++) {
+            List<Movie> movies = movieDao.getMoviesAfter(FILTER, MovieSort.RATING_DESC, afterValue, afterId, 50);
+            paged.addAll(movies);
+            Movie last = movies.get(movies.size() - 1);
+            afterValue = last.getRating();
+            afterId = last.getMovie_id();
+        }
+
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    private static List<String> explain(MovieFilter filter, MovieSort sort) {
+        return jdbcTemplate.queryForList("explain " + MovieDaoImpl.sortedPageSql(sort), String.class,
+                MovieDaoImpl.sortedPageArguments(filter, sort, sort.descending() ? Double.POSITIVE_INFINITY
+                        : Double.NEGATIVE_INFINITY, sort.descending() ? Long.MAX_VALUE : 0L, 101));
+    }
+}
@@ -9,7 +9,7 @@ class CustomerTest {
     @Test
     void testToString() {
         Customer customer = new Customer(1L, "John Doe", "john@example.com", "password123", 1234567890L);
-        assertEquals("Customer{customer_id=1, name='John Doe', email='john@example.com', password='password123', phoneNumber=1234567890}", customer.toString());
+        assertEquals("Customer{customer_id=1, name='John Doe', email='john@example.com', phoneNumber=1234567890}", customer.toString());
     }
 
     @Test
@@ -0,0 +1,39 @@
+package com.naren.movieticketbookingapplication.Exception.ApiError;
+
+import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+
+class DefaultExceptionHandlerTest {
+
+    private final DefaultExceptionHandler underTest = new DefaultExceptionHandler();
+
+    @Test
+    void duplicatesAreConflictsNotServerErrors() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/customers");
+
+        ResponseEntity<ApiError> response = underTest.handleException(
+                new ResourceAlreadyExists("Email already taken"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
+        assertThat(response.getBody().message()).isEqualTo("Email already taken");
+        assertThat(response.getBody().path()).isEqualTo("/api/v1/customers");
+    }
+
+    @Test
+    void deniedAccessIsForbiddenNotAServerError() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/2/bookings");
+
+        ResponseEntity<ApiError> response = underTest.handleException(
+                new AccessDeniedException("Not allowed to act for customer 2"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(FORBIDDEN);
+        assertThat(response.getBody().message()).isEqualTo("Not allowed to act for customer 2");
+    }
+}
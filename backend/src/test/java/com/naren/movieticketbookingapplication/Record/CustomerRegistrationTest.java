@@ -0,0 +1,18 @@
+package com.naren.movieticketbookingapplication.Record;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerRegistrationTest {
+
+    @Test
+    void toStringNeverContainsThePassword() {
+        CustomerRegistration registration =
+                new CustomerRegistration("Naren", "naren@example.com", "s3cret-Passw0rd", 9876543210L);
+
+        assertThat(registration.toString())
+                .doesNotContain("s3cret-Passw0rd")
+                .contains("naren@example.com", "[PROTECTED]");
+    }
+}
@@ -0,0 +1,87 @@
+package com.naren.movieticketbookingapplication.Repo;
+
+import com.naren.movieticketbookingapplication.AbstractTestContainers;
+import com.naren.movieticketbookingapplication.Dto.CustomerMovie;
+import com.naren.movieticketbookingapplication.Dto.CustomerSummary;
+import com.naren.movieticketbookingapplication.Entity.Customer;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Entity.Role;
+import com.naren.movieticketbookingapplication.TestConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestConfig.class)
+class CustomerSummaryQueryTest extends AbstractTestContainers {
+
+    private static final int CUSTOMERS = 5;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private MovieRepository movieRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role role = roleRepository.save(new Role(FAKER.letterify("ROLE_????????")));
+
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer customer = new Customer(FAKER.name().fullName(),
+                    FAKER.internet().uuid() + "@codeNaren.com",
+                    FAKER.internet().password(8, 12),
+                    FAKER.number().randomNumber(12, false));
+            customer.addRole(role);
+            customer.addMovie(movieRepository.save(new Movie(FAKER.internet().uuid(), 200D, 4D)));
+            customerRepository.save(customer);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void customerSummariesPageIsASingleStatement() {
+        List<CustomerSummary> summaries = customerRepository.findCustomerSummaries(Pageable.ofSize(1000));
+
+        assertThat(summaries).hasSizeGreaterThanOrEqualTo(CUSTOMERS);
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.getEmail()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void includingMoviesAddsOneBatchedStatement() {
+        List<Long> customerIds = customerRepository.findCustomerSummaries(Pageable.ofSize(1000))
+                .stream()
+                .map(CustomerSummary::getId)
+                .toList();
+
+        List<CustomerMovie> movies = movieRepository.findCustomerMovies(customerIds);
+
+        assertThat(movies).hasSizeGreaterThanOrEqualTo(CUSTOMERS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -1,5 +1,6 @@
 package com.naren.movieticketbookingapplication.Repo;
 
+import com.naren.movieticketbookingapplication.Dto.MovieSearchResult;
 import com.naren.movieticketbookingapplication.Entity.Movie;
 import com.naren.movieticketbookingapplication.TestConfig;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,4 +36,51 @@ class MovieRepositoryTest {
 
         assertThat(underTest.existsByName(movie.getName())).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findMoviesAfterPagesByIdWithoutOffset() {
+        Movie first = underTest.save(new Movie("keysetFirst", 200D, 4D));
+        Movie second = underTest.save(new Movie("keysetSecond", 210D, 3D));
+
+        Slice<Movie> slice = underTest.findMoviesAfter(first.getMovie_id() - 1, PageRequest.ofSize(1));
+
+        assertThat(slice.getContent()).containsExactly(first);
+        assertThat(slice.hasNext()).isTrue();
+
+        Slice<Movie> next = underTest.findMoviesAfter(first.getMovie_id(), PageRequest.ofSize(1));
+
+        assertThat(next.getContent()).containsExactly(second);
+    }
+
+    @Test
+    void searchMoviesRanksFullTextAndToleratesTypos() {
+        Movie exact = underTest.save(new Movie("Searchable Godfather", 200D, 4D));
+        Movie partial = underTest.save(new Movie("Godfather Returns Searchable", 210D, 3D));
+        underTest.save(new Movie("Unrelated Picture", 220D, 3D));
+        underTest.flush();
+
+        List<MovieSearchResult> results = underTest.searchMovies("searchable godfather", Double.MAX_VALUE, 0L, 10);
+
+        assertThat(results).extracting(MovieSearchResult::getMovieId)
+                .containsExactlyInAnyOrder(exact.getMovie_id(), partial.getMovie_id());
+        assertThat(results.get(0).getScore()).isGreaterThanOrEqualTo(results.get(1).getScore());
+
+        List<MovieSearchResult> misspelled = underTest.searchMovies("godfathr", Double.MAX_VALUE, 0L, 10);
+
+        assertThat(misspelled).extracting(MovieSearchResult::getMovieId).contains(exact.getMovie_id());
+    }
+
+    @Test
+    void searchMoviesPagesByScoreThenId() {
+        underTest.save(new Movie("Pagination Saga One", 200D, 4D));
+        underTest.save(new Movie("Pagination Saga Two", 200D, 4D));
+        underTest.flush();
+
+        List<MovieSearchResult> first = underTest.searchMovies("pagination saga", Double.MAX_VALUE, 0L, 1);
+        MovieSearchResult last = first.get(0);
+        List<MovieSearchResult> second = underTest.searchMovies("pagination saga", last.getScore(), last.getMovieId(), 1);
+
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getMovieId()).isNotEqualTo(last.getMovieId());
+    }
+}
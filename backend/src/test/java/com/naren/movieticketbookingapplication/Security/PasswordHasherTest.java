@@ -0,0 +1,77 @@
+package com.naren.movieticketbookingapplication.Security;
+
+import com.naren.movieticketbookingapplication.Exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        underTest.shutdown();
+    }
+
+    @Test
+    void encodeDelegatesToEncoderAndRecordsLatency() {
+        when(passwordEncoder.encode("password")).thenReturn("hashed");
+
+        assertThat(underTest.encode("password")).isEqualTo("hashed");
+        assertThat(meterRegistry.get("password.hash.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void encodeRejectsFastWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hashed";
+        });
+
+        CompletableFuture.runAsync(() -> underTest.encode("running"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> underTest.encode("queued"));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> underTest.encode("rejected"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(3)));
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
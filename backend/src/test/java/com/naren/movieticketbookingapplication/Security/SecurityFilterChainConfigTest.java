@@ -0,0 +1,90 @@
+package com.naren.movieticketbookingapplication.Security;
+
+import com.naren.movieticketbookingapplication.Controller.MovieController;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResponse;
+import com.naren.movieticketbookingapplication.Exception.DelegatedAuthEntryPoint;
+import com.naren.movieticketbookingapplication.Repo.CustomerRepository;
+import com.naren.movieticketbookingapplication.Repo.MovieRepository;
+import com.naren.movieticketbookingapplication.Service.CustomerUserDetailsService;
+import com.naren.movieticketbookingapplication.Service.MovieService;
+import com.naren.movieticketbookingapplication.WaitingRoom.WaitingRoom;
+import com.naren.movieticketbookingapplication.jwt.JwtTokenVerifier;
+import com.naren.movieticketbookingapplication.jwt.SubjectRevocationCheck;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MovieController.class)
+@Import({SecurityFilterChainConfig.class, DelegatedAuthEntryPoint.class, SimpleMeterRegistry.class})
+class SecurityFilterChainConfigTest {
+
+    private static final String BATCH = "[{\"op\":\"DELETE\",\"id\":1}]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MovieService movieService;
+    @MockBean
+    private AuthenticationProvider authenticationProvider;
+    @MockBean
+    private JwtTokenVerifier tokenVerifier;
+    @MockBean
+    private CustomerUserDetailsService userDetailsService;
+    @MockBean
+    private SubjectRevocationCheck revocationCheck;
+    @MockBean
+    private WaitingRoom waitingRoom;
+    // for the sample-data runner on the application class
+    @MockBean
+    private CustomerRepository customerRepository;
+    @MockBean
+    private MovieRepository movieRepository;
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void anonymousMovieBatchesAreRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/movies:batch").contentType(MediaType.APPLICATION_JSON).content(BATCH))
+                .andExpect(status().isForbidden());
+
+        verify(movieService, never()).applyBatch(any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    void movieBatchesNeedTheAdminRole() throws Exception {
+        mockMvc.perform(post("/api/v1/movies:batch").contentType(MediaType.APPLICATION_JSON).content(BATCH))
+                .andExpect(status().isForbidden());
+
+        verify(movieService, never()).applyBatch(any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void adminsMayApplyMovieBatches() throws Exception {
+        when(movieService.applyBatch(any())).thenReturn(new MovieBatchResponse(1, 0, List.of()));
+
+        mockMvc.perform(post("/api/v1/movies:batch").contentType(MediaType.APPLICATION_JSON).content(BATCH))
+                .andExpect(status().isOk());
+
+        verify(movieService).applyBatch(any());
+    }
+}
@@ -0,0 +1,160 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Booking.BookingJournal;
+import com.naren.movieticketbookingapplication.Booking.SeatHold;
+import com.naren.movieticketbookingapplication.Booking.SeatHoldManager;
+import com.naren.movieticketbookingapplication.Booking.SeatMap;
+import com.naren.movieticketbookingapplication.Booking.SeatMapRegistry;
+import com.naren.movieticketbookingapplication.Dao.BookingDao;
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dao.ShowtimeDao;
+import com.naren.movieticketbookingapplication.Dto.BookingDTO;
+import com.naren.movieticketbookingapplication.Dto.SeatHoldDTO;
+import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
+import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
+import com.naren.movieticketbookingapplication.Exception.SeatUnavailableException;
+import com.naren.movieticketbookingapplication.Record.BookingRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplTest {
+
+    @Mock
+    private ShowtimeDao showtimeDao;
+    @Mock
+    private MovieDao movieDao;
+    @Mock
+    private BookingDao bookingDao;
+    @Mock
+    private SeatMapRegistry seatMapRegistry;
+    @Mock
+    private BookingJournal bookingJournal;
+    @Mock
+    private SeatHoldManager seatHoldManager;
+    private BookingServiceImpl underTest;
+    private SeatMap seatMap;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new BookingServiceImpl(showtimeDao, movieDao, bookingDao, seatMapRegistry, bookingJournal,
+                seatHoldManager, new SimpleMeterRegistry(), 4, Duration.ofSeconds(1));
+        seatMap = new SeatMap(7L, Instant.now().plus(Duration.ofDays(1)), 100);
+    }
+
+    @Test
+    void bookClaimsSeatsAndWritesThroughTheJournal() {
+        BookingDTO stored = new BookingDTO(1L, 7L, 3L, List.of(4, 5), Instant.now());
+        when(seatMapRegistry.get(7L)).thenReturn(seatMap);
+        when(bookingJournal.append(7L, 3L, List.of(4, 5))).thenReturn(CompletableFuture.completedFuture(stored));
+
+        BookingDTO booking = underTest.book(3L, new BookingRequest(7L, List.of(5, 4)));
+
+        assertThat(booking).isEqualTo(stored);
+        assertThat(seatMap.takenSeats()).containsExactly(3, 4);
+    }
+
+    @Test
+    void bookRejectsTakenSeatsWithoutTouchingTheJournal() {
+        when(seatMapRegistry.get(7L)).thenReturn(seatMap);
+        seatMap.tryReserve(new int[]{4});
+
+        assertThatThrownBy(() -> underTest.book(3L, new BookingRequest(7L, List.of(5, 6))))
+                .isInstanceOf(SeatUnavailableException.class);
+
+        verifyNoInteractions(bookingJournal);
+        assertThat(seatMap.takenSeats()).containsExactly(4);
+    }
+
+    @Test
+    void bookReleasesSeatsAndRefreshesWhenAnotherNodeSoldThem() {
+        when(seatMapRegistry.get(7L)).thenReturn(seatMap);
+        when(bookingJournal.append(7L, 3L, List.of(9))).thenReturn(CompletableFuture.failedFuture(
+                new DuplicateKeyException("duplicate key value violates unique constraint \"pk_booking_seat\"")));
+
+        assertThatThrownBy(() -> underTest.book(3L, new BookingRequest(7L, List.of(9))))
+                .isInstanceOf(SeatUnavailableException.class);
+
+        assertThat(seatMap.isTaken(8)).isFalse();
+        verify(seatMapRegistry).refresh(7L);
+    }
+
+    @Test
+    void bookValidatesSeatNumbers() {
+        when(seatMapRegistry.get(7L)).thenReturn(seatMap);
+
+        assertThatThrownBy(() -> underTest.book(3L, new BookingRequest(7L, List.of(0))))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("does not exist");
+        assertThatThrownBy(() -> underTest.book(3L, new BookingRequest(7L, List.of(2, 2))))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("must not repeat");
+        assertThatThrownBy(() -> underTest.book(3L, new BookingRequest(7L, List.of(1, 2, 3, 4, 5))))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Between 1 and 4");
+    }
+
+    @Test
+    void cancelBookingReleasesSeats() {
+        seatMap.tryReserve(new int[]{0, 1});
+        when(bookingDao.getBooking(1L)).thenReturn(Optional.of(
+                new BookingDTO(1L, 7L, 3L, List.of(1, 2), Instant.now())));
+        when(bookingDao.deleteBooking(1L)).thenReturn(true);
+        when(seatMapRegistry.getIfLoaded(7L)).thenReturn(Optional.of(seatMap));
+
+        underTest.cancelBooking(3L, 1L);
+
+        assertThat(seatMap.available()).isEqualTo(100);
+    }
+
+    @Test
+    void holdClaimsSeatsWithoutWriting() {
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+        when(seatMapRegistry.get(7L)).thenReturn(seatMap);
+        when(seatHoldManager.hold(eq(3L), eq(seatMap), any()))
+                .thenAnswer(call -> new SeatHold("h1", 3L, seatMap, call.getArgument(2), expiresAt));
+
+        SeatHoldDTO hold = underTest.hold(3L, new BookingRequest(7L, List.of(2, 1)));
+
+        assertThat(hold).isEqualTo(new SeatHoldDTO("h1", 7L, 3L, List.of(1, 2), expiresAt));
+        assertThat(seatMap.takenSeats()).containsExactly(0, 1);
+        verifyNoInteractions(bookingJournal);
+    }
+
+    @Test
+    void confirmHoldWritesTheHeldSeats() {
+        seatMap.tryReserve(new int[]{0, 1});
+        BookingDTO stored = new BookingDTO(1L, 7L, 3L, List.of(1, 2), Instant.now());
+        when(seatHoldManager.claim("h1", 3L)).thenReturn(Optional.of(
+                new SeatHold("h1", 3L, seatMap, new int[]{1, 0}, Instant.now())));
+        when(bookingJournal.append(7L, 3L, List.of(1, 2))).thenReturn(CompletableFuture.completedFuture(stored));
+
+        assertThat(underTest.confirmHold(3L, "h1")).isEqualTo(stored);
+        assertThat(seatMap.takenSeats()).containsExactly(0, 1);
+    }
+
+    @Test
+    void confirmHoldFailsOnceExpired() {
+        when(seatHoldManager.claim("h1", 3L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> underTest.confirmHold(3L, "h1"))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(bookingJournal);
+    }
+}
@@ -0,0 +1,91 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Dao.CustomerDao;
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dto.CustomerDTOMapper;
+import com.naren.movieticketbookingapplication.Entity.Role;
+import com.naren.movieticketbookingapplication.Record.CustomerRegistration;
+import com.naren.movieticketbookingapplication.Security.PasswordHasher;
+import com.naren.movieticketbookingapplication.jwt.JwtUtil;
+import com.naren.movieticketbookingapplication.jwt.SubjectRevocationCheck;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs registration through the transactional proxy, which the plain unit test bypasses.
+ */
+@SpringJUnitConfig
+class CustomerRegistrationTransactionTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({CustomerServiceImpl.class, CustomerDTOMapper.class})
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+
+    @MockBean
+    private CustomerDao customerDao;
+    @MockBean
+    private PasswordHasher passwordHasher;
+    @MockBean
+    private RoleService roleService;
+    @MockBean
+    private MovieDao movieDao;
+    @MockBean
+    private JwtUtil jwtUtil;
+    @MockBean
+    private MovieLeaderboardService leaderboard;
+    @MockBean
+    private SubjectRevocationCheck revocationCheck;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Test
+    void hashesOutsideTheTransactionThatWritesTheCustomer() {
+        List<String> events = new ArrayList<>();
+        when(passwordHasher.encode("correct-horse")).thenAnswer(invocation -> {
+            events.add("hash in transaction: " + TransactionSynchronizationManager.isActualTransactionActive());
+            return "hashed";
+        });
+        when(roleService.findRoleByName("ROLE_USER")).thenReturn(new Role("ROLE_USER"));
+        doAnswer(invocation -> {
+            events.add("insert in transaction: " + TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(customerDao).addCustomer(any());
+
+        var response = customerService.registerUser(
+                new CustomerRegistration("Alex", "alex@example.com", "correct-horse", 5550100L), Set.of("ROLE_USER"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(events).containsExactly("hash in transaction: false", "insert in transaction: true");
+    }
+}
@@ -4,6 +4,8 @@ import com.naren.movieticketbookingapplication.Dao.CustomerDao;
 import com.naren.movieticketbookingapplication.Dao.MovieDao;
 import com.naren.movieticketbookingapplication.Dto.CustomerDTO;
 import com.naren.movieticketbookingapplication.Dto.CustomerDTOMapper;
+import com.naren.movieticketbookingapplication.Dto.CustomerMovie;
+import com.naren.movieticketbookingapplication.Dto.CustomerSummary;
 import com.naren.movieticketbookingapplication.Entity.Customer;
 import com.naren.movieticketbookingapplication.Entity.Movie;
 import com.naren.movieticketbookingapplication.Entity.Role;
@@ -13,16 +15,19 @@ import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
 import com.naren.movieticketbookingapplication.Record.CustomerRegistration;
 import com.naren.movieticketbookingapplication.Record.CustomerUpdateRequest;
+import com.naren.movieticketbookingapplication.Security.PasswordHasher;
 import com.naren.movieticketbookingapplication.jwt.JwtUtil;
+import com.naren.movieticketbookingapplication.jwt.SubjectRevocationCheck;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.HashSet;
 import java.util.List;
@@ -41,20 +46,26 @@ class CustomerServiceImplTest {
     @Mock
     private CustomerDao customerDao;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
     @Mock
     private RoleService roleService;
     @Mock
     private JwtUtil jwtUtil;
     @Mock
     private MovieDao movieDao;
+    @Mock
+    private MovieLeaderboardService leaderboard;
+    @Mock
+    private SubjectRevocationCheck revocationCheck;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     private CustomerServiceImpl underTest;
 
     @BeforeEach
     void setUp() {
         underTest = new CustomerServiceImpl(
-                customerDao, passwordEncoder, customerDTOMapper, roleService,
-                movieDao, jwtUtil);
+                customerDao, passwordHasher, customerDTOMapper, roleService,
+                movieDao, jwtUtil, leaderboard, revocationCheck, transactionManager);
 
     }
 
@@ -62,12 +73,12 @@ class CustomerServiceImplTest {
     void registerCustomerSuccess() {
         String email = "test@example.com";
         String password = "password";
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHasher.encode(password);
         CustomerRegistration registration = new CustomerRegistration("testName", email, password, 20220292232L);
 
         when(customerDao.existsByEmail(email)).thenReturn(false);
         when(customerDao.existsByPhoneNumber(registration.phoneNumber())).thenReturn(false);
-        when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
+        when(passwordHasher.encode(password)).thenReturn(encodedPassword);
 
         Role role = new Role("ROLE_USER");
         when(roleService.findRoleByName(role.getName())).thenReturn(role);
@@ -203,6 +214,8 @@ class CustomerServiceImplTest {
         assertThat(updatedCustomer.getName()).isEqualTo("newName");
         assertThat(updatedCustomer.getEmail()).isEqualTo("new@example.com");
         assertThat(updatedCustomer.getPhoneNumber()).isEqualTo(9999999999L);
+        verify(revocationCheck).invalidate("test@example.com");
+        verify(revocationCheck).invalidate("new@example.com");
     }
 
     @Test
@@ -265,6 +278,7 @@ class CustomerServiceImplTest {
         underTest.deleteCustomer(customerId);
 
         verify(customerDao).deleteCustomer(customer);
+        verify(revocationCheck).invalidate("test@example.com");
     }
 
     @Test
@@ -278,6 +292,7 @@ class CustomerServiceImplTest {
 
         verify(customerDao).getCustomer(nonExistingCustomerId);
         verify(customerDao, never()).deleteCustomer(any());
+        verifyNoInteractions(revocationCheck);
     }
 
     @Test
@@ -330,82 +345,63 @@ class CustomerServiceImplTest {
 
     @Test
     void addMovieToCustomer() {
-        Customer customer = new Customer(1L, "testName", "test@example.com", "password", 20220292232L);
-        Movie movie = new Movie(1L, "testName", 230.00, 9.00);
-
-        when(customerDao.getCustomer(1L)).thenReturn(Optional.of(customer));
-        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
-
-        underTest.addMovieToCustomer(customer.getCustomer_id(), movie.getMovie_id());
-
-        ArgumentCaptor<Customer> customerArgumentCaptor = ArgumentCaptor.forClass(Customer.class);
-
-        verify(customerDao).updateCustomer(customerArgumentCaptor.capture());
+        when(customerDao.addMovieSubscription(1L, 2L)).thenReturn(true);
 
-        Customer updated = customerArgumentCaptor.getValue();
-
-        assertThat(updated.getMovies()).contains(movie);
+        underTest.addMovieToCustomer(1L, 2L);
 
+        verify(customerDao).addMovieSubscription(1L, 2L);
+        verify(customerDao, never()).getCustomer(any());
+        verify(customerDao, never()).updateCustomer(any());
+        verify(leaderboard).subscriptionAdded(2L);
     }
 
     @Test
     void addMovieToCustomerThrowsIfMovieExists() {
-        Customer customer = new Customer(1L, "testName", "test@example.com", "password", 20220292232L);
-        Movie movie = new Movie(1L, "testName", 230.00, 9.00);
-
-        when(customerDao.getCustomer(1L)).thenReturn(Optional.of(customer));
-        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
-
-        customer.setMovies(List.of(movie));
+        when(customerDao.addMovieSubscription(1L, 2L)).thenReturn(false);
 
-        assertThatThrownBy(() -> underTest.addMovieToCustomer(customer.getCustomer_id(), movie.getMovie_id()))
+        assertThatThrownBy(() -> underTest.addMovieToCustomer(1L, 2L))
                 .isInstanceOf(ResourceAlreadyExists.class)
-                .hasMessage("Customer %s already subscribed to %s movie".formatted(customer, movie));
-
-        verify(customerDao, never()).updateCustomer(any());
+                .hasMessage("Customer 1 already subscribed to movie 2");
+        verify(leaderboard, never()).subscriptionAdded(any());
     }
 
     @Test
-    void removeMovieFromCustomerRemovesMovieFromCustomer() {
-        Customer customer = new Customer(1L, "testName", "test@example.com", "password", 20220292232L);
-        Movie movie = new Movie(1L, "testMovie", 230.00, 9.00);
+    void addMovieToCustomerTranslatesMissingCustomerOrMovie() {
+        when(customerDao.addMovieSubscription(1L, 2L)).thenThrow(new DataIntegrityViolationException(
+                "insert or update on table \"customer_movie\" violates foreign key constraint \"fk_customer_movie_movie_id\""));
 
-        when(customerDao.getCustomer(1L)).thenReturn(Optional.of(customer));
-        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
-
-        customer.addMovie(movie);
-
-        assertThat(customer.getMovies()).contains(movie);
-
-        underTest.removeMovieFromCustomer(1L, 1L);
+        assertThatThrownBy(() -> underTest.addMovieToCustomer(1L, 2L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Movie with ID 2 not found");
+    }
 
-        ArgumentCaptor<Customer> customerArgumentCaptor = ArgumentCaptor.forClass(Customer.class);
-        verify(customerDao).updateCustomer(customerArgumentCaptor.capture());
+    @Test
+    void removeMovieFromCustomerRemovesMovieFromCustomer() {
+        when(customerDao.removeMovieSubscription(1L, 2L)).thenReturn(true);
 
-        Customer updatedCustomer = customerArgumentCaptor.getValue();
+        underTest.removeMovieFromCustomer(1L, 2L);
 
-        assertThat(updatedCustomer.getMovies()).doesNotContain(movie);
+        verify(customerDao, never()).getCustomer(any());
+        verify(movieDao, never()).getMovieById(any());
+        verify(leaderboard).subscriptionRemoved(2L);
     }
 
     @Test
     void removeMovieFromCustomerThrowsResourceNotFoundExceptionNotFound() {
         Customer customer = new Customer(1L, "testName", "test@example.com", "password", 20220292232L);
-        Movie movie = new Movie(1L, "testMovie", 230.00, 9.00);
-
+        Movie movie = new Movie(2L, "testMovie", 230.00, 9.00);
+        when(customerDao.removeMovieSubscription(1L, 2L)).thenReturn(false);
         when(customerDao.getCustomer(1L)).thenReturn(Optional.of(customer));
-        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
+        when(movieDao.getMovieById(2L)).thenReturn(Optional.of(movie));
 
-        assertThat(customer.getMovies()).doesNotContain(movie);
-
-        assertThatThrownBy(() -> underTest.removeMovieFromCustomer(1L, 1L))
+        assertThatThrownBy(() -> underTest.removeMovieFromCustomer(1L, 2L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("not subscribed to");
-
-        verify(customerDao, never()).updateCustomer(customer);
     }
 
     @Test
     void removeMovieFromCustomerCustomerNotFoundThrowsResourceNotFoundException() {
+        when(customerDao.removeMovieSubscription(1L, 1L)).thenReturn(false);
         when(customerDao.getCustomer(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> underTest.removeMovieFromCustomer(1L, 1L))
@@ -417,7 +413,38 @@ class CustomerServiceImplTest {
 
     @Test
     void getAllCustomers() {
-        underTest.getAllCustomers();
-        verify(customerDao).getCustomerList();
+        CustomerSummary summary = customerSummary(1L, "ROLE_ADMIN,ROLE_USER");
+        when(customerDao.getCustomerSummaries()).thenReturn(List.of(summary));
+
+        List<CustomerDTO> customers = underTest.getAllCustomers(false);
+
+        assertThat(customers).hasSize(1);
+        assertThat(customers.get(0).roles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(customers.get(0).movies()).isEmpty();
+        verify(customerDao, never()).getCustomerList();
+        verify(movieDao, never()).getMoviesByCustomerIds(any());
+    }
+
+    @Test
+    void getAllCustomersIncludingMoviesBatchLoadsSubscriptions() {
+        CustomerSummary first = customerSummary(1L, "ROLE_USER");
+        CustomerSummary second = customerSummary(2L, null);
+        when(customerDao.getCustomerSummaries()).thenReturn(List.of(first, second));
+        when(movieDao.getMoviesByCustomerIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new CustomerMovie(1L, 7L, "testMovie", 230.00, 4.0)));
+
+        List<CustomerDTO> customers = underTest.getAllCustomers(true);
+
+        assertThat(customers.get(0).movies()).containsExactly(new Movie(7L, "testMovie", 230.00, 4.0));
+        assertThat(customers.get(1).movies()).isEmpty();
+        assertThat(customers.get(1).roles()).isEmpty();
+        verify(movieDao).getMoviesByCustomerIds(List.of(1L, 2L));
+    }
+
+    private CustomerSummary customerSummary(Long id, String roles) {
+        CustomerSummary summary = mock(CustomerSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getRoles()).thenReturn(roles);
+        return summary;
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dto.MovieLeaderboard;
+import com.naren.movieticketbookingapplication.Dto.SubscribedMovie;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieLeaderboardServiceTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Mock
+    private MovieDao movieDao;
+    private MovieLeaderboardService underTest;
+
+    @BeforeEach
+    void setUp() {
+        // serve the top two from a window of three
+        underTest = new MovieLeaderboardService(movieDao, 2, 3, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void reconcilePublishesTheTopOfEachBoard() {
+        reconcile(List.of(movie(1, 4.9), movie(2, 4.5), movie(3, 4.0)),
+                List.of(subscribed(7, 30), subscribed(8, 20), subscribed(9, 10)));
+
+        MovieLeaderboard board = underTest.snapshot();
+
+        assertThat(board.topRated()).extracting(Movie::getMovie_id).containsExactly(1L, 2L);
+        assertThat(board.mostSubscribed()).extracting(SubscribedMovie::movieId).containsExactly(7L, 8L);
+        assertThat(board.reconciledAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void savedMoviesMoveWithinTheWindowAndFallOutBelowItsFloor() {
+        reconcile(List.of(movie(1, 4.9), movie(2, 4.5), movie(3, 4.0)), List.of());
+
+        underTest.movieSaved(movie(3, 5.0));
+        assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(3L, 1L);
+
+        // below the floor of 4.0 an untracked movie may outrank it, so it leaves the board
+        underTest.movieSaved(movie(1, 3.0));
+        underTest.movieSaved(movie(4, 3.5));
+        assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(3L, 2L);
+
+        // above the floor a new movie pushes the worst one out
+        underTest.movieSaved(movie(5, 4.7));
+        underTest.movieSaved(movie(6, 4.6));
+        assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(3L, 5L);
+        underTest.movieSaved(movie(2, 4.55));
+        assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(3L, 5L);
+    }
+
+    @Test
+    void subscriptionsAdjustTrackedCountsAndRemovedMoviesLeaveBothBoards() {
+        reconcile(List.of(movie(7, 4.0)), List.of(subscribed(7, 30), subscribed(8, 30), subscribed(9, 10)));
+
+        underTest.subscriptionAdded(8L);
+        underTest.subscriptionAdded(42L);
+        assertThat(underTest.snapshot().mostSubscribed()).extracting(SubscribedMovie::subscribers)
+                .containsExactly(31L, 30L);
+
+        underTest.movieRemoved(8L);
+        underTest.movieRemoved(7L);
+        MovieLeaderboard board = underTest.snapshot();
+        assertThat(board.topRated()).isEmpty();
+        assertThat(board.mostSubscribed()).extracting(SubscribedMovie::movieId).containsExactly(9L);
+    }
+
+    @Test
+    void writesInsideATransactionShowOnlyAfterCommit() {
+        reconcile(List.of(movie(1, 4.0)), List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            underTest.movieSaved(movie(2, 4.5));
+            assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(1L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void failedReconcileKeepsTheCurrentBoards() {
+        reconcile(List.of(movie(1, 4.0)), List.of());
+        when(movieDao.getTopRatedMovies(3)).thenThrow(new IllegalStateException("database down"));
+
+        underTest.reconcile();
+        underTest.movieSaved(movie(2, 4.5));
+
+        assertThat(underTest.snapshot().topRated()).extracting(Movie::getMovie_id).containsExactly(2L, 1L);
+    }
+
+    private void reconcile(List<Movie> topRated, List<SubscribedMovie> mostSubscribed) {
+        when(movieDao.getTopRatedMovies(3)).thenReturn(topRated);
+        when(movieDao.getMostSubscribedMovies(3)).thenReturn(mostSubscribed);
+        underTest.reconcile();
+    }
+
+    private static Movie movie(long id, double rating) {
+        return new Movie(id, "Movie " + id, 100.0, rating);
+    }
+
+    private static SubscribedMovie subscribed(long id, long subscribers) {
+        return new SubscribedMovie(id, "Movie " + id, 4.0, subscribers);
+    }
+}
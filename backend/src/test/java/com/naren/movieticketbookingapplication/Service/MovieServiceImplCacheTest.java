@@ -0,0 +1,95 @@
+package com.naren.movieticketbookingapplication.Service;
+
+import com.naren.movieticketbookingapplication.Config.CacheConfig;
+import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Entity.Movie;
+import com.naren.movieticketbookingapplication.Record.MovieRegistration;
+import com.naren.movieticketbookingapplication.Record.MovieUpdation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {CacheConfig.class, MovieServiceImpl.class})
+class MovieServiceImplCacheTest {
+
+    @MockBean
+    private MovieDao movieDao;
+    @MockBean
+    private MovieLeaderboardService leaderboard;
+    @Autowired
+    private MovieService underTest;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        movie = new Movie(1L, "testName", 200.0, 4.0);
+    }
+
+    @Test
+    void getMovieByIdIsServedFromCache() {
+        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
+
+        underTest.getMovieById(1L);
+        Movie cached = underTest.getMovieById(1L);
+
+        assertThat(cached).isEqualTo(movie);
+        verify(movieDao, times(1)).getMovieById(1L);
+    }
+
+    @Test
+    void updateMovieEvictsOnlyThatMovie() {
+        Movie other = new Movie(2L, "otherName", 300.0, 3.0);
+        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
+        when(movieDao.getMovieById(2L)).thenReturn(Optional.of(other));
+
+        underTest.getMovieById(1L);
+        underTest.getMovieById(2L);
+        underTest.updateMovie(new MovieUpdation("newName", null, null), 1L);
+        underTest.getMovieById(1L);
+        underTest.getMovieById(2L);
+
+        // one load each for the first reads, one for the update itself and one reload after eviction
+        verify(movieDao, times(3)).getMovieById(1L);
+        verify(movieDao, times(1)).getMovieById(2L);
+    }
+
+    @Test
+    void removeMovieEvictsMovie() {
+        when(movieDao.getMovieById(1L)).thenReturn(Optional.of(movie));
+
+        underTest.getMovieById(1L);
+        underTest.removeMovie(1L);
+
+        assertThat(cacheManager.getCache(CacheConfig.MOVIES).get(1L)).isNull();
+    }
+
+    @Test
+    void addMovieEvictsCatalogPages() {
+        when(movieDao.getMoviesAfter(0L, 10))
+                .thenReturn(new SliceImpl<>(List.of(movie), PageRequest.ofSize(10), false));
+
+        underTest.getMoviePage(null, 10);
+        underTest.getMoviePage(null, 10);
+        verify(movieDao, times(1)).getMoviesAfter(0L, 10);
+
+        underTest.addMovie(new MovieRegistration("newMovie", 250.0, 4.5));
+        underTest.getMoviePage(null, 10);
+
+        verify(movieDao, times(2)).getMoviesAfter(0L, 10);
+    }
+}
@@ -1,10 +1,24 @@
 package com.naren.movieticketbookingapplication.Service;
 
 import com.naren.movieticketbookingapplication.Dao.MovieDao;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResponse;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieBatchResult.Status;
+import com.naren.movieticketbookingapplication.Dto.MovieCursor;
+import com.naren.movieticketbookingapplication.Dto.MoviePage;
+import com.naren.movieticketbookingapplication.Dto.MovieRecommendation;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchCursor;
+import com.naren.movieticketbookingapplication.Dto.MovieSearchResult;
+import com.naren.movieticketbookingapplication.Dto.MovieSortCursor;
+import com.naren.movieticketbookingapplication.Dto.MovieSuggestion;
 import com.naren.movieticketbookingapplication.Entity.Movie;
 import com.naren.movieticketbookingapplication.Exception.RequestValidationException;
 import com.naren.movieticketbookingapplication.Exception.ResourceAlreadyExists;
 import com.naren.movieticketbookingapplication.Exception.ResourceNotFoundException;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation;
+import com.naren.movieticketbookingapplication.Record.MovieBatchOperation.Type;
+import com.naren.movieticketbookingapplication.Record.MovieFilter;
+import com.naren.movieticketbookingapplication.Record.MovieSort;
 import com.naren.movieticketbookingapplication.Record.MovieRegistration;
 import com.naren.movieticketbookingapplication.Record.MovieUpdation;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,12 +29,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,13 +51,15 @@ class MovieServiceImplTest {
 
     @Mock
     private MovieDao movieDao;
+    @Mock
+    private MovieLeaderboardService leaderboard;
     private MovieService underTest;
 
     private static final Logger logger = LoggerFactory.getLogger(MovieServiceImplTest.class);
 
     @BeforeEach
     void setUp() {
-        underTest = new MovieServiceImpl(movieDao);
+        underTest = new MovieServiceImpl(movieDao, leaderboard);
     }
 
     @Test
@@ -55,6 +80,7 @@ class MovieServiceImplTest {
         assertThat(captured.getName()).isEqualTo(registration.name());
         assertThat(captured.getCost()).isEqualTo(registration.cost());
         assertThat(captured.getRating()).isEqualTo(registration.rating());
+        verify(leaderboard).movieSaved(captured);
     }
 
     @Test
@@ -82,6 +108,7 @@ class MovieServiceImplTest {
         underTest.removeMovie(id);
 
         verify(movieDao).removeMovie(movie);
+        verify(leaderboard).movieRemoved(movie.getMovie_id());
     }
 
     @Test
@@ -127,6 +154,185 @@ class MovieServiceImplTest {
         verify(movieDao).getMovieList();
     }
 
+    @Test
+    void getMoviePageReturnsNextCursorWhenMoreRowsExist() {
+        Movie first = new Movie(5L, "first", 200.0, 3.0);
+        Movie second = new Movie(9L, "second", 250.0, 4.0);
+
+        when(movieDao.getMoviesAfter(0L, 2))
+                .thenReturn(new SliceImpl<>(List.of(first, second), PageRequest.ofSize(2), true));
+
+        MoviePage page = underTest.getMoviePage(null, 2);
+
+        assertThat(page.movies()).containsExactly(first, second);
+        assertThat(MovieCursor.decode(page.nextCursor()).lastMovieId()).isEqualTo(9L);
+    }
+
+    @Test
+    void getMoviePageResumesFromCursor() {
+        String cursor = new MovieCursor(9L).encode();
+
+        when(movieDao.getMoviesAfter(9L, 2))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(2), false));
+
+        MoviePage page = underTest.getMoviePage(cursor, 2);
+
+        assertThat(page.movies()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getFilteredMoviePageContinuesFromLastSortValue() {
+        MovieFilter filter = new MovieFilter(4.0, null, null, 300.0);
+        Movie first = new Movie(5L, "first", 200.0, 4.8);
+        Movie second = new Movie(9L, "second", 250.0, 4.5);
+        Movie third = new Movie(2L, "third", 100.0, 4.5);
+        when(movieDao.getMoviesAfter(filter, MovieSort.RATING_DESC, Double.POSITIVE_INFINITY, Long.MAX_VALUE, 3))
+                .thenReturn(List.of(first, second, third));
+
+        MoviePage page = underTest.getMoviePage(filter, "rating,desc", null, 2);
+
+        assertThat(page.movies()).containsExactly(first, second);
+        assertThat(MovieSortCursor.decode(page.nextCursor(), MovieSort.RATING_DESC))
+                .isEqualTo(new MovieSortCursor(MovieSort.RATING_DESC, 4.5, 9L));
+    }
+
+    @Test
+    void getFilteredMoviePageRejectsCursorFromAnotherSort() {
+        String cursor = new MovieSortCursor(MovieSort.COST_ASC, 250.0, 9L).encode();
+
+        assertThatThrownBy(() -> underTest.getMoviePage(MovieFilter.NONE, "rating,desc", cursor, 2))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Invalid cursor");
+        assertThatThrownBy(() -> underTest.getMoviePage(MovieFilter.NONE, "rating", new MovieCursor(9L).encode(), 2))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void getFilteredMoviePageRejectsUnknownSortAndInvertedRange() {
+        assertThatThrownBy(() -> underTest.getMoviePage(MovieFilter.NONE, "name", null, 2))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Invalid sort");
+        assertThatThrownBy(() -> underTest.getMoviePage(new MovieFilter(4.0, 3.0, null, null), "rating", null, 2))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Minimum rating");
+
+        verifyNoInteractions(movieDao);
+    }
+
+    @Test
+    void getMoviePageThrowsOnInvalidCursor() {
+        assertThatThrownBy(() -> underTest.getMoviePage("not-a-cursor", 10))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Invalid cursor");
+
+        verify(movieDao, never()).getMoviesAfter(any(), anyInt());
+    }
+
+    @Test
+    void searchMoviesReturnsRankedPageWithCursor() {
+        when(movieDao.searchMovies("godfather", Double.MAX_VALUE, 0L, 3)).thenReturn(List.of(
+                searchResult(4L, "The Godfather", 0.9),
+                searchResult(8L, "The Godfather Part II", 0.7),
+                searchResult(2L, "Godfather of Harlem", 0.7)));
+
+        MoviePage page = underTest.searchMovies(" godfather ", null, 2);
+
+        assertThat(page.movies()).extracting(Movie::getMovie_id).containsExactly(4L, 8L);
+        assertThat(MovieSearchCursor.decode(page.nextCursor())).isEqualTo(new MovieSearchCursor(0.7, 8L));
+    }
+
+    @Test
+    void searchMoviesResumesFromCursor() {
+        String cursor = new MovieSearchCursor(0.7, 8L).encode();
+        when(movieDao.searchMovies("godfather", 0.7, 8L, 3))
+                .thenReturn(List.of(searchResult(2L, "Godfather of Harlem", 0.7)));
+
+        MoviePage page = underTest.searchMovies("godfather", cursor, 2);
+
+        assertThat(page.movies()).extracting(Movie::getMovie_id).containsExactly(2L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void searchMoviesRejectsBlankQuery() {
+        assertThatThrownBy(() -> underTest.searchMovies("  ", null, 20))
+                .isInstanceOf(RequestValidationException.class);
+
+        verify(movieDao, never()).searchMovies(anyString(), anyDouble(), anyLong(), anyInt());
+    }
+
+    @Test
+    void searchMoviesRejectsCursorFromOtherEndpoint() {
+        assertThatThrownBy(() -> underTest.searchMovies("godfather", new MovieCursor(9L).encode(), 20))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void autocompleteMovies() {
+        List<MovieSuggestion> suggestions = List.of(new MovieSuggestion(4L, "The Godfather", 4.9));
+        when(movieDao.completeMovieNames("godf", 5)).thenReturn(suggestions);
+
+        assertThat(underTest.autocompleteMovies("godf", 5)).isEqualTo(suggestions);
+    }
+
+    @Test
+    void autocompleteMoviesRejectsBlankPrefixAndOversizedLimit() {
+        assertThatThrownBy(() -> underTest.autocompleteMovies(" ", 5))
+                .isInstanceOf(RequestValidationException.class);
+        assertThatThrownBy(() -> underTest.autocompleteMovies("godf", 11))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Limit must be between 1 and 10");
+
+        verifyNoInteractions(movieDao);
+    }
+
+    @Test
+    void getRecommendationsRejectsLimitOutsideRange() {
+        List<MovieRecommendation> recommendations = List.of(new MovieRecommendation(2L, "Heat", 4.6, 12, 0.4));
+        when(movieDao.getRecommendedMovies(1L, 20)).thenReturn(recommendations);
+
+        assertThat(underTest.getRecommendations(1L, 20)).isEqualTo(recommendations);
+        assertThatThrownBy(() -> underTest.getRecommendations(1L, 21))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Limit must be between 1 and 20");
+        assertThatThrownBy(() -> underTest.getRecommendations(1L, 0))
+                .isInstanceOf(RequestValidationException.class);
+    }
+
+    private static MovieSearchResult searchResult(Long id, String name, double score) {
+        return new MovieSearchResult() {
+            public Long getMovieId() {
+                return id;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public Double getCost() {
+                return 250.0;
+            }
+
+            public Double getRating() {
+                return 4.0;
+            }
+
+            public Double getScore() {
+                return score;
+            }
+        };
+    }
+
+    @Test
+    void getMoviePageThrowsOnInvalidSize() {
+        assertThatThrownBy(() -> underTest.getMoviePage(null, 0))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Page size must be between 1 and 1000");
+    }
+
     @Test
     void updateMovie() {
         long id = 2;
@@ -179,4 +385,85 @@ class MovieServiceImplTest {
 
         verify(movieDao, never()).updateMovie(any());
     }
+
+    @Test
+    void applyBatchReportsPerItemResults() {
+        Movie existing = new Movie(1L, "Existing", 200.0, 2.0);
+        when(movieDao.getMoviesByIds(anyCollection())).thenReturn(List.of(existing));
+        when(movieDao.getMoviesByNames(anyCollection())).thenReturn(List.of(existing));
+        doAnswer(invocation -> {
+            Collection<Movie> inserts = invocation.getArgument(2);
+            inserts.forEach(movie -> movie.setMovie_id(51L));
+            return null;
+        }).when(movieDao).writeBatch(anyCollection(), anyCollection(), anyCollection());
+
+        MovieBatchResponse response = underTest.applyBatch(List.of(
+                new MovieBatchOperation(Type.CREATE, null, "Fresh", 100.0, 4.0),
+                new MovieBatchOperation(Type.CREATE, null, "Existing", 100.0, 4.0),
+                new MovieBatchOperation(Type.UPDATE, 1L, null, 250.0, null),
+                new MovieBatchOperation(Type.DELETE, 99L, null, null, null),
+                new MovieBatchOperation(Type.CREATE, null, null, 100.0, 4.0)));
+
+        assertThat(response.results()).extracting(MovieBatchResult::status)
+                .containsExactly(Status.CREATED, Status.CONFLICT, Status.UPDATED, Status.NOT_FOUND, Status.INVALID);
+        assertThat(response.results().get(0).movieId()).isEqualTo(51L);
+        assertThat(response.applied()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(3);
+        ArgumentCaptor<Collection<Movie>> updates = ArgumentCaptor.forClass(Collection.class);
+        verify(movieDao).writeBatch(anyCollection(), updates.capture(), anyCollection());
+        assertThat(updates.getValue()).containsExactly(new Movie(1L, "Existing", 250.0, 2.0));
+        // the loaded (managed) entity is left alone so its change cannot be flushed ahead of the deletes
+        assertThat(existing.getCost()).isEqualTo(200.0);
+        verify(movieDao).getMoviesByIds(Set.of(1L, 99L));
+        verify(movieDao).getMoviesByNames(Set.of("Fresh", "Existing"));
+    }
+
+    @Test
+    void applyBatchLetsLaterOperationsReuseNamesFreedByDeletesAndRenames() {
+        Movie deleted = new Movie(1L, "Deleted", 200.0, 2.0);
+        Movie renamed = new Movie(2L, "Renamed", 200.0, 2.0);
+        when(movieDao.getMoviesByIds(anyCollection())).thenReturn(List.of(deleted, renamed));
+        when(movieDao.getMoviesByNames(anyCollection())).thenReturn(List.of(deleted));
+
+        MovieBatchResponse response = underTest.applyBatch(List.of(
+                new MovieBatchOperation(Type.DELETE, 1L, null, null, null),
+                new MovieBatchOperation(Type.UPDATE, 2L, "Deleted", null, null),
+                new MovieBatchOperation(Type.CREATE, null, "Renamed", 100.0, 4.0)));
+
+        assertThat(response.results()).extracting(MovieBatchResult::status)
+                .containsExactly(Status.DELETED, Status.UPDATED, Status.CREATED);
+        ArgumentCaptor<Collection<Movie>> deletes = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<Movie>> updates = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<Movie>> inserts = ArgumentCaptor.forClass(Collection.class);
+        verify(movieDao).writeBatch(deletes.capture(), updates.capture(), inserts.capture());
+        assertThat(deletes.getValue()).containsExactly(deleted);
+        assertThat(updates.getValue()).containsExactly(new Movie(2L, "Deleted", 200.0, 2.0));
+        assertThat(renamed.getName()).isEqualTo("Renamed");
+        assertThat(inserts.getValue()).extracting(Movie::getName).containsExactly("Renamed");
+    }
+
+    @Test
+    void applyBatchRejectsRenameOntoNameVacatedByAnotherUpdate() {
+        Movie first = new Movie(1L, "First", 200.0, 2.0);
+        Movie second = new Movie(2L, "Second", 200.0, 2.0);
+        when(movieDao.getMoviesByIds(anyCollection())).thenReturn(List.of(first, second));
+        when(movieDao.getMoviesByNames(anyCollection())).thenReturn(List.of(first, second));
+
+        MovieBatchResponse response = underTest.applyBatch(List.of(
+                new MovieBatchOperation(Type.UPDATE, 1L, "Third", null, null),
+                new MovieBatchOperation(Type.UPDATE, 2L, "First", null, null)));
+
+        assertThat(response.results()).extracting(MovieBatchResult::status)
+                .containsExactly(Status.UPDATED, Status.CONFLICT);
+        assertThat(second.getName()).isEqualTo("Second");
+    }
+
+    @Test
+    void applyBatchThrowsOnEmptyBatch() {
+        assertThatThrownBy(() -> underTest.applyBatch(List.of()))
+                .isInstanceOf(RequestValidationException.class)
+                .hasMessageContaining("Batch must contain between 1 and");
+
+        verifyNoInteractions(movieDao);
+    }
 }
@@ -0,0 +1,110 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import com.naren.movieticketbookingapplication.Util.CoSubscriptionIndex.Neighbour;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class CoSubscriptionIndexTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    void ranksNeighboursByCosineSimilarity() {
+        CoSubscriptionIndex index = CoSubscriptionIndex.builder(100)
+                .add(1, 10).add(1, 20).add(1, 30)
+                .add(2, 10).add(2, 20)
+                .add(3, 10).add(3, 30).add(3, 40)
+                .add(4, 40)
+                .build(POOL, 10);
+
+        // 10 has 3 subscribers; 20 has 2 (both shared), 30 has 2 (both shared), 40 has 2 (one shared)
+        assertThat(index.neighbours(10, 10)).containsExactly(
+                new Neighbour(20, 2, (float) (2 / Math.sqrt(6))),
+                new Neighbour(30, 2, (float) (2 / Math.sqrt(6))),
+                new Neighbour(40, 1, (float) (1 / Math.sqrt(6))));
+        assertThat(index.neighbours(40, 10)).extracting(Neighbour::movieId).containsExactly(30L, 10L);
+        assertThat(index.neighbours(10, 1)).extracting(Neighbour::movieId).containsExactly(20L);
+        assertThat(index.neighbours(99, 10)).isEmpty();
+        assertThat(index.movies()).isEqualTo(4);
+    }
+
+    @Test
+    void oversizedBasketsCountAsSubscribersButAddNoPairs() {
+        CoSubscriptionIndex index = CoSubscriptionIndex.builder(2)
+                .add(1, 10).add(1, 20)
+                .add(2, 10).add(2, 20).add(2, 30)
+                .build(POOL, 10);
+
+        assertThat(index.neighbours(10, 10)).containsExactly(new Neighbour(20, 1, 0.5f));
+        assertThat(index.neighbours(30, 10)).isEmpty();
+    }
+
+    @Test
+    void rejectsSubscriptionsOutOfCustomerOrder() {
+        CoSubscriptionIndex.Builder builder = CoSubscriptionIndex.builder(10).add(2, 10);
+
+        assertThatThrownBy(() -> builder.add(1, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Subscriptions must be added in customer order");
+    }
+
+    @Test
+    void matchesABruteForceCountAcrossForkJoinSplits() {
+        Random random = new Random(7);
+        Map<Long, Set<Long>> subscribersByMovie = new HashMap<>();
+        CoSubscriptionIndex.Builder builder = CoSubscriptionIndex.builder(1_000);
+        List<Set<Long>> baskets = new ArrayList<>();
+        for (long customer = 1; customer <= 2_000; customer++) {
+            Set<Long> basket = new TreeSet<>();
+            for (int i = random.nextInt(8); i >= 0; i--) {
+                basket.add(1L + (long) Math.sqrt(random.nextInt(250_000)));
+            }
+            for (long movie : basket) {
+                builder.add(customer, movie);
+                subscribersByMovie.computeIfAbsent(movie, m -> new HashSet<>()).add(customer);
+            }
+            baskets.add(basket);
+        }
+
+        CoSubscriptionIndex index = builder.build(POOL, 5);
+
+        for (long movie : subscribersByMovie.keySet()) {
+            Map<Long, Integer> common = new HashMap<>();
+            for (Set<Long> basket : baskets) {
+                if (basket.contains(movie)) {
+                    basket.stream().filter(other -> other != movie).forEach(other -> common.merge(other, 1, Integer::sum));
+                }
+            }
+            List<Neighbour> expected = common.entrySet().stream()
+                    .map(e -> new Neighbour(e.getKey(), e.getValue(), (float) (e.getValue() / Math.sqrt(
+                            (double) subscribersByMovie.get(movie).size() * subscribersByMovie.get(e.getKey()).size()))))
+                    .sorted(Comparator.comparingDouble(Neighbour::score).reversed()
+                            .thenComparing(Comparator.comparingInt(Neighbour::commonSubscribers).reversed())
+                            .thenComparingLong(Neighbour::movieId))
+                    .limit(5)
+                    .toList();
+
+            List<Neighbour> actual = index.neighbours(movie, 5);
+            assertThat(actual).as("movie %d", movie).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).movieId()).isEqualTo(expected.get(i).movieId());
+                assertThat(actual.get(i).commonSubscribers()).isEqualTo(expected.get(i).commonSubscribers());
+                assertThat(actual.get(i).score()).isCloseTo(expected.get(i).score(), within(1e-6));
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.naren.movieticketbookingapplication.Util;
+
+import com.naren.movieticketbookingapplication.Util.PrefixIndex.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    @Test
+    void completesFromTheStartOfAnyWordBestScoreFirst() {
+        PrefixIndex index = new PrefixIndex(10);
+        index.put(1, "The Dark Knight", 4.9);
+        index.put(2, "Dark City", 4.1);
+        index.put(3, "Darkman", 3.2);
+        index.put(4, "Heat", 4.5);
+
+        assertThat(index.complete("dar", 10)).extracting(Match::id).containsExactly(1L, 2L, 3L);
+        assertThat(index.complete("dark k", 10)).extracting(Match::id).containsExactly(1L);
+        assertThat(index.complete("the", 10)).extracting(Match::text).containsExactly("The Dark Knight");
+        assertThat(index.complete("knights", 10)).isEmpty();
+    }
+
+    @Test
+    void normalisesCaseAccentsAndPunctuation() {
+        PrefixIndex index = new PrefixIndex(10);
+        index.put(1, "Amélie", 4.0);
+        index.put(2, "Schindler's List", 4.8);
+        index.put(3, "Spider-Man: No Way Home", 3.9);
+
+        assertThat(index.complete("AME", 10)).extracting(Match::id).containsExactly(1L);
+        assertThat(index.complete("schindlers", 10)).extracting(Match::id).containsExactly(2L);
+        assertThat(index.complete("spider man no", 10)).extracting(Match::id).containsExactly(3L);
+        assertThat(PrefixIndex.normalize("  Spider-Man:  No Way ")).isEqualTo("spider man no way");
+    }
+
+    @Test
+    void listsATitleOnceWhenSeveralOfItsWordsMatch() {
+        PrefixIndex index = new PrefixIndex(2);
+        index.put(1, "Tora! Tora! Tora!", 3.0);
+        index.put(2, "Tokyo Story", 4.0);
+        index.put(3, "Toy Story", 4.5);
+
+        assertThat(index.complete("to", 5)).extracting(Match::id).containsExactly(3L, 2L);
+        assertThat(index.complete("tor", 5)).extracting(Match::id).containsExactly(1L);
+    }
+
+    @Test
+    void putReplacesAndRemoveForgetsPreviousName() {
+        PrefixIndex index = new PrefixIndex(10);
+        index.put(1, "Alien", 4.0);
+        index.put(1, "Aliens", 4.2);
+        index.put(2, "Alien 3", 2.9);
+
+        assertThat(index.complete("alien", 10)).extracting(Match::text).containsExactly("Aliens", "Alien 3");
+        assertThat(index.remove(1)).isTrue();
+        assertThat(index.remove(1)).isFalse();
+        assertThat(index.complete("alien", 10)).extracting(Match::text).containsExactly("Alien 3");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsTopKInStepWithABruteForceScanUnderRandomChanges() {
+        Random random = new Random(42);
+        String[] words = {"star", "stark", "start", "war", "wars", "ward", "night", "knight", "nightmare", "the"};
+        PrefixIndex index = new PrefixIndex(5);
+        List<Match> expected = new ArrayList<>();
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextInt(300);
+            expected.removeIf(match -> match.id() == id);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+            } else {
+                String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                double score = random.nextInt(50) / 10.0;
+                index.put(id, text, score);
+                expected.add(new Match(id, text, score));
+            }
+        }
+
+        for (String prefix : new String[]{"s", "sta", "star", "start", "w", "war", "n", "k", "the n", "x"}) {
+            List<Match> brute = expected.stream()
+                    .filter(match -> (" " + match.text()).contains(" " + prefix))
+                    .sorted(Comparator.comparingDouble(Match::score).reversed().thenComparingLong(Match::id))
+                    .limit(5)
+                    .toList();
+            assertThat(index.complete(prefix, 5)).as(prefix).isEqualTo(brute);
+        }
+        assertThat(index.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void emptyIndexCompletesNothing() {
+        PrefixIndex index = new PrefixIndex(10);
+
+        assertThat(index.complete("a", 10)).isEmpty();
+        assertThat(index.nodeCount()).isEqualTo(1);
+        assertThat(index.sizeInBytes()).isPositive();
+    }
+}
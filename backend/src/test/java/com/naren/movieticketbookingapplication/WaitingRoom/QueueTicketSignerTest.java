@@ -0,0 +1,38 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueTicketSignerTest {
+
+    private final Instant now = Instant.parse("2030-01-01T00:00:00Z");
+    private final QueueTicketSigner underTest =
+            new QueueTicketSigner("secret", Duration.ofHours(2), Clock.fixed(now, ZoneOffset.UTC));
+
+    @Test
+    void roundTripsSignedTickets() {
+        QueueTicket ticket = new QueueTicket(42, "jane@example.com", now);
+
+        assertThat(underTest.verify(underTest.sign(ticket))).contains(ticket);
+    }
+
+    @Test
+    void rejectsTamperedForeignAndExpiredTickets() {
+        String signed = underTest.sign(new QueueTicket(42, "jane@example.com", now));
+        String forged = underTest.sign(new QueueTicket(1, "jane@example.com", now));
+        String tampered = forged.substring(0, forged.indexOf('.')) + signed.substring(signed.indexOf('.'));
+        QueueTicketSigner otherNode = new QueueTicketSigner("other", Duration.ofHours(2), Clock.fixed(now, ZoneOffset.UTC));
+
+        assertThat(underTest.verify(tampered)).isEmpty();
+        assertThat(otherNode.verify(signed)).isEmpty();
+        assertThat(underTest.verify("garbage")).isEmpty();
+        assertThat(underTest.verify(underTest.sign(new QueueTicket(42, "jane@example.com", now.minus(Duration.ofHours(3))))))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.naren.movieticketbookingapplication.WaitingRoom;
+
+import com.naren.movieticketbookingapplication.WaitingRoom.WaitingRoom.Admission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitingRoomTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"));
+    private final QueueTicketSigner signer = new QueueTicketSigner("secret", Duration.ofHours(2), clock);
+
+    private WaitingRoom room(int maxSessions, double rate, double burst) {
+        return new WaitingRoom(new InMemoryWaitingRoomCoordinator(), signer, new SimpleMeterRegistry(), true,
+                maxSessions, Duration.ofMinutes(10), rate, burst, clock);
+    }
+
+    @Test
+    void admitsImmediatelyWhileTheBucketHasTokens() {
+        WaitingRoom underTest = room(10, 1, 2);
+
+        Admission first = underTest.admit("a", null);
+        Admission second = underTest.admit("b", null);
+        Admission third = underTest.admit("c", null);
+
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.admitted()).isTrue();
+        assertThat(third.admitted()).isFalse();
+        assertThat(third.position()).isEqualTo(1);
+        assertThat(underTest.admit("a", first.ticket()).admitted()).isTrue();
+    }
+
+    @Test
+    void admitsQueuedTicketsInOrderAtTheConfiguredRate() {
+        WaitingRoom underTest = room(10, 2, 1);
+        underTest.admit("first", null);
+        Admission a = underTest.admit("a", null);
+        Admission b = underTest.admit("b", null);
+        Admission c = underTest.admit("c", null);
+        assertThat(c.position()).isEqualTo(3);
+        assertThat(c.estimatedWait()).isEqualTo(Duration.ofSeconds(2));
+
+        clock.advance(Duration.ofMillis(500));
+        underTest.admitNext();
+
+        assertThat(underTest.admit("a", a.ticket()).admitted()).isTrue();
+        assertThat(underTest.admit("b", b.ticket()).admitted()).isFalse();
+        assertThat(underTest.admit("c", c.ticket()).position()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsAdmittingWhileSessionsAreFull() {
+        WaitingRoom underTest = room(1, 100, 100);
+        underTest.admit("a", null);
+        Admission b = underTest.admit("b", null);
+
+        clock.advance(Duration.ofSeconds(1));
+        underTest.admitNext();
+        assertThat(underTest.admit("b", b.ticket()).admitted()).isFalse();
+
+        clock.advance(Duration.ofMinutes(10));
+        underTest.admitNext();
+        assertThat(underTest.admit("b", b.ticket()).admitted()).isTrue();
+    }
+
+    @Test
+    void endingASessionFreesItsSlotForTheNextTicket() {
+        WaitingRoom underTest = room(1, 100, 100);
+        Admission a = underTest.admit("a", null);
+        Admission b = underTest.admit("b", null);
+        clock.advance(Duration.ofSeconds(1));
+        underTest.admitNext();
+
+        underTest.endSession("b", a.ticket());
+        underTest.admitNext();
+        assertThat(underTest.admit("b", b.ticket()).admitted()).isFalse();
+
+        underTest.endSession("a", a.ticket());
+        underTest.admitNext();
+        assertThat(underTest.admit("b", b.ticket()).admitted()).isTrue();
+    }
+
+    @Test
+    void aTicketWhoseBookingCompletedQueuesAgain() {
+        WaitingRoom underTest = room(10, 1, 1);
+        Admission first = underTest.admit("a", null);
+        underTest.endSession("a", first.ticket());
+
+        Admission again = underTest.admit("a", first.ticket());
+
+        assertThat(again.admitted()).isFalse();
+        assertThat(again.ticket()).isNotEqualTo(first.ticket());
+        assertThat(again.position()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        underTest.admitNext();
+        assertThat(underTest.admit("a", first.ticket()).admitted()).isFalse();
+        assertThat(underTest.admit("a", again.ticket()).admitted()).isTrue();
+    }
+
+    @Test
+    void ticketsAreBoundToTheirSubject() {
+        WaitingRoom underTest = room(10, 1, 1);
+        Admission a = underTest.admit("a", null);
+
+        Admission stolen = underTest.admit("b", a.ticket());
+
+        assertThat(stolen.admitted()).isFalse();
+        assertThat(stolen.ticket()).isNotEqualTo(a.ticket());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.naren.movieticketbookingapplication.Entity.Role;
+import com.naren.movieticketbookingapplication.Service.CustomerUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final JwtTokenVerifier tokenVerifier =
+            new JwtTokenVerifier(jwtUtil, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    @Mock
+    private CustomerUserDetailsService userDetailsService;
+    @Mock
+    private SubjectRevocationCheck revocationCheck;
+    @Mock
+    private FilterChain filterChain;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        String token = jwtUtil.issueToken("test@example.com", 1L, Set.of(new Role("ROLE_USER")));
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsModeAuthenticatesWithoutLoadingCustomer() throws Exception {
+        JwtAuthFilter underTest = new JwtAuthFilter(tokenVerifier, userDetailsService, revocationCheck, JwtAuthMode.CLAIMS);
+        when(revocationCheck.isActive("test@example.com")).thenReturn(true);
+
+        underTest.doFilter(request, response, filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(authentication.getPrincipal())
+                .isInstanceOfSatisfying(ClaimsPrincipal.class, p -> assertThat(p.getCustomerId()).isEqualTo(1L));
+        verify(userDetailsService, never()).loadUserByUsername(any());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void claimsModeRejectsRevokedSubject() throws Exception {
+        JwtAuthFilter underTest = new JwtAuthFilter(tokenVerifier, userDetailsService, revocationCheck, JwtAuthMode.CLAIMS);
+        when(revocationCheck.isActive("test@example.com")).thenReturn(false);
+
+        underTest.doFilter(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void invalidTokenContinuesUnauthenticated() throws Exception {
+        JwtAuthFilter underTest = new JwtAuthFilter(tokenVerifier, userDetailsService, revocationCheck, JwtAuthMode.CLAIMS);
+        MockHttpServletRequest tampered = new MockHttpServletRequest();
+        tampered.addHeader("Authorization", "Bearer not.a.token");
+
+        underTest.doFilter(tampered, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(tampered, response);
+    }
+
+    @Test
+    void databaseModeLoadsCustomer() throws Exception {
+        JwtAuthFilter underTest = new JwtAuthFilter(tokenVerifier, userDetailsService, revocationCheck, JwtAuthMode.DATABASE);
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(
+                org.springframework.security.core.userdetails.User.withUsername("test@example.com")
+                        .password("password")
+                        .authorities("ROLE_USER")
+                        .build());
+
+        underTest.doFilter(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("test@example.com");
+        verify(revocationCheck, never()).isActive(any());
+    }
+}
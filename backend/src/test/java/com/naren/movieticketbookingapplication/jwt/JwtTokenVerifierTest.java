@@ -0,0 +1,56 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.naren.movieticketbookingapplication.Entity.Role;
+import com.naren.movieticketbookingapplication.jwt.JwtTokenVerifier.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtTokenVerifierTest {
+
+    private JwtUtil jwtUtil;
+    private JwtTokenVerifier underTest;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil());
+        underTest = new JwtTokenVerifier(jwtUtil, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void verifyParsesOnceAndServesRepeatsFromCache() {
+        String token = jwtUtil.issueToken("test@example.com", Set.of(new Role("ROLE_USER")));
+
+        Optional<VerifiedToken> first = underTest.verify(token);
+        Optional<VerifiedToken> second = underTest.verify(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().subject()).isEqualTo("test@example.com");
+        assertThat(first.get().roles()).containsExactly("ROLE_USER");
+        assertThat(first.get().expiresAt()).isAfter(Instant.now());
+        assertThat(second).isEqualTo(first);
+        verify(jwtUtil, times(1)).getClaims(anyString());
+    }
+
+    @Test
+    void verifyRejectsTamperedToken() {
+        String token = jwtUtil.issueToken("test@example.com", Set.of(new Role("ROLE_USER")));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(underTest.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    void verifyRejectsGarbage() {
+        assertThat(underTest.verify("garbage")).isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package com.naren.movieticketbookingapplication.jwt;
+
+import com.naren.movieticketbookingapplication.Entity.Role;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private final JwtUtil underTest = new JwtUtil();
+
+    @Test
+    void issueTokenEmbedsRoleNames() {
+        String token = underTest.issueToken("test@example.com",
+                Set.of(new Role("ROLE_USER"), new Role("ROLE_ADMIN")));
+
+        assertThat(underTest.getSubject(token)).isEqualTo("test@example.com");
+        assertThat(underTest.getRoles(token)).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(underTest.isTokenValid(token, "test@example.com")).isTrue();
+    }
+
+    @Test
+    void issueTokenEmbedsCustomerId() {
+        String withId = underTest.issueToken("test@example.com", 42L, Set.of(new Role("ROLE_USER")));
+        String withoutId = underTest.issueToken("test@example.com", Set.of(new Role("ROLE_USER")));
+
+        assertThat(JwtUtil.getCustomerId(underTest.getClaims(withId))).isEqualTo(42L);
+        assertThat(JwtUtil.getCustomerId(underTest.getClaims(withoutId))).isNull();
+    }
+
+    @Test
+    void getRolesReadsLegacySerializedRoles() {
+        String token = underTest.issueToken("test@example.com",
+                Map.of("roles", List.of(Map.of("id", 1, "name", "ROLE_USER"))));
+
+        assertThat(underTest.getRoles(token)).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void isTokenValidRejectsOtherSubject() {
+        String token = underTest.issueToken("test@example.com", Set.of(new Role("ROLE_USER")));
+
+        assertThat(underTest.isTokenValid(token, "other@example.com")).isFalse();
+    }
+}